@@ -0,0 +1,122 @@
+package com.tbs.benchmark;
+
+import com.tbs.dto.common.BoardState;
+import com.tbs.enums.BoardSize;
+import com.tbs.enums.GameStatus;
+import com.tbs.enums.GameType;
+import com.tbs.enums.PlayerSymbol;
+import com.tbs.model.Game;
+import com.tbs.model.Move;
+import com.tbs.model.User;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class BoardFixtures {
+
+    public enum Position {
+        OPENING,
+        MID_GAME,
+        ANTI_DIAGONAL_WIN,
+        FULL_BOARD_DRAW
+    }
+
+    private BoardFixtures() {
+    }
+
+    public static Game game(int boardSize) {
+        User player1 = new User();
+        player1.setId(1L);
+        player1.setUsername("player1");
+
+        User player2 = new User();
+        player2.setId(2L);
+        player2.setUsername("player2");
+
+        Game game = new Game();
+        game.setId(1L);
+        game.setGameType(GameType.PVP);
+        game.setBoardSize(BoardSize.fromValue(boardSize));
+        game.setPlayer1(player1);
+        game.setPlayer2(player2);
+        game.setStatus(GameStatus.IN_PROGRESS);
+        game.setCurrentPlayerSymbol(PlayerSymbol.X);
+        return game;
+    }
+
+    public static List<Move> moves(int boardSize, Position position) {
+        return switch (position) {
+            case OPENING -> drawSequence(boardSize).subList(0, 2);
+            case MID_GAME -> drawSequence(boardSize).subList(0, boardSize * boardSize / 2);
+            case ANTI_DIAGONAL_WIN -> antiDiagonalWinSequence(boardSize);
+            case FULL_BOARD_DRAW -> drawSequence(boardSize);
+        };
+    }
+
+    public static BoardState boardState(int boardSize, Position position) {
+        String[][] cells = new String[boardSize][boardSize];
+        for (Move move : moves(boardSize, position)) {
+            cells[move.getRow()][move.getCol()] = move.getPlayerSymbol().getValue();
+        }
+        return new BoardState(cells);
+    }
+
+    public static PlayerSymbol symbolToMove(int boardSize, Position position) {
+        return moves(boardSize, position).size() % 2 == 0 ? PlayerSymbol.X : PlayerSymbol.O;
+    }
+
+    /**
+     * Full board without a winning line for any size >= 3, played in alternating X/O order.
+     * Cell (r, c) belongs to X when (c + 2r) mod 4 is 0 or 1, which breaks every row, column and diagonal.
+     */
+    private static List<Move> drawSequence(int boardSize) {
+        List<int[]> xCells = new ArrayList<>();
+        List<int[]> oCells = new ArrayList<>();
+        for (int row = 0; row < boardSize; row++) {
+            for (int col = 0; col < boardSize; col++) {
+                if ((col + 2 * row) % 4 < 2) {
+                    xCells.add(new int[]{row, col});
+                } else {
+                    oCells.add(new int[]{row, col});
+                }
+            }
+        }
+        return interleave(xCells, oCells);
+    }
+
+    private static List<Move> antiDiagonalWinSequence(int boardSize) {
+        List<int[]> xCells = new ArrayList<>();
+        List<int[]> oCells = new ArrayList<>();
+        for (int i = 0; i < boardSize; i++) {
+            xCells.add(new int[]{i, boardSize - 1 - i});
+        }
+        for (int col = 1; col < boardSize; col++) {
+            oCells.add(new int[]{boardSize - 1, col});
+        }
+        return interleave(xCells, oCells);
+    }
+
+    private static List<Move> interleave(List<int[]> xCells, List<int[]> oCells) {
+        List<Move> moves = new ArrayList<>(xCells.size() + oCells.size());
+        int xIndex = 0;
+        int oIndex = 0;
+        while (xIndex < xCells.size() || oIndex < oCells.size()) {
+            if (xIndex < xCells.size()) {
+                moves.add(move(xCells.get(xIndex++), PlayerSymbol.X, moves.size() + 1));
+            }
+            if (oIndex < oCells.size()) {
+                moves.add(move(oCells.get(oIndex++), PlayerSymbol.O, moves.size() + 1));
+            }
+        }
+        return moves;
+    }
+
+    private static Move move(int[] cell, PlayerSymbol symbol, int moveOrder) {
+        Move move = new Move();
+        move.setRow((short) cell[0]);
+        move.setCol((short) cell[1]);
+        move.setPlayerSymbol(symbol);
+        move.setMoveOrder((short) moveOrder);
+        return move;
+    }
+}
@@ -0,0 +1,51 @@
+package com.tbs.benchmark;
+
+import com.tbs.dto.common.BoardState;
+import com.tbs.model.Game;
+import com.tbs.model.Move;
+import com.tbs.service.BoardStateService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardStateBenchmark {
+
+    @Param({"3", "4", "5"})
+    private int boardSize;
+
+    @Param({"OPENING", "MID_GAME", "FULL_BOARD_DRAW"})
+    private BoardFixtures.Position position;
+
+    private BoardStateService boardStateService;
+    private Game game;
+    private List<Move> moves;
+
+    @Setup
+    public void setUp() {
+        boardStateService = new BoardStateService();
+        game = BoardFixtures.game(boardSize);
+        moves = List.copyOf(BoardFixtures.moves(boardSize, position));
+    }
+
+    @Benchmark
+    public BoardState generateBoardState() {
+        return boardStateService.generateBoardState(game, moves);
+    }
+}
@@ -0,0 +1,57 @@
+package com.tbs.benchmark;
+
+import com.tbs.dto.common.BoardState;
+import com.tbs.enums.BotDifficulty;
+import com.tbs.enums.PlayerSymbol;
+import com.tbs.model.Game;
+import com.tbs.service.BotService;
+import com.tbs.service.GameLogicService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BotMoveBenchmark {
+
+    @Param({"EASY", "MEDIUM", "HARD"})
+    private BotDifficulty difficulty;
+
+    @Param({"3", "4", "5"})
+    private int boardSize;
+
+    @Param({"OPENING", "MID_GAME"})
+    private BoardFixtures.Position position;
+
+    private BotService botService;
+    private Game game;
+    private BoardState boardState;
+    private PlayerSymbol botSymbol;
+
+    @Setup
+    public void setUp() {
+        botService = new BotService(new GameLogicService());
+        game = BoardFixtures.game(boardSize);
+        boardState = BoardFixtures.boardState(boardSize, position);
+        botSymbol = BoardFixtures.symbolToMove(boardSize, position);
+    }
+
+    @Benchmark
+    public BotService.BotMovePosition generateBotMove() {
+        return botService.generateBotMove(boardState, difficulty, botSymbol, boardSize, game);
+    }
+}
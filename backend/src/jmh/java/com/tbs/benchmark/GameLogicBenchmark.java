@@ -0,0 +1,55 @@
+package com.tbs.benchmark;
+
+import com.tbs.dto.common.BoardState;
+import com.tbs.enums.PlayerSymbol;
+import com.tbs.model.Game;
+import com.tbs.service.GameLogicService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameLogicBenchmark {
+
+    @Param({"3", "4", "5"})
+    private int boardSize;
+
+    @Param({"MID_GAME", "ANTI_DIAGONAL_WIN", "FULL_BOARD_DRAW"})
+    private BoardFixtures.Position position;
+
+    private GameLogicService gameLogicService;
+    private Game game;
+    private BoardState boardState;
+
+    @Setup
+    public void setUp() {
+        gameLogicService = new GameLogicService();
+        game = BoardFixtures.game(boardSize);
+        boardState = BoardFixtures.boardState(boardSize, position);
+    }
+
+    @Benchmark
+    public boolean checkWinCondition() {
+        return gameLogicService.checkWinCondition(game, boardState, PlayerSymbol.X);
+    }
+
+    @Benchmark
+    public boolean checkDrawCondition() {
+        return gameLogicService.checkDrawCondition(game, boardState);
+    }
+}
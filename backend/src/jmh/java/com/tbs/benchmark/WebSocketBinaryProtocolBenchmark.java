@@ -0,0 +1,91 @@
+package com.tbs.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tbs.dto.websocket.BaseWebSocketMessage;
+import com.tbs.dto.websocket.MoveMessage;
+import com.tbs.dto.websocket.OpponentMoveMessage;
+import com.tbs.enums.PlayerSymbol;
+import com.tbs.websocket.BinaryFrameCodec;
+import com.tbs.websocket.InboundMessageDecoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WebSocketBinaryProtocolBenchmark {
+
+    private ObjectMapper objectMapper;
+    private InboundMessageDecoder inboundMessageDecoder;
+    private OpponentMoveMessage opponentMoveMessage;
+    private String moveJson;
+    private byte[] moveFrame;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        inboundMessageDecoder = new InboundMessageDecoder(objectMapper);
+
+        opponentMoveMessage = new OpponentMoveMessage(
+                new OpponentMoveMessage.OpponentMovePayload(
+                        1,
+                        1,
+                        PlayerSymbol.O,
+                        null,
+                        PlayerSymbol.X,
+                        Instant.parse("2025-01-01T12:00:20Z"),
+                        6,
+                        "9f3a1c27"
+                )
+        );
+
+        MoveMessage moveMessage = new MoveMessage(new MoveMessage.MovePayload(2, 3, PlayerSymbol.X));
+        moveJson = objectMapper.writeValueAsString(moveMessage);
+        ByteBuffer frame = BinaryFrameCodec.encode(moveMessage);
+        moveFrame = new byte[frame.remaining()];
+        frame.get(moveFrame);
+    }
+
+    @Benchmark
+    public String encodeOpponentMoveJson() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(opponentMoveMessage);
+    }
+
+    @Benchmark
+    public ByteBuffer encodeOpponentMoveBinary() {
+        return BinaryFrameCodec.encode(opponentMoveMessage);
+    }
+
+    @Benchmark
+    public BaseWebSocketMessage decodeMoveJson() throws JsonProcessingException {
+        return objectMapper.treeToValue(objectMapper.readTree(moveJson), MoveMessage.class);
+    }
+
+    @Benchmark
+    public BaseWebSocketMessage decodeMoveStreamingJson() throws IOException {
+        return inboundMessageDecoder.decode(moveJson);
+    }
+
+    @Benchmark
+    public BaseWebSocketMessage decodeMoveBinary() {
+        return BinaryFrameCodec.decode(ByteBuffer.wrap(moveFrame));
+    }
+}
@@ -0,0 +1,105 @@
+package com.tbs.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tbs.dto.common.BoardState;
+import com.tbs.dto.user.WinnerInfo;
+import com.tbs.dto.websocket.GameUpdateMessage;
+import com.tbs.dto.websocket.MoveAcceptedMessage;
+import com.tbs.enums.GameStatus;
+import com.tbs.enums.PlayerSymbol;
+import com.tbs.websocket.BoardDigest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WebSocketSerializationBenchmark {
+
+    @Param({"3", "4", "5"})
+    private int boardSize;
+
+    private ObjectMapper objectMapper;
+    private GameUpdateMessage gameUpdateMessage;
+    private MoveAcceptedMessage moveAcceptedMessage;
+    private MoveAcceptedMessage moveAcceptedDeltaMessage;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        BoardState boardState = BoardFixtures.boardState(boardSize, BoardFixtures.Position.MID_GAME);
+        BoardDigest digest = BoardDigest.of(boardState);
+
+        gameUpdateMessage = new GameUpdateMessage(
+                new GameUpdateMessage.GameUpdatePayload(
+                        1L,
+                        GameStatus.IN_PROGRESS,
+                        new WinnerInfo(1L, "player1"),
+                        boardState,
+                        digest.moveSequence(),
+                        digest.boardHash()
+                )
+        );
+
+        moveAcceptedMessage = new MoveAcceptedMessage(
+                new MoveAcceptedMessage.MoveAcceptedPayload(
+                        42L,
+                        1,
+                        1,
+                        PlayerSymbol.X,
+                        boardState,
+                        PlayerSymbol.O,
+                        Instant.parse("2025-01-01T12:00:20Z"),
+                        digest.moveSequence(),
+                        digest.boardHash()
+                )
+        );
+
+        moveAcceptedDeltaMessage = new MoveAcceptedMessage(
+                new MoveAcceptedMessage.MoveAcceptedPayload(
+                        42L,
+                        1,
+                        1,
+                        PlayerSymbol.X,
+                        null,
+                        PlayerSymbol.O,
+                        Instant.parse("2025-01-01T12:00:20Z"),
+                        digest.moveSequence(),
+                        digest.boardHash()
+                )
+        );
+    }
+
+    @Benchmark
+    public String serializeGameUpdate() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(gameUpdateMessage);
+    }
+
+    @Benchmark
+    public String serializeMoveAccepted() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(moveAcceptedMessage);
+    }
+
+    @Benchmark
+    public String serializeMoveAcceptedDelta() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(moveAcceptedDeltaMessage);
+    }
+}
@@ -0,0 +1,128 @@
+package com.tbs.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tbs.dto.game.GameDetailResponse;
+import com.tbs.dto.game.GameListItem;
+import com.tbs.dto.game.GameListResponse;
+import com.tbs.dto.guest.GuestRequest;
+import com.tbs.dto.guest.GuestResponse;
+import com.tbs.dto.matchmaking.MatchmakingQueueRequest;
+import com.tbs.enums.BoardSize;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Optional;
+
+final class ApiClient {
+
+    private static final String AUTH_COOKIE = "authToken";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final URI baseUrl;
+
+    ApiClient(HttpClient httpClient, ObjectMapper objectMapper, URI baseUrl) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.baseUrl = baseUrl;
+    }
+
+    record Session(long userId, String authToken) {
+        String cookieHeader() {
+            return AUTH_COOKIE + "=" + authToken;
+        }
+    }
+
+    Session registerGuest(String ipAddress) throws IOException, InterruptedException {
+        HttpResponse<String> response = send(post("/api/v1/guests", new GuestRequest(ipAddress)).build());
+        expectSuccess(response, "guest registration");
+
+        String token = response.headers().allValues("Set-Cookie").stream()
+                .filter(cookie -> cookie.startsWith(AUTH_COOKIE + "="))
+                .map(cookie -> cookie.substring(AUTH_COOKIE.length() + 1, endOfValue(cookie)))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Guest registration did not set " + AUTH_COOKIE + " cookie"));
+
+        GuestResponse guest = objectMapper.readValue(response.body(), GuestResponse.class);
+        return new Session(guest.userId(), token);
+    }
+
+    void joinQueue(Session session, int boardSize) throws IOException, InterruptedException {
+        HttpRequest request = post("/api/v1/matching/queue", new MatchmakingQueueRequest(BoardSize.fromValue(boardSize)))
+                .header("Cookie", session.cookieHeader())
+                .build();
+        expectSuccess(send(request), "matchmaking queue join");
+    }
+
+    Optional<Long> findActivePvpGame(Session session) throws IOException, InterruptedException {
+        HttpRequest request = get("/api/v1/games?status=in_progress&gameType=pvp&size=1")
+                .header("Cookie", session.cookieHeader())
+                .build();
+        HttpResponse<String> response = send(request);
+        expectSuccess(response, "active game lookup");
+
+        GameListResponse games = objectMapper.readValue(response.body(), GameListResponse.class);
+        return games.content().stream().findFirst().map(GameListItem::gameId);
+    }
+
+    GameDetailResponse getGame(Session session, long gameId) throws IOException, InterruptedException {
+        HttpRequest request = get("/api/v1/games/" + gameId)
+                .header("Cookie", session.cookieHeader())
+                .build();
+        HttpResponse<String> response = send(request);
+        expectSuccess(response, "game detail");
+        return objectMapper.readValue(response.body(), GameDetailResponse.class);
+    }
+
+    URI webSocketUri(long gameId) {
+        String scheme = "https".equals(baseUrl.getScheme()) ? "wss" : "ws";
+        return URI.create(scheme + "://" + baseUrl.getAuthority() + "/api/ws/game/" + gameId);
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return HttpRequest.newBuilder(baseUrl.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .GET();
+    }
+
+    private HttpRequest.Builder post(String path, Object body) throws JsonProcessingException {
+        return HttpRequest.newBuilder(baseUrl.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)));
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static void expectSuccess(HttpResponse<String> response, String operation) {
+        if (response.statusCode() / 100 != 2) {
+            throw new ApiException(operation, response.statusCode(), response.body());
+        }
+    }
+
+    private static int endOfValue(String cookie) {
+        int separator = cookie.indexOf(';');
+        return separator < 0 ? cookie.length() : separator;
+    }
+
+    static final class ApiException extends RuntimeException {
+        private final int statusCode;
+
+        ApiException(String operation, int statusCode, String body) {
+            super(operation + " failed with HTTP " + statusCode + ": " + body);
+            this.statusCode = statusCode;
+        }
+
+        int statusCode() {
+            return statusCode;
+        }
+    }
+}
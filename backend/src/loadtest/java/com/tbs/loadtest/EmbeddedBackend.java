@@ -0,0 +1,85 @@
+package com.tbs.loadtest;
+
+import com.tbs.TbsApplication;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+import org.testcontainers.utility.MountableFile;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+final class EmbeddedBackend implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(EmbeddedBackend.class);
+    private static final int REDIS_PORT = 6379;
+
+    private final PostgreSQLContainer<?> postgres;
+    private final GenericContainer<?> redis;
+    private final Path reportDir;
+    private ConfigurableApplicationContext context;
+
+    EmbeddedBackend(Path initScript, Path reportDir) {
+        if (!Files.isRegularFile(initScript)) {
+            throw new IllegalArgumentException("Database init script not found: " + initScript.toAbsolutePath());
+        }
+        this.postgres = new PostgreSQLContainer<>(DockerImageName.parse("postgres:15-alpine"))
+                .withCopyFileToContainer(MountableFile.forHostPath(initScript), "/docker-entrypoint-initdb.d/01-init.sql");
+        this.redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+                .withExposedPorts(REDIS_PORT);
+        this.reportDir = reportDir;
+    }
+
+    URI start() {
+        log.info("Starting Postgres and Redis containers");
+        postgres.start();
+        redis.start();
+
+        SpringApplication application = new SpringApplication(TbsApplication.class);
+        application.setDefaultProperties(applicationProperties());
+        context = application.run();
+
+        String port = context.getEnvironment().getProperty("local.server.port");
+        URI baseUrl = URI.create("http://localhost:" + port);
+        log.info("Backend started at {}", baseUrl);
+        return baseUrl;
+    }
+
+    private Map<String, Object> applicationProperties() {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", "0");
+        properties.put("spring.datasource.url", postgres.getJdbcUrl());
+        properties.put("spring.datasource.username", postgres.getUsername());
+        properties.put("spring.datasource.password", postgres.getPassword());
+        properties.put("spring.data.redis.host", redis.getHost());
+        properties.put("spring.data.redis.port", String.valueOf(redis.getMappedPort(REDIS_PORT)));
+        properties.put("app.jwt.secret", Base64.getEncoder().encodeToString(secret));
+        properties.put("app.cookie.secure", "false");
+        properties.put("logging.level.com.tbs", "WARN");
+        properties.put("logging.level.org.hibernate.SQL", "WARN");
+        properties.put("logging.level.org.hibernate.type.descriptor.sql.BasicBinder", "WARN");
+        properties.put("logging.file.name", reportDir.resolve("backend.log").toString());
+        return properties;
+    }
+
+    @Override
+    public void close() {
+        if (context != null) {
+            context.close();
+        }
+        redis.stop();
+        postgres.stop();
+    }
+}
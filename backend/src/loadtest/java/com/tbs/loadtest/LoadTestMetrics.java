@@ -0,0 +1,191 @@
+package com.tbs.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.HdrHistogram.Recorder;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+final class LoadTestMetrics implements AutoCloseable {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(5);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    enum Latency {
+        MOVE_TO_ACK("move-to-ack"),
+        MOVE_TO_OPPONENT("move-to-opponent"),
+        MATCHMAKING("matchmaking"),
+        GAME_DURATION("game-duration");
+
+        private final String fileName;
+
+        Latency(String fileName) {
+            this.fileName = fileName;
+        }
+    }
+
+    private final Map<Latency, Series> series = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+    private final LongAdder gamesFinished = new LongAdder();
+    private final LongAdder movesSent = new LongAdder();
+    private final LongAdder movesAccepted = new LongAdder();
+    private final LongAdder connections = new LongAdder();
+    private final long startNanos = System.nanoTime();
+    private final long startEpochMillis = System.currentTimeMillis();
+    private final Path reportDir;
+
+    LoadTestMetrics(Path reportDir) {
+        this.reportDir = reportDir;
+        try {
+            Files.createDirectories(reportDir);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create report directory " + reportDir, e);
+        }
+        for (Latency latency : Latency.values()) {
+            series.put(latency, new Series(reportDir.resolve(latency.fileName + ".hlog"), startEpochMillis));
+        }
+    }
+
+    void recordLatency(Latency latency, long nanos) {
+        series.get(latency).recorder.recordValue(Math.min(Math.max(nanos, 0), HIGHEST_TRACKABLE_NANOS));
+    }
+
+    void moveSent() {
+        movesSent.increment();
+    }
+
+    void moveAccepted() {
+        movesAccepted.increment();
+    }
+
+    void gameFinished() {
+        gamesFinished.increment();
+    }
+
+    void connectionOpened() {
+        connections.increment();
+    }
+
+    void error(String code) {
+        errors.computeIfAbsent(code, key -> new LongAdder()).increment();
+    }
+
+    synchronized String intervalReport() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format(Locale.ROOT, "[%6.0fs] games=%d moves=%d errors=%d",
+                elapsedSeconds(), gamesFinished.sum(), movesAccepted.sum(), totalErrors()));
+        for (Latency latency : Latency.values()) {
+            Histogram interval = series.get(latency).rollInterval();
+            if (interval.getTotalCount() > 0) {
+                report.append(String.format(Locale.ROOT, " | %s p50=%.1fms p99=%.1fms",
+                        latency.fileName, millis(interval.getValueAtPercentile(50)), millis(interval.getValueAtPercentile(99))));
+            }
+        }
+        return report.toString();
+    }
+
+    synchronized String finalReport() {
+        for (Series value : series.values()) {
+            value.rollInterval();
+        }
+
+        double seconds = elapsedSeconds();
+        long sent = movesSent.sum();
+        long errorCount = totalErrors();
+
+        StringBuilder report = new StringBuilder();
+        report.append("=== Load test summary ===\n");
+        report.append(String.format(Locale.ROOT, "duration:        %.1f s%n", seconds));
+        report.append(String.format(Locale.ROOT, "connections:     %d%n", connections.sum()));
+        report.append(String.format(Locale.ROOT, "games finished:  %d (%.2f games/s)%n", gamesFinished.sum(), gamesFinished.sum() / seconds));
+        report.append(String.format(Locale.ROOT, "moves accepted:  %d (%.2f moves/s)%n", movesAccepted.sum(), movesAccepted.sum() / seconds));
+        report.append(String.format(Locale.ROOT, "moves sent:      %d%n", sent));
+        report.append(String.format(Locale.ROOT, "errors:          %d (%.3f%% of moves sent)%n", errorCount, sent == 0 ? 0.0 : errorCount * 100.0 / sent));
+        new TreeMap<>(errors).forEach((code, count) ->
+                report.append(String.format(Locale.ROOT, "  %-28s %d%n", code, count.sum())));
+
+        report.append(String.format(Locale.ROOT, "%n%-18s %8s %9s %9s %9s %9s %9s%n",
+                "latency (ms)", "count", "p50", "p90", "p99", "p99.9", "max"));
+        for (Latency latency : Latency.values()) {
+            Histogram total = series.get(latency).total;
+            report.append(String.format(Locale.ROOT, "%-18s %8d %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    latency.fileName,
+                    total.getTotalCount(),
+                    millis(total.getValueAtPercentile(50)),
+                    millis(total.getValueAtPercentile(90)),
+                    millis(total.getValueAtPercentile(99)),
+                    millis(total.getValueAtPercentile(99.9)),
+                    millis(total.getMaxValue())));
+        }
+
+        String text = report.toString();
+        try {
+            Files.writeString(reportDir.resolve("summary.txt"), text);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write load test summary", e);
+        }
+        return text;
+    }
+
+    long totalErrors() {
+        return errors.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    @Override
+    public void close() {
+        series.values().forEach(Series::close);
+    }
+
+    private double elapsedSeconds() {
+        return Math.max(System.nanoTime() - startNanos, 1) / 1_000_000_000.0;
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static final class Series {
+        private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+        private final Histogram total = new Histogram(HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+        private final PrintStream out;
+        private final HistogramLogWriter writer;
+        private Histogram interval;
+
+        private Series(Path file, long startEpochMillis) {
+            try {
+                this.out = new PrintStream(file.toFile());
+            } catch (FileNotFoundException e) {
+                throw new UncheckedIOException("Failed to open histogram log " + file, e);
+            }
+            this.writer = new HistogramLogWriter(out);
+            writer.outputLogFormatVersion();
+            writer.outputStartTime(startEpochMillis);
+            writer.setBaseTime(startEpochMillis);
+            writer.outputLegend();
+        }
+
+        private Histogram rollInterval() {
+            interval = recorder.getIntervalHistogram(interval);
+            if (interval.getTotalCount() > 0) {
+                total.add(interval);
+                writer.outputIntervalHistogram(interval);
+            }
+            return interval;
+        }
+
+        private void close() {
+            out.close();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.tbs.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public final class LoadTestRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTestRunner.class);
+    private static final Duration SHUTDOWN_GRACE = Duration.ofSeconds(30);
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+
+        int exitCode;
+        if (settings.isEmbedded()) {
+            try (EmbeddedBackend backend = new EmbeddedBackend(settings.initScript(), settings.reportDir())) {
+                exitCode = run(settings, backend.start());
+            }
+        } else {
+            exitCode = run(settings, settings.baseUrl());
+        }
+        System.exit(exitCode);
+    }
+
+    static int run(LoadTestSettings settings, URI baseUrl) throws InterruptedException {
+        log.info("Running load test against {} with {} players on {}x{} boards for {}",
+                baseUrl, settings.players(), settings.boardSize(), settings.boardSize(), settings.duration());
+
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        ApiClient apiClient = new ApiClient(httpClient, objectMapper, baseUrl);
+        Map<Long, Long> moveTracker = VirtualPlayer.newMoveTracker();
+        long deadlineNanos = System.nanoTime() + settings.duration().toNanos();
+
+        try (LoadTestMetrics metrics = new LoadTestMetrics(settings.reportDir())) {
+            ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor();
+            long interval = settings.reportInterval().toMillis();
+            reporter.scheduleAtFixedRate(() -> log.info(metrics.intervalReport()), interval, interval, TimeUnit.MILLISECONDS);
+
+            List<Thread> players = new ArrayList<>(settings.players());
+            for (int i = 0; i < settings.players(); i++) {
+                VirtualPlayer player = new VirtualPlayer(
+                        i, settings, apiClient, httpClient, objectMapper, metrics, moveTracker, deadlineNanos);
+                players.add(Thread.ofPlatform().name("player-" + i).start(player));
+            }
+
+            long joinDeadline = deadlineNanos + SHUTDOWN_GRACE.toNanos() + settings.gameTimeout().toNanos();
+            for (Thread player : players) {
+                long remaining = TimeUnit.NANOSECONDS.toMillis(joinDeadline - System.nanoTime());
+                player.join(Math.max(remaining, 1));
+                if (player.isAlive()) {
+                    player.interrupt();
+                }
+            }
+
+            reporter.shutdownNow();
+            String summary = metrics.finalReport();
+            log.info("\n{}", summary);
+            log.info("Histogram logs and summary written to {}", settings.reportDir().toAbsolutePath());
+
+            return metrics.totalErrors() == 0 ? 0 : 1;
+        }
+    }
+}
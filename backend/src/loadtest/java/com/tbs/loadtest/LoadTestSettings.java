@@ -0,0 +1,65 @@
+package com.tbs.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+
+public record LoadTestSettings(
+        URI baseUrl,
+        int players,
+        int boardSize,
+        Duration thinkTime,
+        Duration duration,
+        int gamesPerPlayer,
+        Duration matchTimeout,
+        Duration gameTimeout,
+        Duration reportInterval,
+        Path reportDir,
+        Path initScript
+) {
+    private static final String PREFIX = "loadtest.";
+
+    public static LoadTestSettings fromSystemProperties() {
+        String baseUrl = property("baseUrl", "");
+        int players = Integer.parseInt(property("players", "50"));
+        if (players < 2 || players % 2 != 0) {
+            throw new IllegalArgumentException("loadtest.players must be an even number >= 2, got " + players);
+        }
+
+        int boardSize = Integer.parseInt(property("boardSize", "3"));
+        if (boardSize < 3 || boardSize > 5) {
+            throw new IllegalArgumentException("loadtest.boardSize must be 3, 4 or 5, got " + boardSize);
+        }
+
+        return new LoadTestSettings(
+                baseUrl.isBlank() ? null : URI.create(stripTrailingSlash(baseUrl)),
+                players,
+                boardSize,
+                Duration.ofMillis(Long.parseLong(property("thinkTimeMs", "0"))),
+                Duration.ofSeconds(Long.parseLong(property("durationSeconds", "120"))),
+                Integer.parseInt(property("gamesPerPlayer", "0")),
+                Duration.ofSeconds(Long.parseLong(property("matchTimeoutSeconds", "60"))),
+                Duration.ofSeconds(Long.parseLong(property("gameTimeoutSeconds", "180"))),
+                Duration.ofSeconds(Long.parseLong(property("reportIntervalSeconds", "10"))),
+                Path.of(property("reportDir", "build/reports/loadtest")),
+                Path.of(property("initScript", "../docker/postgres/init/01-init.sql"))
+        );
+    }
+
+    public boolean isEmbedded() {
+        return baseUrl == null;
+    }
+
+    public boolean hasGameLimit() {
+        return gamesPerPlayer > 0;
+    }
+
+    private static String property(String name, String defaultValue) {
+        String value = System.getProperty(PREFIX + name);
+        return value == null || value.isBlank() ? defaultValue : value.trim();
+    }
+
+    private static String stripTrailingSlash(String value) {
+        return value.endsWith("/") ? value.substring(0, value.length() - 1) : value;
+    }
+}
@@ -0,0 +1,310 @@
+package com.tbs.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tbs.dto.common.BoardState;
+import com.tbs.dto.game.GameDetailResponse;
+import com.tbs.dto.websocket.BaseWebSocketMessage;
+import com.tbs.dto.websocket.GameEndedMessage;
+import com.tbs.dto.websocket.GameUpdateMessage;
+import com.tbs.dto.websocket.MoveAcceptedMessage;
+import com.tbs.dto.websocket.MoveMessage;
+import com.tbs.dto.websocket.MoveRejectedMessage;
+import com.tbs.dto.websocket.OpponentMoveMessage;
+import com.tbs.dto.websocket.PingMessage;
+import com.tbs.enums.GameStatus;
+import com.tbs.enums.PlayerSymbol;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+final class VirtualPlayer implements Runnable {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualPlayer.class);
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(250);
+    private static final Duration PING_INTERVAL = Duration.ofSeconds(20);
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(10);
+
+    private final int index;
+    private final LoadTestSettings settings;
+    private final ApiClient apiClient;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final LoadTestMetrics metrics;
+    private final Map<Long, Long> lastMoveSentAt;
+    private final long deadlineNanos;
+
+    VirtualPlayer(
+            int index,
+            LoadTestSettings settings,
+            ApiClient apiClient,
+            HttpClient httpClient,
+            ObjectMapper objectMapper,
+            LoadTestMetrics metrics,
+            Map<Long, Long> lastMoveSentAt,
+            long deadlineNanos
+    ) {
+        this.index = index;
+        this.settings = settings;
+        this.apiClient = apiClient;
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.metrics = metrics;
+        this.lastMoveSentAt = lastMoveSentAt;
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    static Map<Long, Long> newMoveTracker() {
+        return new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public void run() {
+        ApiClient.Session session;
+        try {
+            session = apiClient.registerGuest(ipAddress());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (Exception e) {
+            log.warn("Player {} failed to register: {}", index, e.getMessage());
+            metrics.error("GUEST_REGISTRATION");
+            return;
+        }
+
+        int gamesPlayed = 0;
+        while (hasTimeLeft() && !Thread.currentThread().isInterrupted()
+                && (!settings.hasGameLimit() || gamesPlayed < settings.gamesPerPlayer())) {
+            try {
+                Optional<Long> gameId = findMatch(session);
+                if (gameId.isEmpty()) {
+                    continue;
+                }
+                playGame(session, gameId.get());
+                gamesPlayed++;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ApiClient.ApiException e) {
+                log.debug("Player {} API error: {}", index, e.getMessage());
+                metrics.error("HTTP_" + e.statusCode());
+                pause(Duration.ofSeconds(1));
+            } catch (Exception e) {
+                log.debug("Player {} error: {}", index, e.getMessage());
+                metrics.error(e.getClass().getSimpleName());
+                pause(Duration.ofSeconds(1));
+            }
+        }
+    }
+
+    private Optional<Long> findMatch(ApiClient.Session session) throws IOException, InterruptedException {
+        Optional<Long> existing = apiClient.findActivePvpGame(session);
+        if (existing.isPresent()) {
+            return existing;
+        }
+
+        long queuedAt = System.nanoTime();
+        apiClient.joinQueue(session, settings.boardSize());
+        long matchDeadline = queuedAt + settings.matchTimeout().toNanos();
+
+        while (System.nanoTime() < matchDeadline && hasTimeLeft()) {
+            Thread.sleep(POLL_INTERVAL.toMillis());
+            Optional<Long> gameId = apiClient.findActivePvpGame(session);
+            if (gameId.isPresent()) {
+                metrics.recordLatency(LoadTestMetrics.Latency.MATCHMAKING, System.nanoTime() - queuedAt);
+                return gameId;
+            }
+        }
+
+        metrics.error("MATCH_TIMEOUT");
+        return Optional.empty();
+    }
+
+    private void playGame(ApiClient.Session session, long gameId) throws Exception {
+        GameDetailResponse detail = apiClient.getGame(session, gameId);
+        PlayerSymbol mySymbol = detail.player1() != null && detail.player1().userId() == session.userId()
+                ? PlayerSymbol.X
+                : PlayerSymbol.O;
+
+        BlockingQueue<BaseWebSocketMessage> inbox = new LinkedBlockingQueue<>();
+        WebSocket webSocket = httpClient.newWebSocketBuilder()
+                .header("Cookie", session.cookieHeader())
+                .connectTimeout(CONNECT_TIMEOUT)
+                .buildAsync(apiClient.webSocketUri(gameId), new InboxListener(inbox))
+                .get(CONNECT_TIMEOUT.toSeconds(), TimeUnit.SECONDS);
+        metrics.connectionOpened();
+
+        long gameStartedAt = System.nanoTime();
+        long gameDeadline = gameStartedAt + settings.gameTimeout().toNanos();
+        long nextPingAt = gameStartedAt + PING_INTERVAL.toNanos();
+        long moveSentAt = 0;
+        boolean myTurn = false;
+        BoardState board = detail.boardState();
+
+        try {
+            while (System.nanoTime() < gameDeadline) {
+                if (System.nanoTime() >= nextPingAt) {
+                    send(webSocket, new PingMessage(new PingMessage.PingPayload(Instant.now())));
+                    nextPingAt = System.nanoTime() + PING_INTERVAL.toNanos();
+                }
+
+                if (myTurn && moveSentAt == 0 && board != null) {
+                    pause(settings.thinkTime());
+                    int[] cell = randomEmptyCell(board);
+                    if (cell == null) {
+                        myTurn = false;
+                        continue;
+                    }
+                    moveSentAt = System.nanoTime();
+                    lastMoveSentAt.put(gameId, moveSentAt);
+                    send(webSocket, new MoveMessage(new MoveMessage.MovePayload(cell[0], cell[1], mySymbol)));
+                    metrics.moveSent();
+                }
+
+                BaseWebSocketMessage message = inbox.poll(POLL_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+                if (message == null) {
+                    continue;
+                }
+
+                switch (message) {
+                    case GameUpdateMessage update -> {
+                        board = update.payload().boardState();
+                        if (update.payload().status() != GameStatus.IN_PROGRESS) {
+                            myTurn = false;
+                        } else if (moveSentAt == 0) {
+                            myTurn = symbolToMove(board) == mySymbol;
+                        }
+                    }
+                    case MoveAcceptedMessage accepted -> {
+                        metrics.recordLatency(LoadTestMetrics.Latency.MOVE_TO_ACK, System.nanoTime() - moveSentAt);
+                        metrics.moveAccepted();
+                        board = accepted.payload().boardState();
+                        myTurn = accepted.payload().currentPlayerSymbol() == mySymbol;
+                        moveSentAt = 0;
+                    }
+                    case MoveRejectedMessage rejected -> {
+                        metrics.error(rejected.payload().code());
+                        moveSentAt = 0;
+                    }
+                    case OpponentMoveMessage opponentMove -> {
+                        Long sentAt = lastMoveSentAt.get(gameId);
+                        if (sentAt != null) {
+                            metrics.recordLatency(LoadTestMetrics.Latency.MOVE_TO_OPPONENT, System.nanoTime() - sentAt);
+                        }
+                        board = opponentMove.payload().boardState();
+                        myTurn = opponentMove.payload().currentPlayerSymbol() == mySymbol;
+                    }
+                    case GameEndedMessage ended -> {
+                        if (mySymbol == PlayerSymbol.X) {
+                            metrics.gameFinished();
+                            metrics.recordLatency(LoadTestMetrics.Latency.GAME_DURATION, System.nanoTime() - gameStartedAt);
+                            lastMoveSentAt.remove(gameId);
+                        }
+                        return;
+                    }
+                    default -> {
+                    }
+                }
+            }
+            metrics.error("GAME_TIMEOUT");
+        } finally {
+            webSocket.sendClose(WebSocket.NORMAL_CLOSURE, "done");
+        }
+    }
+
+    private void send(WebSocket webSocket, BaseWebSocketMessage message) throws Exception {
+        webSocket.sendText(objectMapper.writeValueAsString(message), true)
+                .get(CONNECT_TIMEOUT.toSeconds(), TimeUnit.SECONDS);
+    }
+
+    private static PlayerSymbol symbolToMove(BoardState board) {
+        int x = 0;
+        int o = 0;
+        for (String[] row : board.state()) {
+            for (String cell : row) {
+                if (PlayerSymbol.X.getValue().equals(cell)) {
+                    x++;
+                } else if (PlayerSymbol.O.getValue().equals(cell)) {
+                    o++;
+                }
+            }
+        }
+        return x > o ? PlayerSymbol.O : PlayerSymbol.X;
+    }
+
+    private static int[] randomEmptyCell(BoardState board) {
+        List<int[]> empty = new ArrayList<>();
+        String[][] state = board.state();
+        for (int row = 0; row < state.length; row++) {
+            for (int col = 0; col < state[row].length; col++) {
+                if (state[row][col] == null || state[row][col].isBlank()) {
+                    empty.add(new int[]{row, col});
+                }
+            }
+        }
+        return empty.isEmpty() ? null : empty.get(ThreadLocalRandom.current().nextInt(empty.size()));
+    }
+
+    private String ipAddress() {
+        int base = index + 1;
+        return "10." + ((base >> 16) & 0xFF) + "." + ((base >> 8) & 0xFF) + "." + (base & 0xFF);
+    }
+
+    private boolean hasTimeLeft() {
+        return System.nanoTime() < deadlineNanos;
+    }
+
+    private static void pause(Duration duration) {
+        if (duration.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private final class InboxListener implements WebSocket.Listener {
+        private final BlockingQueue<BaseWebSocketMessage> inbox;
+        private final StringBuilder buffer = new StringBuilder();
+
+        private InboxListener(BlockingQueue<BaseWebSocketMessage> inbox) {
+            this.inbox = inbox;
+        }
+
+        @Override
+        public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+            buffer.append(data);
+            if (last) {
+                String json = buffer.toString();
+                buffer.setLength(0);
+                try {
+                    inbox.add(objectMapper.readValue(json, BaseWebSocketMessage.class));
+                } catch (IOException e) {
+                    metrics.error("UNPARSEABLE_MESSAGE");
+                }
+            }
+            webSocket.request(1);
+            return null;
+        }
+
+        @Override
+        public void onError(WebSocket webSocket, Throwable error) {
+            metrics.error("WS_" + error.getClass().getSimpleName());
+        }
+    }
+}
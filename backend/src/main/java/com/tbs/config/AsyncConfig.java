@@ -1,25 +1,61 @@
 package com.tbs.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 @Configuration
 @EnableAsync
 public class AsyncConfig {
 
+    private static final int RANKING_REFRESH_MAX_CONCURRENCY = 4;
+
     @Bean(name = "rankingRefreshExecutor")
-    public Executor rankingRefreshExecutor() {
+    public Executor rankingRefreshExecutor(
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("ranking-refresh-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(RANKING_REFRESH_MAX_CONCURRENCY);
+            return executor;
+        }
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(2);
-        executor.setMaxPoolSize(4);
+        executor.setMaxPoolSize(RANKING_REFRESH_MAX_CONCURRENCY);
         executor.setQueueCapacity(100);
         executor.setThreadNamePrefix("ranking-refresh-");
         executor.initialize();
         return executor;
     }
-}
 
+    @Bean(name = "gameMailboxExecutor", destroyMethod = "shutdown")
+    public ExecutorService gameMailboxExecutor(
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            @Value("${app.game-mailbox.platform-threads:16}") int platformThreads
+    ) {
+        if (virtualThreads) {
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("game-mailbox-", 0).factory());
+        }
+        return Executors.newFixedThreadPool(platformThreads, new CustomizableThreadFactory("game-mailbox-"));
+    }
+
+    @Bean(name = "spectatorExecutor", destroyMethod = "shutdown")
+    public ExecutorService spectatorExecutor(
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            @Value("${app.spectator.platform-threads:8}") int platformThreads
+    ) {
+        if (virtualThreads) {
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("spectator-", 0).factory());
+        }
+        return Executors.newFixedThreadPool(platformThreads, new CustomizableThreadFactory("spectator-"));
+    }
+}
@@ -0,0 +1,59 @@
+package com.tbs.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.limiter", name = "enabled", havingValue = "true")
+public class DatabaseConcurrencyLimiterConfig {
+
+    private static final int HIKARI_DEFAULT_POOL_SIZE = 10;
+
+    @Bean
+    public static BeanPostProcessor connectionLimitingDataSourcePostProcessor(
+            @Value("${app.datasource.limiter.max-concurrent:0}") int maxConcurrent,
+            @Value("${app.datasource.limiter.acquire-timeout-ms:5000}") long acquireTimeoutMs,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof HikariDataSource hikariDataSource)) {
+                    return bean;
+                }
+                return limit(hikariDataSource, beanName, maxConcurrent, acquireTimeoutMs,
+                        meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+            }
+        };
+    }
+
+    static ConnectionLimitingDataSource limit(
+            HikariDataSource hikariDataSource,
+            String defaultPoolName,
+            int maxConcurrent,
+            long acquireTimeoutMs,
+            MeterRegistry meterRegistry
+    ) {
+        String poolName = hikariDataSource.getPoolName() != null ? hikariDataSource.getPoolName() : defaultPoolName;
+        int poolSize = hikariDataSource.getMaximumPoolSize() > 0
+                ? hikariDataSource.getMaximumPoolSize()
+                : HIKARI_DEFAULT_POOL_SIZE;
+        int permits = maxConcurrent > 0 ? maxConcurrent : poolSize;
+        return new ConnectionLimitingDataSource(
+                hikariDataSource,
+                poolName,
+                permits,
+                Duration.ofMillis(acquireTimeoutMs),
+                meterRegistry
+        );
+    }
+}
@@ -0,0 +1,49 @@
+package com.tbs.config;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+public class ReadOnlyRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+    static final String REPLICA = "replica";
+
+    private static final ThreadLocal<Boolean> REPLICA_READ = new ThreadLocal<>();
+
+    private final ReadReplicaMonitor readReplicaMonitor;
+
+    public ReadOnlyRoutingDataSource(DataSource primaryDataSource, ReadReplicaMonitor readReplicaMonitor) {
+        this.readReplicaMonitor = readReplicaMonitor;
+        setTargetDataSources(Map.of(
+                PRIMARY, primaryDataSource,
+                REPLICA, readReplicaMonitor.getDataSource()
+        ));
+        setDefaultTargetDataSource(primaryDataSource);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (Boolean.TRUE.equals(REPLICA_READ.get())
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && readReplicaMonitor.isUsable()) {
+            return REPLICA;
+        }
+        return PRIMARY;
+    }
+
+    static Object invokeOnReplica(MethodInvocation invocation) throws Throwable {
+        if (Boolean.TRUE.equals(REPLICA_READ.get())) {
+            return invocation.proceed();
+        }
+        REPLICA_READ.set(Boolean.TRUE);
+        try {
+            return invocation.proceed();
+        } finally {
+            REPLICA_READ.remove();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.tbs.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig {
+
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource")
+    public DataSourceProperties primaryDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(
+            @Qualifier("primaryDataSourceProperties") DataSourceProperties properties
+    ) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("tbs-primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.replica")
+    public DataSourceProperties replicaDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    public ReadReplicaMonitor readReplicaMonitor(
+            @Qualifier("replicaDataSourceProperties") DataSourceProperties properties,
+            @Value("${app.datasource.replica.max-lag-ms:5000}") long maxLagMs,
+            @Value("${app.datasource.replica.maximum-pool-size:10}") int maximumPoolSize,
+            @Value("${app.datasource.limiter.enabled:false}") boolean limiterEnabled,
+            @Value("${app.datasource.limiter.max-concurrent:0}") int limiterMaxConcurrent,
+            @Value("${app.datasource.limiter.acquire-timeout-ms:5000}") long limiterAcquireTimeoutMs,
+            MeterRegistry meterRegistry
+    ) {
+        HikariDataSource replica = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        replica.setPoolName("tbs-replica");
+        replica.setReadOnly(true);
+        replica.setMaximumPoolSize(maximumPoolSize);
+        replica.setInitializationFailTimeout(-1);
+        DataSource replicaDataSource = limiterEnabled
+                ? DatabaseConcurrencyLimiterConfig.limit(
+                        replica, "replicaDataSource", limiterMaxConcurrent, limiterAcquireTimeoutMs, meterRegistry)
+                : replica;
+        return new ReadReplicaMonitor(replicaDataSource, maxLagMs, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            ReadReplicaMonitor readReplicaMonitor
+    ) {
+        ReadOnlyRoutingDataSource routingDataSource = new ReadOnlyRoutingDataSource(primaryDataSource, readReplicaMonitor);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor replicaReadAdvisor() {
+        ComposablePointcut pointcut = new ComposablePointcut(new AnnotationMatchingPointcut(ReplicaRead.class, true))
+                .union(AnnotationMatchingPointcut.forMethodAnnotation(ReplicaRead.class));
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                pointcut, (MethodInterceptor) ReadOnlyRoutingDataSource::invokeOnReplica);
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+}
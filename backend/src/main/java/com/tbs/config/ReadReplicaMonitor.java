@@ -0,0 +1,82 @@
+package com.tbs.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ReadReplicaMonitor implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ReadReplicaMonitor.class);
+    private static final String REPLICA_LAG_SQL =
+            "SELECT CASE " +
+            "WHEN NOT pg_is_in_recovery() THEN 0 " +
+            "WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+            "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0) " +
+            "END";
+    private static final long UNKNOWN_LAG = -1;
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final long maxLagMs;
+    private final AtomicBoolean usable = new AtomicBoolean(false);
+    private final AtomicLong lagMs = new AtomicLong(UNKNOWN_LAG);
+
+    public ReadReplicaMonitor(DataSource dataSource, long maxLagMs, MeterRegistry meterRegistry) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.maxLagMs = maxLagMs;
+        Gauge.builder("db.replica.lag", lagMs, AtomicLong::get)
+                .description("Replication lag of the read replica in milliseconds, -1 when unknown")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("db.replica.usable", usable, value -> value.get() ? 1 : 0)
+                .register(meterRegistry);
+    }
+
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+    public boolean isUsable() {
+        return usable.get();
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval-ms:5000}")
+    public void checkReplicaLag() {
+        try {
+            Number lag = jdbcTemplate.queryForObject(REPLICA_LAG_SQL, Number.class);
+            updateLag(lag != null ? lag.longValue() : UNKNOWN_LAG);
+        } catch (Exception e) {
+            if (usable.get()) {
+                log.warn("Read replica check failed, routing read-only transactions to primary", e);
+            }
+            updateLag(UNKNOWN_LAG);
+        }
+    }
+
+    void updateLag(long currentLagMs) {
+        lagMs.set(currentLagMs);
+        boolean nowUsable = currentLagMs >= 0 && currentLagMs <= maxLagMs;
+        boolean wasUsable = usable.getAndSet(nowUsable);
+        if (wasUsable && !nowUsable && currentLagMs >= 0) {
+            log.warn("Read replica lag {}ms exceeds {}ms, routing read-only transactions to primary", currentLagMs, maxLagMs);
+        } else if (!wasUsable && nowUsable) {
+            log.info("Read replica available (lag {}ms), routing read-only transactions to replica", currentLagMs);
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (dataSource instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
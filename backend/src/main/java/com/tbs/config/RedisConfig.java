@@ -2,15 +2,24 @@ package com.tbs.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.tbs.security.TokenBlacklistService;
+import com.tbs.websocket.InMemoryGameEventBus;
+import com.tbs.websocket.RedisGameEventBus;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cache.annotation.CachingConfigurer;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
@@ -38,6 +47,34 @@ public class RedisConfig implements CachingConfigurer {
         return template;
     }
 
+    @Bean
+    @Profile("!test")
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            TokenBlacklistService tokenBlacklistService,
+            TwoLevelCacheManager cacheManager,
+            ObjectProvider<RedisGameEventBus> gameEventBus
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(tokenBlacklistService, new ChannelTopic(TokenBlacklistService.BLACKLIST_CHANNEL));
+        container.addMessageListener(cacheManager, new ChannelTopic(TwoLevelCacheManager.INVALIDATION_CHANNEL));
+        gameEventBus.ifAvailable(bus -> container.addMessageListener(bus, new ChannelTopic(RedisGameEventBus.GAME_EVENTS_CHANNEL)));
+        return container;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.game-events", name = "backend", havingValue = "redis", matchIfMissing = true)
+    public RedisGameEventBus redisGameEventBus(RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper) {
+        return new RedisGameEventBus(redisTemplate, objectMapper);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.game-events", name = "backend", havingValue = "in-memory")
+    public InMemoryGameEventBus inMemoryGameEventBus() {
+        return new InMemoryGameEventBus();
+    }
+
     @Bean
     public GenericJackson2JsonRedisSerializer genericJackson2JsonRedisSerializer() {
         ObjectMapper objectMapper = new ObjectMapper();
@@ -52,11 +89,15 @@ public class RedisConfig implements CachingConfigurer {
     }
 
     @Bean
-    public RedisCacheManager cacheManager(
+    public TwoLevelCacheManager cacheManager(
             RedisConnectionFactory connectionFactory,
+            RedisTemplate<String, String> redisTemplate,
             GenericJackson2JsonRedisSerializer serializer,
+            MeterRegistry meterRegistry,
             @Value("${app.cache.default-ttl:600}") long defaultTtlSeconds,
-            @Value("${app.cache.user-profile-ttl:900}") long userProfileTtlSeconds
+            @Value("${app.cache.user-profile-ttl:900}") long userProfileTtlSeconds,
+            @Value("${app.cache.local.max-size:10000}") long localMaxSize,
+            @Value("${app.cache.local.ttl-seconds:30}") long localTtlSeconds
     ) {
         RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
                 .entryTtl(Duration.ofSeconds(defaultTtlSeconds))
@@ -76,14 +117,19 @@ public class RedisConfig implements CachingConfigurer {
                 .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(serializer))
                 .disableCachingNullValues();
 
-        return RedisCacheManager.builder(connectionFactory)
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(defaultConfig)
                 .withCacheConfiguration("userProfile", userProfileConfig)
                 .withCacheConfiguration("rankings", rankingsConfig)
                 .withCacheConfiguration("rankingDetail", rankingsConfig)
                 .withCacheConfiguration("rankingsAround", rankingsConfig)
-                .transactionAware()
                 .build();
+        redisCacheManager.initializeCaches();
+
+        TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(
+                redisCacheManager, redisTemplate, localMaxSize, Duration.ofSeconds(localTtlSeconds), meterRegistry);
+        cacheManager.setTransactionAware(true);
+        return cacheManager;
     }
 }
 
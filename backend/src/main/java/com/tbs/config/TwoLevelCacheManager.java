@@ -0,0 +1,116 @@
+package com.tbs.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.lang.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class TwoLevelCacheManager extends AbstractTransactionSupportingCacheManager implements MessageListener {
+
+    private static final Logger log = LoggerFactory.getLogger(TwoLevelCacheManager.class);
+    public static final String INVALIDATION_CHANNEL = "cache:invalidation:events";
+    private static final String EVICT_EVENT = "evict";
+    private static final String CLEAR_EVENT = "clear";
+
+    private final CacheManager remoteCacheManager;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final long localMaxSize;
+    private final Duration localTtl;
+    private final MeterRegistry meterRegistry;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, TwoLevelCache> twoLevelCaches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(
+            CacheManager remoteCacheManager,
+            RedisTemplate<String, String> redisTemplate,
+            long localMaxSize,
+            Duration localTtl,
+            MeterRegistry meterRegistry
+    ) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.redisTemplate = redisTemplate;
+        this.localMaxSize = localMaxSize;
+        this.localTtl = localTtl;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        List<Cache> caches = new ArrayList<>();
+        for (String name : remoteCacheManager.getCacheNames()) {
+            Cache remote = remoteCacheManager.getCache(name);
+            if (remote != null) {
+                caches.add(createTwoLevelCache(name, remote));
+            }
+        }
+        return caches;
+    }
+
+    @Override
+    @Nullable
+    protected Cache getMissingCache(String name) {
+        Cache remote = remoteCacheManager.getCache(name);
+        return remote != null ? createTwoLevelCache(name, remote) : null;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split(":", 4);
+        if (parts.length < 3) {
+            log.warn("Ignoring malformed cache invalidation event: {}", body);
+            return;
+        }
+        if (nodeId.equals(parts[0])) {
+            return;
+        }
+
+        TwoLevelCache cache = twoLevelCaches.get(parts[2]);
+        if (cache == null) {
+            return;
+        }
+        if (EVICT_EVENT.equals(parts[1]) && parts.length == 4) {
+            cache.evictLocal(parts[3]);
+        } else if (CLEAR_EVENT.equals(parts[1])) {
+            cache.clearLocal();
+        } else {
+            log.warn("Ignoring malformed cache invalidation event: {}", body);
+        }
+    }
+
+    String getNodeId() {
+        return nodeId;
+    }
+
+    private TwoLevelCache createTwoLevelCache(String name, Cache remote) {
+        return twoLevelCaches.computeIfAbsent(name, cacheName -> new TwoLevelCache(
+                cacheName, remote, localMaxSize, localTtl, this::publishInvalidation, meterRegistry));
+    }
+
+    private void publishInvalidation(String cacheName, @Nullable String localKey) {
+        String event = localKey != null
+                ? nodeId + ":" + EVICT_EVENT + ":" + cacheName + ":" + localKey
+                : nodeId + ":" + CLEAR_EVENT + ":" + cacheName;
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, event);
+        } catch (Exception e) {
+            log.debug("Failed to publish cache invalidation for cache '{}', other nodes expire it by TTL: {}",
+                    cacheName, e.getMessage());
+        }
+    }
+}
@@ -17,17 +17,23 @@ import java.util.List;
 public class WebSocketConfig implements WebSocketConfigurer {
 
     private final com.tbs.websocket.GameWebSocketHandler gameWebSocketHandler;
+    private final com.tbs.websocket.SpectatorWebSocketHandler spectatorWebSocketHandler;
     private final WebSocketAuthenticationInterceptor authenticationInterceptor;
     private final List<String> allowedOrigins;
+    private final boolean spectatorsEnabled;
 
     public WebSocketConfig(
             com.tbs.websocket.GameWebSocketHandler gameWebSocketHandler,
+            com.tbs.websocket.SpectatorWebSocketHandler spectatorWebSocketHandler,
             WebSocketAuthenticationInterceptor authenticationInterceptor,
-            @Value("${app.cors.allowed-origins}") String allowedOrigins
+            @Value("${app.cors.allowed-origins}") String allowedOrigins,
+            @Value("${app.spectator.enabled:true}") boolean spectatorsEnabled
     ) {
         this.gameWebSocketHandler = gameWebSocketHandler;
+        this.spectatorWebSocketHandler = spectatorWebSocketHandler;
         this.authenticationInterceptor = authenticationInterceptor;
         this.allowedOrigins = Arrays.asList(allowedOrigins.split(","));
+        this.spectatorsEnabled = spectatorsEnabled;
     }
 
     @Override
@@ -35,6 +41,12 @@ public class WebSocketConfig implements WebSocketConfigurer {
         registry.addHandler(gameWebSocketHandler, "/api/ws/game/{gameId}")
                 .addInterceptors(authenticationInterceptor)
                 .setAllowedOrigins(allowedOrigins.toArray(new String[0]));
+
+        if (spectatorsEnabled) {
+            registry.addHandler(spectatorWebSocketHandler, "/api/ws/game/{gameId}/watch")
+                    .addInterceptors(authenticationInterceptor)
+                    .setAllowedOrigins(allowedOrigins.toArray(new String[0]));
+        }
     }
 }
 
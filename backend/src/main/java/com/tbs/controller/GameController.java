@@ -1,30 +1,44 @@
 package com.tbs.controller;
 
 import com.tbs.dto.game.*;
+import com.tbs.enums.BoardSize;
+import com.tbs.enums.ExportFormat;
 import com.tbs.enums.GameStatus;
 import com.tbs.enums.GameType;
 import com.tbs.service.AuthenticationService;
+import com.tbs.service.GameExportService;
 import com.tbs.service.GameService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import com.tbs.exception.BadRequestException;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.constraints.Min;
 
 import java.net.URI;
+import java.time.Instant;
 import java.util.List;
+import java.util.concurrent.Callable;
 
 @RestController
 @RequestMapping("/api/v1/games")
@@ -36,10 +50,13 @@ public class GameController {
     private static final int MAX_PAGE_SIZE = 100;
 
     private final GameService gameService;
+    private final GameExportService gameExportService;
     private final AuthenticationService authenticationService;
 
-    public GameController(GameService gameService, AuthenticationService authenticationService) {
+    public GameController(GameService gameService, GameExportService gameExportService,
+                          AuthenticationService authenticationService) {
         this.gameService = gameService;
+        this.gameExportService = gameExportService;
         this.authenticationService = authenticationService;
     }
 
@@ -63,7 +80,7 @@ public class GameController {
     }
 
     @GetMapping
-    @Operation(summary = "Get games list", description = "Retrieves a paginated list of games for the current user with filtering")
+    @Operation(summary = "Get games list", description = "Retrieves a paginated list of games for the current user with filtering. Use archived=true to list finished games moved to the archive")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Games list retrieved successfully"),
             @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required"),
@@ -73,16 +90,80 @@ public class GameController {
     public ResponseEntity<GameListResponse> getGames(
             @RequestParam(required = false) List<GameStatus> status,
             @RequestParam(required = false) GameType gameType,
+            @RequestParam(defaultValue = "false") boolean archived,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable
     ) {
         if (pageable.getPageSize() > MAX_PAGE_SIZE) {
             throw new BadRequestException("Page size cannot exceed " + MAX_PAGE_SIZE);
         }
         Long userId = authenticationService.getCurrentUserId();
-        GameListResponse response = gameService.getGames(userId, status, gameType, pageable);
+        GameListResponse response = gameService.getGames(userId, status, gameType, archived, pageable);
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/export")
+    @Operation(
+            summary = "Export game history",
+            description = "Streams games (live and archived) as NDJSON or CSV without paging. Moves are included as a " +
+                    "base64-encoded packed move log: one byte per move with bits 0-5 the cell index (row * boardSize + col), " +
+                    "bit 6 set for player1 moves and bit 7 set for 'o'. Rows are not ordered. scope=all exports every " +
+                    "user's games and is limited to configured users"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export stream started"),
+            @ApiResponse(responseCode = "400", description = "Invalid query parameters"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required"),
+            @ApiResponse(responseCode = "403", description = "Not allowed to export all games"),
+            @ApiResponse(responseCode = "429", description = "Too many exports in progress")
+    })
+    @SecurityRequirement(name = "bearerAuth")
+    public ResponseEntity<StreamingResponseBody> exportGames(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(defaultValue = "mine") String scope,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(required = false) GameType gameType,
+            @RequestParam(required = false) Integer boardSize,
+            HttpServletRequest request
+    ) {
+        ExportFormat exportFormat;
+        BoardSize boardSizeFilter;
+        try {
+            exportFormat = ExportFormat.fromValue(format);
+            boardSizeFilter = boardSize != null ? BoardSize.fromValue(boardSize.intValue()) : null;
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(e.getMessage());
+        }
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new BadRequestException("'from' must be before 'to'");
+        }
+
+        Long userId = authenticationService.getCurrentUserId();
+        Long userFilter;
+        if ("all".equals(scope)) {
+            gameExportService.validateAllGamesExport(userId);
+            userFilter = null;
+        } else if ("mine".equals(scope)) {
+            userFilter = userId;
+        } else {
+            throw new BadRequestException("Unknown export scope: " + scope);
+        }
+
+        GameExportFilter filter = new GameExportFilter(userFilter, from, to, gameType, boardSizeFilter);
+        GameExportService.ExportStream body = gameExportService.export(filter, exportFormat);
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(body, new CallableProcessingInterceptor() {
+            @Override
+            public <T> void afterCompletion(NativeWebRequest webRequest, Callable<T> task) {
+                body.release();
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename("games." + exportFormat.getValue()).build().toString())
+                .body(body);
+    }
+
     @GetMapping("/{gameId}")
     @Operation(
             summary = "Get game details",
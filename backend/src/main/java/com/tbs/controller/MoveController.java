@@ -5,6 +5,7 @@ import com.tbs.dto.move.CreateMoveRequest;
 import com.tbs.dto.move.CreateMoveResponse;
 import com.tbs.dto.move.MoveListItem;
 import com.tbs.service.AuthenticationService;
+import com.tbs.service.GameMailbox;
 import com.tbs.service.MoveService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -28,10 +29,12 @@ public class MoveController {
 
     private final MoveService moveService;
     private final AuthenticationService authenticationService;
+    private final GameMailbox gameMailbox;
 
-    public MoveController(MoveService moveService, AuthenticationService authenticationService) {
+    public MoveController(MoveService moveService, AuthenticationService authenticationService, GameMailbox gameMailbox) {
         this.moveService = moveService;
         this.authenticationService = authenticationService;
+        this.gameMailbox = gameMailbox;
     }
 
     @GetMapping("/{gameId}/moves")
@@ -69,7 +72,7 @@ public class MoveController {
             @Valid @RequestBody CreateMoveRequest request
     ) {
         Long userId = authenticationService.getCurrentUserId();
-        CreateMoveResponse response = moveService.createMove(gameId, request, userId);
+        CreateMoveResponse response = gameMailbox.call(gameId, () -> moveService.createMove(gameId, request, userId));
         URI locationUri = URI.create("/api/v1/games/" + gameId + "/moves/" + response.moveId());
         return ResponseEntity.status(HttpStatus.CREATED)
                 .location(locationUri)
@@ -91,7 +94,7 @@ public class MoveController {
     @SecurityRequirement(name = "bearerAuth")
     public ResponseEntity<BotMoveResponse> createBotMove(@PathVariable Long gameId) {
         Long userId = authenticationService.getCurrentUserId();
-        BotMoveResponse response = moveService.createBotMove(gameId, userId);
+        BotMoveResponse response = gameMailbox.call(gameId, () -> moveService.createBotMove(gameId, userId));
         return ResponseEntity.ok(response);
     }
 }
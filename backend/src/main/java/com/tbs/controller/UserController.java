@@ -109,7 +109,6 @@ public class UserController {
             ),
             @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required"),
             @ApiResponse(responseCode = "403", description = "Forbidden - can only update own timestamp"),
-            @ApiResponse(responseCode = "404", description = "User not found"),
             @ApiResponse(responseCode = "429", description = "Rate limit exceeded - maximum 30 requests per minute")
     })
     @SecurityRequirement(name = "bearerAuth")
@@ -42,8 +42,9 @@ public class WebSocketDocumentationController {
                 new WebSocketDocumentationResponse.ConnectionInfo(
                         wsUrl + "/api/ws/game/{gameId}",
                         "WebSocket",
-                        "game-protocol",
-                        "const ws = new WebSocket('" + wsUrl + "/api/ws/game/42?token=<JWT_TOKEN>', 'game-protocol');\n" +
+                        "game-protocol.binary (ramki binarne), game-protocol.v2 (delta ruchów) lub game-protocol (pełny stan planszy)",
+                        "const ws = new WebSocket('" + wsUrl + "/api/ws/game/42?token=<JWT_TOKEN>', ['game-protocol.binary', 'game-protocol.v2', 'game-protocol']);\n" +
+                                "ws.binaryType = 'arraybuffer';\n" +
                                 "ws.setRequestHeader('Authorization', 'Bearer <JWT_TOKEN>');"
                 ),
                 new WebSocketDocumentationResponse.AuthenticationInfo(
@@ -87,6 +88,19 @@ public class WebSocketDocumentationController {
                                         "Zwycięzca otrzymuje +1000 pkt"
                                 )
                         ),
+                        new WebSocketDocumentationResponse.MessageTypeInfo(
+                                "RESYNC",
+                                "Żądanie pełnego stanu planszy (game-protocol.v2)",
+                                "{\"type\":\"RESYNC\",\"payload\":{\"moveSequence\":4,\"boardHash\":\"9f3a1c27\"}}",
+                                List.of(
+                                        "moveSequence: Integer (opcjonalne) - ostatni znany numer ruchu",
+                                        "boardHash: String (opcjonalne) - hash planszy po stronie klienta"
+                                ),
+                                List.of(
+                                        "Serwer odpowiada GAME_UPDATE z pełnym stanem planszy",
+                                        "Wysyłane po wykryciu niezgodności boardHash lub luki w moveSequence"
+                                )
+                        ),
                         new WebSocketDocumentationResponse.MessageTypeInfo(
                                 "PING",
                                 "Keep-alive - utrzymanie połączenia",
@@ -103,9 +117,12 @@ public class WebSocketDocumentationController {
                         new WebSocketDocumentationResponse.MessageTypeInfo(
                                 "MOVE_ACCEPTED",
                                 "Ruch został zaakceptowany i zapisany",
-                                "{\"type\":\"MOVE_ACCEPTED\",\"payload\":{\"moveId\":123,\"row\":0,\"col\":0,\"playerSymbol\":\"x\",\"currentPlayerSymbol\":\"o\",\"nextMoveAt\":\"2024-01-20T15:30:10Z\"}}",
+                                "{\"type\":\"MOVE_ACCEPTED\",\"payload\":{\"moveId\":123,\"row\":0,\"col\":0,\"playerSymbol\":\"x\",\"currentPlayerSymbol\":\"o\",\"nextMoveAt\":\"2024-01-20T15:30:10Z\",\"moveSequence\":1,\"boardHash\":\"9f3a1c27\"}}",
                                 List.of(),
-                                List.of()
+                                List.of(
+                                        "W game-protocol pole boardState zawiera pełną planszę, w game-protocol.v2 jest pomijane",
+                                        "boardHash: FNV-1a 32-bit (hex) po polach planszy wierszami, puste pole jako '.'"
+                                )
                         ),
                         new WebSocketDocumentationResponse.MessageTypeInfo(
                                 "MOVE_REJECTED",
@@ -119,9 +136,11 @@ public class WebSocketDocumentationController {
                         new WebSocketDocumentationResponse.MessageTypeInfo(
                                 "OPPONENT_MOVE",
                                 "Przeciwnik wykonał ruch",
-                                "{\"type\":\"OPPONENT_MOVE\",\"payload\":{\"row\":1,\"col\":1,\"playerSymbol\":\"o\",\"currentPlayerSymbol\":\"x\",\"nextMoveAt\":\"2024-01-20T15:30:20Z\"}}",
+                                "{\"type\":\"OPPONENT_MOVE\",\"payload\":{\"row\":1,\"col\":1,\"playerSymbol\":\"o\",\"currentPlayerSymbol\":\"x\",\"nextMoveAt\":\"2024-01-20T15:30:20Z\",\"moveSequence\":2,\"boardHash\":\"4b2e90d1\"}}",
                                 List.of(),
-                                List.of()
+                                List.of(
+                                        "W game-protocol.v2 klient nakłada ruch na lokalną planszę i porównuje boardHash"
+                                )
                         ),
                         new WebSocketDocumentationResponse.MessageTypeInfo(
                                 "GAME_UPDATE",
@@ -177,7 +196,9 @@ public class WebSocketDocumentationController {
                                 "3. Timeout połączenia: 60 sekund bez PING/PONG",
                         "1. Okno rekonnekcji: 20 sekund\n" +
                                 "2. Jeśli przeciwnik wraca w czasie okna: gra kontynuowana\n" +
-                                "3. Jeśli nie: gra kończy się, przeciwnik wygrywa"
+                                "3. Jeśli nie: gra kończy się, przeciwnik wygrywa\n" +
+                                "4. GAME_UPDATE zawiera resumeToken; ponowne połączenie z ?resume=<token>&lastSequence=<n> " +
+                                "pomija pełny handshake i dosyła tylko pominięte ruchy"
                 ),
                 new WebSocketDocumentationResponse.ErrorHandlingInfo(
                         List.of(
@@ -0,0 +1,14 @@
+package com.tbs.dto.game;
+
+import com.tbs.enums.BoardSize;
+import com.tbs.enums.GameType;
+
+import java.time.Instant;
+
+public record GameExportFilter(
+        Long userId,
+        Instant createdFrom,
+        Instant createdTo,
+        GameType gameType,
+        BoardSize boardSize
+) {}
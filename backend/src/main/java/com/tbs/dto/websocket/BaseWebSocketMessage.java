@@ -7,6 +7,7 @@ import com.fasterxml.jackson.annotation.JsonTypeInfo;
 @JsonSubTypes({
         @JsonSubTypes.Type(value = MoveMessage.class, name = "MOVE"),
         @JsonSubTypes.Type(value = SurrenderMessage.class, name = "SURRENDER"),
+        @JsonSubTypes.Type(value = ResyncMessage.class, name = "RESYNC"),
         @JsonSubTypes.Type(value = PingMessage.class, name = "PING"),
         @JsonSubTypes.Type(value = PongMessage.class, name = "PONG"),
         @JsonSubTypes.Type(value = MoveAcceptedMessage.class, name = "MOVE_ACCEPTED"),
@@ -17,7 +18,7 @@ import com.fasterxml.jackson.annotation.JsonTypeInfo;
         @JsonSubTypes.Type(value = GameEndedMessage.class, name = "GAME_ENDED")
 })
 public sealed interface BaseWebSocketMessage
-        permits MoveMessage, SurrenderMessage, PingMessage, PongMessage,
+        permits MoveMessage, SurrenderMessage, ResyncMessage, PingMessage, PongMessage,
                 MoveAcceptedMessage, MoveRejectedMessage, OpponentMoveMessage,
                 GameUpdateMessage, TimerUpdateMessage, GameEndedMessage {
     WebSocketMessageType type();
@@ -1,5 +1,6 @@
 package com.tbs.dto.websocket;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.tbs.dto.common.BoardState;
 import com.tbs.dto.user.WinnerInfo;
 import com.tbs.enums.GameStatus;
@@ -12,8 +13,9 @@ public record GameEndedMessage(
             long gameId,
             GameStatus status,
             WinnerInfo winner,
-            BoardState finalBoardState,
-            int totalMoves
+            @JsonInclude(JsonInclude.Include.NON_NULL) BoardState finalBoardState,
+            int totalMoves,
+            String boardHash
     ) {}
 
     public GameEndedMessage(GameEndedPayload payload) {
@@ -1,5 +1,6 @@
 package com.tbs.dto.websocket;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.tbs.dto.common.BoardState;
 import com.tbs.dto.user.WinnerInfo;
 import com.tbs.enums.GameStatus;
@@ -12,8 +13,16 @@ public record GameUpdateMessage(
             long gameId,
             GameStatus status,
             WinnerInfo winner,
-            BoardState boardState
-    ) {}
+            BoardState boardState,
+            int moveSequence,
+            String boardHash,
+            @JsonInclude(JsonInclude.Include.NON_NULL) String resumeToken
+    ) {
+        public GameUpdatePayload(long gameId, GameStatus status, WinnerInfo winner, BoardState boardState,
+                                 int moveSequence, String boardHash) {
+            this(gameId, status, winner, boardState, moveSequence, boardHash, null);
+        }
+    }
 
     public GameUpdateMessage(GameUpdatePayload payload) {
         this(WebSocketMessageType.GAME_UPDATE, payload);
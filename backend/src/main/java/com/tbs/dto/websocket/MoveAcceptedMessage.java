@@ -1,5 +1,6 @@
 package com.tbs.dto.websocket;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.tbs.dto.common.BoardState;
 import com.tbs.enums.PlayerSymbol;
 import java.time.Instant;
@@ -13,9 +14,11 @@ public record MoveAcceptedMessage(
             int row,
             int col,
             PlayerSymbol playerSymbol,
-            BoardState boardState,
+            @JsonInclude(JsonInclude.Include.NON_NULL) BoardState boardState,
             PlayerSymbol currentPlayerSymbol,
-            Instant nextMoveAt
+            Instant nextMoveAt,
+            int moveSequence,
+            String boardHash
     ) {}
 
     public MoveAcceptedMessage(MoveAcceptedPayload payload) {
@@ -0,0 +1,20 @@
+package com.tbs.dto.websocket;
+
+public record ResyncMessage(
+        WebSocketMessageType type,
+        ResyncPayload payload
+) implements BaseWebSocketMessage {
+    public record ResyncPayload(
+            Integer moveSequence,
+            String boardHash
+    ) {}
+
+    public ResyncMessage(ResyncPayload payload) {
+        this(WebSocketMessageType.RESYNC, payload);
+    }
+
+    @Override
+    public WebSocketMessageType type() {
+        return type;
+    }
+}
@@ -3,6 +3,7 @@ package com.tbs.dto.websocket;
 public enum WebSocketMessageType {
     MOVE("MOVE"),
     SURRENDER("SURRENDER"),
+    RESYNC("RESYNC"),
     PING("PING"),
     PONG("PONG"),
     MOVE_ACCEPTED("MOVE_ACCEPTED"),
@@ -0,0 +1,8 @@
+package com.tbs.event;
+
+public record ActivePvpGameChangedEvent(
+        Long gameId,
+        Long player1Id,
+        Long player2Id,
+        boolean active
+) {}
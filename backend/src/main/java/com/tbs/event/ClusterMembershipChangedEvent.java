@@ -0,0 +1,8 @@
+package com.tbs.event;
+
+import java.util.Set;
+
+public record ClusterMembershipChangedEvent(
+        Set<String> previousNodes,
+        Set<String> currentNodes
+) {}
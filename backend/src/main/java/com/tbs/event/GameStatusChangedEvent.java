@@ -0,0 +1,9 @@
+package com.tbs.event;
+
+import com.tbs.enums.GameStatus;
+
+public record GameStatusChangedEvent(
+        Long gameId,
+        GameStatus oldStatus,
+        GameStatus newStatus
+) {}
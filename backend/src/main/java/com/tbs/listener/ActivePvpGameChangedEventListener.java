@@ -0,0 +1,26 @@
+package com.tbs.listener;
+
+import com.tbs.event.ActivePvpGameChangedEvent;
+import com.tbs.service.ActiveGameIndex;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class ActivePvpGameChangedEventListener {
+
+    private final ActiveGameIndex activeGameIndex;
+
+    public ActivePvpGameChangedEventListener(ActiveGameIndex activeGameIndex) {
+        this.activeGameIndex = activeGameIndex;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onActivePvpGameChanged(ActivePvpGameChangedEvent event) {
+        if (event.active()) {
+            activeGameIndex.register(event.gameId(), event.player1Id(), event.player2Id());
+        } else {
+            activeGameIndex.release(event.gameId(), event.player1Id(), event.player2Id());
+        }
+    }
+}
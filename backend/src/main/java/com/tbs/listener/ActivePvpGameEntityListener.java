@@ -0,0 +1,50 @@
+package com.tbs.listener;
+
+import com.tbs.enums.GameStatus;
+import com.tbs.enums.GameType;
+import com.tbs.event.ActivePvpGameChangedEvent;
+import com.tbs.model.Game;
+import com.tbs.model.User;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+
+public class ActivePvpGameEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ActivePvpGameEntityListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    public void onGameCreated(Game game) {
+        if (game.getGameType() == GameType.PVP && isActive(game.getStatus())) {
+            publish(game, true);
+        }
+    }
+
+    @PostUpdate
+    public void onGameUpdated(Game game) {
+        if (game.getGameType() == GameType.PVP && !isActive(game.getStatus())) {
+            publish(game, false);
+        }
+    }
+
+    private void publish(Game game, boolean active) {
+        eventPublisher.publishEvent(new ActivePvpGameChangedEvent(
+                game.getId(),
+                userId(game.getPlayer1()),
+                userId(game.getPlayer2()),
+                active
+        ));
+    }
+
+    private static boolean isActive(GameStatus status) {
+        return status == GameStatus.WAITING || status == GameStatus.IN_PROGRESS;
+    }
+
+    private static Long userId(User user) {
+        return user != null ? user.getId() : null;
+    }
+}
@@ -0,0 +1,28 @@
+package com.tbs.listener;
+
+import com.tbs.event.GameStatusChangedEvent;
+import com.tbs.websocket.GameSnapshotCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class GameStatusChangedEventListener {
+
+    private static final Logger log = LoggerFactory.getLogger(GameStatusChangedEventListener.class);
+
+    private final GameSnapshotCache gameSnapshotCache;
+
+    public GameStatusChangedEventListener(GameSnapshotCache gameSnapshotCache) {
+        this.gameSnapshotCache = gameSnapshotCache;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onGameStatusChanged(GameStatusChangedEvent event) {
+        log.debug("Evicting game snapshot after status change: gameId={}, {} -> {}",
+                event.gameId(), event.oldStatus(), event.newStatus());
+        gameSnapshotCache.evict(event.gameId());
+    }
+}
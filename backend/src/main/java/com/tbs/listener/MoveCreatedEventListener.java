@@ -4,7 +4,6 @@ import com.tbs.event.MoveCreatedEvent;
 import com.tbs.websocket.GameWebSocketHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
@@ -20,7 +19,6 @@ public class MoveCreatedEventListener {
         this.gameWebSocketHandler = gameWebSocketHandler;
     }
 
-    @Async
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void onMoveCreated(MoveCreatedEvent event) {
         try {
@@ -1,6 +1,7 @@
 package com.tbs.mapper;
 
 import com.tbs.dto.move.MoveListItem;
+import com.tbs.model.ArchivedMove;
 import com.tbs.model.Move;
 
 public class MoveMapper {
@@ -20,5 +21,17 @@ public class MoveMapper {
                 move.getCreatedAt()
         );
     }
-}
 
+    public static MoveListItem toMoveListItem(ArchivedMove move) {
+        return new MoveListItem(
+                move.getId(),
+                move.getRow(),
+                move.getCol(),
+                move.getPlayerSymbol(),
+                move.getMoveOrder(),
+                move.getPlayer() != null ? move.getPlayer().getId() : null,
+                move.getPlayer() != null ? move.getPlayer().getUsername() : null,
+                move.getCreatedAt()
+        );
+    }
+}
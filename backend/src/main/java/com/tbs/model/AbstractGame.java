@@ -0,0 +1,227 @@
+package com.tbs.model;
+
+import com.tbs.enums.BotDifficulty;
+import com.tbs.enums.BoardSize;
+import com.tbs.enums.GameStatus;
+import com.tbs.enums.GameType;
+import com.tbs.enums.PlayerSymbol;
+import jakarta.persistence.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.Instant;
+
+@MappedSuperclass
+public abstract class AbstractGame {
+
+    @Convert(converter = com.tbs.converter.GameTypeConverter.class)
+    @Column(name = "game_type", nullable = false)
+    private GameType gameType;
+
+    @Convert(converter = com.tbs.converter.BoardSizeConverter.class)
+    @Column(name = "board_size", nullable = false)
+    private BoardSize boardSize;
+
+    @ManyToOne
+    @JoinColumn(name = "player1_id", nullable = false)
+    private User player1;
+
+    @ManyToOne
+    @JoinColumn(name = "player2_id")
+    private User player2;
+
+    @Convert(converter = com.tbs.converter.BotDifficultyConverter.class)
+    @Column(name = "bot_difficulty")
+    private BotDifficulty botDifficulty;
+
+    @Convert(converter = com.tbs.converter.GameStatusConverter.class)
+    @Column(name = "status", nullable = false)
+    private GameStatus status;
+
+    @Convert(converter = com.tbs.converter.PlayerSymbolConverter.class)
+    @Column(name = "current_player_symbol")
+    private PlayerSymbol currentPlayerSymbol;
+
+    @ManyToOne
+    @JoinColumn(name = "winner_id")
+    private User winner;
+
+    @Column(name = "last_move_at")
+    private Instant lastMoveAt;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @Column(name = "finished_at")
+    private Instant finishedAt;
+
+    @Column(name = "next_move_order", nullable = false, columnDefinition = "SMALLINT")
+    private Short nextMoveOrder = 1;
+
+    @Column(name = "move_log", nullable = false)
+    private byte[] moveLog = new byte[0];
+
+    @Column(name = "move_count", nullable = false, columnDefinition = "SMALLINT")
+    private Short moveCount = 0;
+
+    @Column(name = "last_move_row", columnDefinition = "SMALLINT")
+    private Short lastMoveRow;
+
+    @Column(name = "last_move_col", columnDefinition = "SMALLINT")
+    private Short lastMoveCol;
+
+    @Convert(converter = com.tbs.converter.PlayerSymbolConverter.class)
+    @Column(name = "last_move_symbol")
+    private PlayerSymbol lastMoveSymbol;
+
+    public abstract Long getId();
+
+    public GameType getGameType() {
+        return gameType;
+    }
+
+    public void setGameType(GameType gameType) {
+        this.gameType = gameType;
+    }
+
+    public BoardSize getBoardSize() {
+        return boardSize;
+    }
+
+    public void setBoardSize(BoardSize boardSize) {
+        this.boardSize = boardSize;
+    }
+
+    public User getPlayer1() {
+        return player1;
+    }
+
+    public void setPlayer1(User player1) {
+        this.player1 = player1;
+    }
+
+    public User getPlayer2() {
+        return player2;
+    }
+
+    public void setPlayer2(User player2) {
+        this.player2 = player2;
+    }
+
+    public BotDifficulty getBotDifficulty() {
+        return botDifficulty;
+    }
+
+    public void setBotDifficulty(BotDifficulty botDifficulty) {
+        this.botDifficulty = botDifficulty;
+    }
+
+    public GameStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(GameStatus status) {
+        this.status = status;
+    }
+
+    public PlayerSymbol getCurrentPlayerSymbol() {
+        return currentPlayerSymbol;
+    }
+
+    public void setCurrentPlayerSymbol(PlayerSymbol currentPlayerSymbol) {
+        this.currentPlayerSymbol = currentPlayerSymbol;
+    }
+
+    public User getWinner() {
+        return winner;
+    }
+
+    public void setWinner(User winner) {
+        this.winner = winner;
+    }
+
+    public Instant getLastMoveAt() {
+        return lastMoveAt;
+    }
+
+    public void setLastMoveAt(Instant lastMoveAt) {
+        this.lastMoveAt = lastMoveAt;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(Instant finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+    public Short getNextMoveOrder() {
+        return nextMoveOrder;
+    }
+
+    public void setNextMoveOrder(Short nextMoveOrder) {
+        this.nextMoveOrder = nextMoveOrder;
+    }
+
+    public byte[] getMoveLog() {
+        return moveLog;
+    }
+
+    public void setMoveLog(byte[] moveLog) {
+        this.moveLog = moveLog;
+    }
+
+    public Short getMoveCount() {
+        return moveCount;
+    }
+
+    public void setMoveCount(Short moveCount) {
+        this.moveCount = moveCount;
+    }
+
+    public Short getLastMoveRow() {
+        return lastMoveRow;
+    }
+
+    public void setLastMoveRow(Short lastMoveRow) {
+        this.lastMoveRow = lastMoveRow;
+    }
+
+    public Short getLastMoveCol() {
+        return lastMoveCol;
+    }
+
+    public void setLastMoveCol(Short lastMoveCol) {
+        this.lastMoveCol = lastMoveCol;
+    }
+
+    public PlayerSymbol getLastMoveSymbol() {
+        return lastMoveSymbol;
+    }
+
+    public void setLastMoveSymbol(PlayerSymbol lastMoveSymbol) {
+        this.lastMoveSymbol = lastMoveSymbol;
+    }
+}
@@ -0,0 +1,107 @@
+package com.tbs.model;
+
+import com.tbs.enums.PlayerSymbol;
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.Instant;
+
+@Entity
+@Immutable
+@Table(name = "moves_archive")
+public class ArchivedMove {
+
+    @Id
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "game_id", nullable = false)
+    private Long gameId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "player_id")
+    private User player;
+
+    @Column(name = "row", nullable = false, columnDefinition = "SMALLINT")
+    private Short row;
+
+    @Column(name = "col", nullable = false, columnDefinition = "SMALLINT")
+    private Short col;
+
+    @Convert(converter = com.tbs.converter.PlayerSymbolConverter.class)
+    @Column(name = "player_symbol", nullable = false)
+    private PlayerSymbol playerSymbol;
+
+    @Column(name = "move_order", nullable = false, columnDefinition = "SMALLINT")
+    private Short moveOrder;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    public ArchivedMove() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getGameId() {
+        return gameId;
+    }
+
+    public void setGameId(Long gameId) {
+        this.gameId = gameId;
+    }
+
+    public User getPlayer() {
+        return player;
+    }
+
+    public void setPlayer(User player) {
+        this.player = player;
+    }
+
+    public Short getRow() {
+        return row;
+    }
+
+    public void setRow(Short row) {
+        this.row = row;
+    }
+
+    public Short getCol() {
+        return col;
+    }
+
+    public void setCol(Short col) {
+        this.col = col;
+    }
+
+    public PlayerSymbol getPlayerSymbol() {
+        return playerSymbol;
+    }
+
+    public void setPlayerSymbol(PlayerSymbol playerSymbol) {
+        this.playerSymbol = playerSymbol;
+    }
+
+    public Short getMoveOrder() {
+        return moveOrder;
+    }
+
+    public void setMoveOrder(Short moveOrder) {
+        this.moveOrder = moveOrder;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+}
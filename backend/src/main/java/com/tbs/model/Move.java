@@ -11,7 +11,8 @@ import java.time.Instant;
 public class Move {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "moves_id_seq")
+    @SequenceGenerator(name = "moves_id_seq", sequenceName = "moves_id_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
@@ -0,0 +1,59 @@
+package com.tbs.repository;
+
+import com.tbs.dto.game.GameListItem;
+import com.tbs.model.ArchivedGame;
+import com.tbs.repository.projection.GameBoardView;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Repository
+public interface ArchivedGameRepository extends JpaRepository<ArchivedGame, Long> {
+
+    @Query("SELECT g FROM ArchivedGame g " +
+           "LEFT JOIN FETCH g.player1 p1 " +
+           "LEFT JOIN FETCH g.player2 p2 " +
+           "LEFT JOIN FETCH g.winner w " +
+           "WHERE g.id = :gameId")
+    Optional<ArchivedGame> findByIdWithPlayers(@Param("gameId") Long gameId);
+
+    @Query(value = "SELECT new com.tbs.dto.game.GameListItem(" +
+                   "g.id, g.gameType, g.boardSize, g.status, p1.username, p2.username, w.username, " +
+                   "g.botDifficulty, CAST(g.moveCount AS Integer), g.createdAt, g.lastMoveAt, g.finishedAt) " +
+                   "FROM ArchivedGame g " +
+                   "JOIN g.player1 p1 " +
+                   "LEFT JOIN g.player2 p2 " +
+                   "LEFT JOIN g.winner w " +
+                   "WHERE (g.player1.id = :userId OR g.player2.id = :userId) " +
+                   "AND (:status IS NULL OR g.status IN :status) " +
+                   "AND (:gameType IS NULL OR g.gameType = :gameType)",
+           countQuery = "SELECT COUNT(g) FROM ArchivedGame g " +
+                        "WHERE (g.player1.id = :userId OR g.player2.id = :userId) " +
+                        "AND (:status IS NULL OR g.status IN :status) " +
+                        "AND (:gameType IS NULL OR g.gameType = :gameType)")
+    Page<GameListItem> findGameListItems(
+        @Param("userId") Long userId,
+        @Param("status") java.util.List<com.tbs.enums.GameStatus> status,
+        @Param("gameType") com.tbs.enums.GameType gameType,
+        Pageable pageable
+    );
+
+    @Query("SELECT new com.tbs.repository.projection.GameBoardView(" +
+           "g.id, p1.id, p2.id, g.boardSize, g.moveLog, g.moveCount, g.lastMoveRow, g.lastMoveCol, g.lastMoveSymbol) " +
+           "FROM ArchivedGame g " +
+           "JOIN g.player1 p1 " +
+           "LEFT JOIN g.player2 p2 " +
+           "WHERE g.id = :gameId")
+    Optional<GameBoardView> findBoardViewById(@Param("gameId") Long gameId);
+
+    @Transactional
+    @Query(value = "SELECT public.archive_finished_games(make_interval(days => :olderThanDays), :batchSize)",
+           nativeQuery = true)
+    int archiveFinishedGames(@Param("olderThanDays") int olderThanDays, @Param("batchSize") int batchSize);
+}
@@ -0,0 +1,16 @@
+package com.tbs.repository;
+
+import com.tbs.model.ArchivedMove;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ArchivedMoveRepository extends JpaRepository<ArchivedMove, Long> {
+
+    @Query("SELECT m FROM ArchivedMove m LEFT JOIN FETCH m.player WHERE m.gameId = :gameId ORDER BY m.moveOrder ASC")
+    List<ArchivedMove> findByGameIdOrderByMoveOrderAsc(@Param("gameId") Long gameId);
+}
@@ -1,9 +1,10 @@
 package com.tbs.repository;
 
+import com.tbs.dto.game.GameListItem;
 import com.tbs.model.Game;
+import com.tbs.repository.projection.GameBoardView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -21,24 +22,56 @@ public interface GameRepository extends JpaRepository<Game, Long> {
            "WHERE g.id = :gameId")
     Optional<Game> findByIdWithPlayers(@Param("gameId") Long gameId);
 
-    @Query("SELECT g FROM Game g " +
-           "WHERE (g.player1.id = :userId OR g.player2.id = :userId) " +
-           "AND (:status IS NULL OR g.status IN :status) " +
-           "AND (:gameType IS NULL OR g.gameType = :gameType)")
-    @EntityGraph(attributePaths = {"player1", "player2", "winner"})
-    Page<Game> findByUserIdAndFilters(
+    @Query(value = "SELECT new com.tbs.dto.game.GameListItem(" +
+                   "g.id, g.gameType, g.boardSize, g.status, p1.username, p2.username, w.username, " +
+                   "g.botDifficulty, CAST(g.moveCount AS Integer), g.createdAt, g.lastMoveAt, g.finishedAt) " +
+                   "FROM Game g " +
+                   "JOIN g.player1 p1 " +
+                   "LEFT JOIN g.player2 p2 " +
+                   "LEFT JOIN g.winner w " +
+                   "WHERE (g.player1.id = :userId OR g.player2.id = :userId) " +
+                   "AND (:status IS NULL OR g.status IN :status) " +
+                   "AND (:gameType IS NULL OR g.gameType = :gameType)",
+           countQuery = "SELECT COUNT(g) FROM Game g " +
+                        "WHERE (g.player1.id = :userId OR g.player2.id = :userId) " +
+                        "AND (:status IS NULL OR g.status IN :status) " +
+                        "AND (:gameType IS NULL OR g.gameType = :gameType)")
+    Page<GameListItem> findGameListItems(
         @Param("userId") Long userId,
         @Param("status") java.util.List<com.tbs.enums.GameStatus> status,
         @Param("gameType") com.tbs.enums.GameType gameType,
         Pageable pageable
     );
 
-    @Query("SELECT COUNT(g) > 0 FROM Game g " +
-           "WHERE (g.player1.id = :userId OR g.player2.id = :userId) " +
-           "AND g.gameType = com.tbs.enums.GameType.PVP " +
-           "AND g.status IN (com.tbs.enums.GameStatus.WAITING, com.tbs.enums.GameStatus.IN_PROGRESS)")
+    @Query("SELECT new com.tbs.repository.projection.GameBoardView(" +
+           "g.id, p1.id, p2.id, g.boardSize, g.moveLog, g.moveCount, g.lastMoveRow, g.lastMoveCol, g.lastMoveSymbol) " +
+           "FROM Game g " +
+           "JOIN g.player1 p1 " +
+           "LEFT JOIN g.player2 p2 " +
+           "WHERE g.id = :gameId")
+    Optional<GameBoardView> findBoardViewById(@Param("gameId") Long gameId);
+
+    @Query(value = "SELECT EXISTS (" +
+                   "SELECT 1 FROM games g WHERE g.player1_id = :userId " +
+                   "AND g.game_type = 'pvp' AND g.status IN ('waiting', 'in_progress') " +
+                   "UNION ALL " +
+                   "SELECT 1 FROM games g WHERE g.player2_id = :userId " +
+                   "AND g.game_type = 'pvp' AND g.status IN ('waiting', 'in_progress'))",
+           nativeQuery = true)
     boolean hasActivePvpGame(@Param("userId") Long userId);
 
+    @Query("SELECT g.id, p1.id, p2.id FROM Game g " +
+           "JOIN g.player1 p1 " +
+           "LEFT JOIN g.player2 p2 " +
+           "WHERE g.gameType = com.tbs.enums.GameType.PVP " +
+           "AND g.status IN (com.tbs.enums.GameStatus.WAITING, com.tbs.enums.GameStatus.IN_PROGRESS)")
+    java.util.List<Object[]> findActivePvpGamePlayers();
+
+    @Query("SELECT g.id FROM Game g " +
+           "WHERE g.gameType = com.tbs.enums.GameType.PVP " +
+           "AND g.status = com.tbs.enums.GameStatus.IN_PROGRESS")
+    java.util.List<Long> findInProgressPvpGameIds();
+
     @Query("SELECT g FROM Game g " +
            "LEFT JOIN FETCH g.player1 p1 " +
            "LEFT JOIN FETCH g.player2 p2 " +
@@ -0,0 +1,16 @@
+package com.tbs.repository.projection;
+
+import com.tbs.enums.BoardSize;
+import com.tbs.enums.PlayerSymbol;
+
+public record GameBoardView(
+        Long gameId,
+        Long player1Id,
+        Long player2Id,
+        BoardSize boardSize,
+        byte[] moveLog,
+        Short moveCount,
+        Short lastMoveRow,
+        Short lastMoveCol,
+        PlayerSymbol lastMoveSymbol
+) {}
@@ -1,5 +1,6 @@
 package com.tbs.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -81,7 +82,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return false;
         }
 
-        if (!jwtTokenProvider.validateToken(token)) {
+        Claims claims = jwtTokenProvider.resolveClaims(token);
+        if (claims == null) {
             log.warn("Invalid JWT token. Token length: {}, Token preview: {}...", token.length(), token.length() > 20 ? token.substring(0, 20) : token);
             return false;
         }
@@ -89,7 +91,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String tokenId;
             try {
-                tokenId = jwtTokenProvider.getTokenId(token);
+                tokenId = jwtTokenProvider.getTokenId(claims);
             } catch (Exception e) {
                 log.warn("Failed to extract token ID from token: {}", e.getMessage());
                 return false;
@@ -100,7 +102,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 return false;
             }
 
-            Long userId = jwtTokenProvider.getUserIdFromToken(token);
+            Long userId = jwtTokenProvider.getUserId(claims);
             log.debug("Successfully authenticated user: {}", userId);
             setAuthentication(userId);
             return true;
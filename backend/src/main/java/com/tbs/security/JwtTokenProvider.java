@@ -6,16 +6,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.env.Environment;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.security.SecureRandom;
 import java.util.Base64;
 import java.util.Date;
-import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 public class JwtTokenProvider {
@@ -27,15 +24,17 @@ public class JwtTokenProvider {
 
     private final SecretKey secretKey;
     private final long validityInMilliseconds;
-    private final Map<String, Claims> claimsCache = new ConcurrentHashMap<>();
+    private final JwtClaimsCache claimsCache;
     private final Environment environment;
 
     public JwtTokenProvider(
             @Value("${app.jwt.secret:}") String secret,
             @Value("${app.jwt.expiration:3600000}") long validityInMilliseconds,
-            Environment environment
+            Environment environment,
+            JwtClaimsCache claimsCache
     ) {
         this.environment = environment;
+        this.claimsCache = claimsCache;
         
         String finalSecret = secret;
         boolean isLocalEnvironment = isLocalEnvironment();
@@ -112,17 +111,23 @@ public class JwtTokenProvider {
     }
 
     public boolean validateToken(String token) {
+        return resolveClaims(token) != null;
+    }
+
+    public Claims resolveClaims(String token) {
         try {
-            parseClaims(token);
-            return true;
+            return parseClaims(token);
         } catch (JwtException | IllegalArgumentException e) {
             log.warn("Token validation failed: {}", e.getMessage());
-            return false;
+            return null;
         }
     }
 
     public Long getUserIdFromToken(String token) {
-        Claims claims = parseClaims(token);
+        return getUserId(parseClaims(token));
+    }
+
+    public Long getUserId(Claims claims) {
         return Long.parseLong(claims.getSubject());
     }
 
@@ -132,7 +137,10 @@ public class JwtTokenProvider {
     }
 
     public String getTokenId(String token) {
-        Claims claims = parseClaims(token);
+        return getTokenId(parseClaims(token));
+    }
+
+    public String getTokenId(Claims claims) {
         String tokenId = claims.getId();
         if (tokenId == null || tokenId.isEmpty()) {
             String errorMessage = "Token ID (JTI) is missing. All tokens must have a unique identifier (UUID).";
@@ -153,14 +161,8 @@ public class JwtTokenProvider {
         }
         
         Claims cachedClaims = claimsCache.get(token);
-        
         if (cachedClaims != null) {
-            Date expiration = cachedClaims.getExpiration();
-            if (expiration != null && expiration.before(new Date())) {
-                claimsCache.remove(token);
-            } else if (expiration == null || expiration.after(new Date())) {
-                return cachedClaims;
-            }
+            return cachedClaims;
         }
         
         try {
@@ -170,11 +172,7 @@ public class JwtTokenProvider {
                     .parseSignedClaims(token)
                     .getPayload();
             
-            Date expiration = claims.getExpiration();
-            if (expiration != null && expiration.after(new Date())) {
-                claimsCache.put(token, claims);
-            }
-            
+            claimsCache.put(token, claims);
             return claims;
         } catch (ExpiredJwtException e) {
             log.warn("Token expired: {}", e.getMessage());
@@ -185,26 +183,6 @@ public class JwtTokenProvider {
         }
     }
 
-    @Scheduled(fixedRate = 3600000)
-    public void clearExpiredTokens() {
-        Date now = new Date();
-        int removedCount = 0;
-        
-        claimsCache.entrySet().removeIf(entry -> {
-            try {
-                Claims claims = entry.getValue();
-                Date expiration = claims.getExpiration();
-                return expiration != null && expiration.before(now);
-            } catch (Exception e) {
-                return true;
-            }
-        });
-        
-        if (removedCount > 0) {
-            log.debug("Cleared {} expired tokens from cache", removedCount);
-        }
-    }
-
     public void clearClaimsCache() {
         claimsCache.clear();
     }
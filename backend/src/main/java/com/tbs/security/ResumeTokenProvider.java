@@ -0,0 +1,110 @@
+package com.tbs.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Optional;
+
+@Component
+public class ResumeTokenProvider {
+
+    private static final Logger log = LoggerFactory.getLogger(ResumeTokenProvider.class);
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final String KEY_DERIVATION_LABEL = "websocket-resume";
+    private static final int RANDOM_KEY_BYTES = 32;
+
+    private final SecretKeySpec signingKey;
+    private final long ttlMillis;
+
+    public ResumeTokenProvider(
+            @Value("${app.websocket.resume.secret:}") String secret,
+            @Value("${app.jwt.secret:}") String jwtSecret,
+            @Value("${app.websocket.resume.ttl-ms:300000}") long ttlMillis
+    ) {
+        this.signingKey = new SecretKeySpec(resolveKey(secret, jwtSecret), HMAC_ALGORITHM);
+        this.ttlMillis = ttlMillis;
+    }
+
+    public String issue(Long gameId, Long userId, String tokenId, int moveSequence) {
+        long expiresAt = System.currentTimeMillis() + ttlMillis;
+        String claims = gameId + ":" + userId + ":" + tokenId + ":" + moveSequence + ":" + expiresAt;
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString(claims.getBytes(StandardCharsets.UTF_8)) + "." + encoder.encodeToString(sign(claims));
+    }
+
+    public Optional<ResumeClaims> verify(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+        int separator = token.indexOf('.');
+        if (separator <= 0) {
+            return Optional.empty();
+        }
+        try {
+            Base64.Decoder decoder = Base64.getUrlDecoder();
+            String claims = new String(decoder.decode(token.substring(0, separator)), StandardCharsets.UTF_8);
+            byte[] signature = decoder.decode(token.substring(separator + 1));
+            if (!MessageDigest.isEqual(sign(claims), signature)) {
+                log.warn("Rejected resume token with invalid signature");
+                return Optional.empty();
+            }
+
+            String[] parts = claims.split(":");
+            if (parts.length != 5) {
+                return Optional.empty();
+            }
+            if (Long.parseLong(parts[4]) < System.currentTimeMillis()) {
+                log.debug("Rejected expired resume token");
+                return Optional.empty();
+            }
+            return Optional.of(new ResumeClaims(
+                    Long.parseLong(parts[0]),
+                    Long.parseLong(parts[1]),
+                    parts[2],
+                    Integer.parseInt(parts[3])
+            ));
+        } catch (IllegalArgumentException e) {
+            log.debug("Rejected malformed resume token: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private byte[] sign(String claims) {
+        return hmac(signingKey, claims);
+    }
+
+    private static byte[] resolveKey(String secret, String jwtSecret) {
+        if (secret != null && !secret.isBlank()) {
+            return secret.getBytes(StandardCharsets.UTF_8);
+        }
+        if (jwtSecret != null && !jwtSecret.isBlank()) {
+            SecretKeySpec jwtKey = new SecretKeySpec(jwtSecret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
+            return hmac(jwtKey, KEY_DERIVATION_LABEL);
+        }
+        log.warn("No resume token secret configured. Generated a random key; resume tokens will not survive restarts or work across instances.");
+        byte[] key = new byte[RANDOM_KEY_BYTES];
+        new SecureRandom().nextBytes(key);
+        return key;
+    }
+
+    private static byte[] hmac(SecretKeySpec key, String value) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(value.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 is not available", e);
+        }
+    }
+
+    public record ResumeClaims(Long gameId, Long userId, String tokenId, int moveSequence) {}
+}
@@ -3,19 +3,33 @@ package com.tbs.security;
 import com.tbs.exception.TokenBlacklistException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.Date;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
-public class TokenBlacklistService {
+public class TokenBlacklistService implements MessageListener {
 
     private static final Logger log = LoggerFactory.getLogger(TokenBlacklistService.class);
     private static final String BLACKLIST_PREFIX = "token:blacklist:";
+    private static final String BLACKLIST_INDEX_KEY = "token:blacklist:index";
+    public static final String BLACKLIST_CHANNEL = "token:blacklist:events";
+    private static final String ADD_EVENT = "add";
+    private static final String REMOVE_EVENT = "remove";
 
     private final RedisTemplate<String, String> redisTemplate;
+    private final Map<String, RecentRevocation> recentRevocations = new ConcurrentHashMap<>();
+    private volatile Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
 
     public TokenBlacklistService(RedisTemplate<String, String> redisTemplate) {
         this.redisTemplate = redisTemplate;
@@ -37,6 +51,9 @@ public class TokenBlacklistService {
 
             String key = BLACKLIST_PREFIX + tokenId;
             redisTemplate.opsForValue().set(key, "true", Duration.ofMillis(ttlMillis));
+            revoke(tokenId, expirationTime.getTime());
+            redisTemplate.opsForZSet().add(BLACKLIST_INDEX_KEY, tokenId, expirationTime.getTime());
+            redisTemplate.convertAndSend(BLACKLIST_CHANNEL, ADD_EVENT + ":" + tokenId + ":" + expirationTime.getTime());
             
             log.debug("Token added to blacklist: tokenId={}, ttl={}ms", tokenId, ttlMillis);
         } catch (Exception e) {
@@ -50,14 +67,15 @@ public class TokenBlacklistService {
             return false;
         }
 
-        try {
-            String key = BLACKLIST_PREFIX + tokenId;
-            Boolean exists = redisTemplate.hasKey(key);
-            return Boolean.TRUE.equals(exists);
-        } catch (Exception e) {
-            log.error("Failed to check token blacklist: tokenId={}", tokenId, e);
+        Long expiresAt = revokedTokens.get(tokenId);
+        if (expiresAt == null) {
             return false;
         }
+        if (expiresAt <= System.currentTimeMillis()) {
+            revokedTokens.remove(tokenId, expiresAt);
+            return false;
+        }
+        return true;
     }
 
     public void removeFromBlacklist(String tokenId) {
@@ -67,11 +85,78 @@ public class TokenBlacklistService {
 
         try {
             String key = BLACKLIST_PREFIX + tokenId;
+            unrevoke(tokenId);
             redisTemplate.delete(key);
+            redisTemplate.opsForZSet().remove(BLACKLIST_INDEX_KEY, tokenId);
+            redisTemplate.convertAndSend(BLACKLIST_CHANNEL, REMOVE_EVENT + ":" + tokenId);
             log.debug("Token removed from blacklist: tokenId={}", tokenId);
         } catch (Exception e) {
             log.error("Failed to remove token from blacklist: tokenId={}", tokenId, e);
         }
     }
-}
 
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split(":", 3);
+
+        try {
+            if (ADD_EVENT.equals(parts[0]) && parts.length == 3) {
+                revoke(parts[1], Long.parseLong(parts[2]));
+            } else if (REMOVE_EVENT.equals(parts[0]) && parts.length >= 2) {
+                unrevoke(parts[1]);
+            } else {
+                log.warn("Ignoring malformed token blacklist event: {}", body);
+            }
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed token blacklist event: {}", body);
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.jwt.blacklist.initial-sync-delay-ms:0}",
+            fixedDelayString = "${app.jwt.blacklist.resync-interval-ms:60000}"
+    )
+    public void resync() {
+        long now = System.currentTimeMillis();
+        revokedTokens.values().removeIf(expiresAt -> expiresAt <= now);
+
+        try {
+            redisTemplate.opsForZSet().removeRangeByScore(BLACKLIST_INDEX_KEY, 0, now);
+            Set<ZSetOperations.TypedTuple<String>> entries =
+                    redisTemplate.opsForZSet().rangeByScoreWithScores(BLACKLIST_INDEX_KEY, now, Double.POSITIVE_INFINITY);
+            if (entries == null) {
+                return;
+            }
+
+            Map<String, Long> snapshot = new ConcurrentHashMap<>();
+            for (ZSetOperations.TypedTuple<String> entry : entries) {
+                if (entry.getValue() != null && entry.getScore() != null) {
+                    snapshot.put(entry.getValue(), entry.getScore().longValue());
+                }
+            }
+            revokedTokens = snapshot;
+            recentRevocations.forEach((tokenId, revocation) -> {
+                if (revocation.revokedAt() >= now && revocation.expiresAt() > now) {
+                    snapshot.put(tokenId, revocation.expiresAt());
+                }
+            });
+            recentRevocations.values().removeIf(revocation -> revocation.revokedAt() < now);
+            log.debug("Token blacklist resynced: {} revoked tokens cached locally", revokedTokens.size());
+        } catch (Exception e) {
+            log.warn("Failed to resync token blacklist from Redis: {}", e.getMessage());
+        }
+    }
+
+    private void revoke(String tokenId, long expiresAt) {
+        revokedTokens.put(tokenId, expiresAt);
+        recentRevocations.put(tokenId, new RecentRevocation(expiresAt, System.currentTimeMillis()));
+    }
+
+    private void unrevoke(String tokenId) {
+        recentRevocations.remove(tokenId);
+        revokedTokens.remove(tokenId);
+    }
+
+    private record RecentRevocation(long expiresAt, long revokedAt) {}
+}
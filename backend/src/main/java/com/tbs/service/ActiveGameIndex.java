@@ -0,0 +1,139 @@
+package com.tbs.service;
+
+import com.tbs.repository.GameRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+@Service
+public class ActiveGameIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(ActiveGameIndex.class);
+    private static final String KEY_PREFIX = "active_game:";
+    private static final String READY_KEY = KEY_PREFIX + "index:ready";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final GameRepository gameRepository;
+    private final Duration entryTtl;
+    private final Duration readyTtl;
+    private final DefaultRedisScript<Long> releaseScript;
+
+    public ActiveGameIndex(
+            RedisTemplate<String, String> redisTemplate,
+            GameRepository gameRepository,
+            @Value("${app.active-game-index.entry-ttl-ms:86400000}") long entryTtlMs,
+            @Value("${app.active-game-index.ready-ttl-ms:180000}") long readyTtlMs
+    ) {
+        this.redisTemplate = Objects.requireNonNull(redisTemplate, "RedisTemplate cannot be null");
+        this.gameRepository = Objects.requireNonNull(gameRepository, "GameRepository cannot be null");
+        this.entryTtl = Duration.ofMillis(entryTtlMs);
+        this.readyTtl = Duration.ofMillis(readyTtlMs);
+        this.releaseScript = createReleaseScript();
+    }
+
+    private DefaultRedisScript<Long> createReleaseScript() {
+        String script =
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "    return redis.call('DEL', KEYS[1]) " +
+            "end " +
+            "return 0";
+
+        DefaultRedisScript<Long> redisScript = new DefaultRedisScript<>();
+        redisScript.setScriptText(script);
+        redisScript.setResultType(Long.class);
+        return redisScript;
+    }
+
+    public boolean hasActiveGame(Long userId) {
+        Objects.requireNonNull(userId, "UserId cannot be null");
+
+        String indexedGameId;
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(List.of(READY_KEY, KEY_PREFIX + userId));
+            if (values == null || values.size() < 2 || values.get(0) == null) {
+                return gameRepository.hasActivePvpGame(userId);
+            }
+            indexedGameId = values.get(1);
+        } catch (Exception e) {
+            log.warn("Active game index unavailable for user {}, falling back to database", userId, e);
+            return gameRepository.hasActivePvpGame(userId);
+        }
+
+        if (indexedGameId == null) {
+            return false;
+        }
+
+        if (gameRepository.hasActivePvpGame(userId)) {
+            return true;
+        }
+
+        log.debug("Evicting stale active game entry {} for user {}", indexedGameId, userId);
+        releaseEntry(userId, indexedGameId);
+        return false;
+    }
+
+    public void register(Long gameId, Long... userIds) {
+        Objects.requireNonNull(gameId, "GameId cannot be null");
+
+        for (Long userId : userIds) {
+            if (userId == null) {
+                continue;
+            }
+            try {
+                redisTemplate.opsForValue().set(KEY_PREFIX + userId, gameId.toString(), entryTtl);
+            } catch (Exception e) {
+                log.warn("Failed to index active game {} for user {}, invalidating index", gameId, userId, e);
+                invalidate();
+                return;
+            }
+        }
+    }
+
+    public void release(Long gameId, Long... userIds) {
+        Objects.requireNonNull(gameId, "GameId cannot be null");
+
+        for (Long userId : userIds) {
+            if (userId != null) {
+                releaseEntry(userId, gameId.toString());
+            }
+        }
+    }
+
+    public int rebuild() {
+        List<Object[]> activeGames = gameRepository.findActivePvpGamePlayers();
+        for (Object[] row : activeGames) {
+            String gameId = row[0].toString();
+            for (int i = 1; i < row.length; i++) {
+                if (row[i] != null) {
+                    redisTemplate.opsForValue().set(KEY_PREFIX + row[i], gameId, entryTtl);
+                }
+            }
+        }
+        redisTemplate.opsForValue().set(READY_KEY, "1", readyTtl);
+        log.debug("Rebuilt active game index from {} active PvP games", activeGames.size());
+        return activeGames.size();
+    }
+
+    private void releaseEntry(Long userId, String gameId) {
+        try {
+            redisTemplate.execute(releaseScript, List.of(KEY_PREFIX + userId), gameId);
+        } catch (Exception e) {
+            log.warn("Failed to release active game {} for user {} (non-critical)", gameId, userId, e);
+        }
+    }
+
+    private void invalidate() {
+        try {
+            redisTemplate.delete(READY_KEY);
+        } catch (Exception e) {
+            log.warn("Failed to invalidate active game index (non-critical)", e);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.tbs.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Component
+@Profile("!test")
+public class ActiveGameIndexScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(ActiveGameIndexScheduler.class);
+
+    private final ActiveGameIndex activeGameIndex;
+    private final AtomicBoolean isRebuilding = new AtomicBoolean(false);
+
+    public ActiveGameIndexScheduler(ActiveGameIndex activeGameIndex) {
+        this.activeGameIndex = activeGameIndex;
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.active-game-index.initial-delay-ms:5000}",
+            fixedDelayString = "${app.active-game-index.rebuild-interval-ms:60000}"
+    )
+    public void rebuildActiveGameIndex() {
+        if (!isRebuilding.compareAndSet(false, true)) {
+            log.warn("Active game index rebuild already in progress, skipping scheduled run");
+            return;
+        }
+
+        try {
+            activeGameIndex.rebuild();
+        } catch (Exception e) {
+            log.warn("Error in scheduled rebuild of active game index, lookups fall back to database", e);
+        } finally {
+            isRebuilding.set(false);
+        }
+    }
+}
@@ -36,19 +36,22 @@ public class AuthService {
     private final JwtTokenProvider jwtTokenProvider;
     private final TokenBlacklistService tokenBlacklistService;
     private final AuthenticationService authenticationService;
+    private final LastSeenAggregator lastSeenAggregator;
 
     public AuthService(
             UserRepository userRepository,
             PasswordEncoder passwordEncoder,
             JwtTokenProvider jwtTokenProvider,
             TokenBlacklistService tokenBlacklistService,
-            AuthenticationService authenticationService
+            AuthenticationService authenticationService,
+            LastSeenAggregator lastSeenAggregator
     ) {
         this.userRepository = Objects.requireNonNull(userRepository, "UserRepository cannot be null");
         this.passwordEncoder = Objects.requireNonNull(passwordEncoder, "PasswordEncoder cannot be null");
         this.jwtTokenProvider = Objects.requireNonNull(jwtTokenProvider, "JwtTokenProvider cannot be null");
         this.tokenBlacklistService = Objects.requireNonNull(tokenBlacklistService, "TokenBlacklistService cannot be null");
         this.authenticationService = Objects.requireNonNull(authenticationService, "AuthenticationService cannot be null");
+        this.lastSeenAggregator = Objects.requireNonNull(lastSeenAggregator, "LastSeenAggregator cannot be null");
     }
 
     public LoginResponse login(LoginRequest request) {
@@ -233,11 +236,7 @@ public class AuthService {
             throw new TokenBlacklistException("Failed to blacklist token");
         }
 
-        try {
-            userRepository.updateLastSeenAt(userId, Instant.now());
-        } catch (Exception e) {
-            log.error("Failed to update last seen timestamp: userId={}", userId, e);
-        }
+        lastSeenAggregator.record(userId, Instant.now());
 
         log.info("User logged out successfully: userId={}", userId);
 
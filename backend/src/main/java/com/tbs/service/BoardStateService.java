@@ -1,8 +1,11 @@
 package com.tbs.service;
 
 import com.tbs.dto.common.BoardState;
+import com.tbs.enums.BoardSize;
+import com.tbs.model.AbstractGame;
 import com.tbs.model.Game;
 import com.tbs.model.Move;
+import com.tbs.util.MoveLogCodec;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -14,6 +17,17 @@ public class BoardStateService {
 
     private static final Logger log = LoggerFactory.getLogger(BoardStateService.class);
 
+    public BoardState generateBoardState(AbstractGame game) {
+        return generateBoardState(game.getBoardSize(), game.getMoveLog());
+    }
+
+    public BoardState generateBoardState(BoardSize boardSize, byte[] moveLog) {
+        int size = boardSize.getValue();
+        String[][] cells = new String[size][size];
+        MoveLogCodec.decodeInto(moveLog, size, cells);
+        return new BoardState(cells);
+    }
+
     public BoardState generateBoardState(Game game, List<Move> moves) {
         int size = game.getBoardSize().getValue();
         String[][] cells = new String[size][size];
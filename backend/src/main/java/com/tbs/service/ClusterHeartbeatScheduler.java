@@ -0,0 +1,39 @@
+package com.tbs.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Component
+@Profile("!test")
+public class ClusterHeartbeatScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(ClusterHeartbeatScheduler.class);
+
+    private final ClusterMembership clusterMembership;
+    private final AtomicBoolean isBeating = new AtomicBoolean(false);
+
+    public ClusterHeartbeatScheduler(ClusterMembership clusterMembership) {
+        this.clusterMembership = clusterMembership;
+    }
+
+    @Scheduled(fixedDelayString = "${app.cluster.heartbeat-interval-ms:5000}")
+    public void heartbeat() {
+        if (!isBeating.compareAndSet(false, true)) {
+            log.warn("Cluster heartbeat already in progress, skipping scheduled run");
+            return;
+        }
+
+        try {
+            clusterMembership.heartbeat();
+        } catch (Exception e) {
+            log.warn("Error in scheduled cluster heartbeat", e);
+        } finally {
+            isBeating.set(false);
+        }
+    }
+}
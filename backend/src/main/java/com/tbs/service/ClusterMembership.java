@@ -0,0 +1,101 @@
+package com.tbs.service;
+
+import com.tbs.event.ClusterMembershipChangedEvent;
+import com.tbs.util.ConsistentHashRing;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+@Component
+public class ClusterMembership {
+
+    private static final Logger log = LoggerFactory.getLogger(ClusterMembership.class);
+    static final String MEMBERS_KEY = "cluster:nodes";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String nodeId;
+    private final long nodeTtlMs;
+    private final int virtualNodes;
+    private volatile ConsistentHashRing ring;
+
+    public ClusterMembership(
+            RedisTemplate<String, String> redisTemplate,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${app.cluster.node-id:}") String nodeId,
+            @Value("${app.cluster.node-ttl-ms:15000}") long nodeTtlMs,
+            @Value("${app.cluster.virtual-nodes:128}") int virtualNodes
+    ) {
+        this.redisTemplate = Objects.requireNonNull(redisTemplate, "RedisTemplate cannot be null");
+        this.eventPublisher = Objects.requireNonNull(eventPublisher, "ApplicationEventPublisher cannot be null");
+        this.nodeId = nodeId == null || nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId;
+        this.nodeTtlMs = nodeTtlMs;
+        this.virtualNodes = virtualNodes;
+        this.ring = new ConsistentHashRing(Set.of(this.nodeId), virtualNodes);
+        Gauge.builder("cluster.nodes", this, membership -> membership.ring.getNodes().size())
+                .description("Backend nodes currently in the game ownership ring")
+                .register(meterRegistry);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public Set<String> getNodes() {
+        return ring.getNodes();
+    }
+
+    public String ownerOf(Long gameId) {
+        return ring.ownerOf(gameId.toString());
+    }
+
+    public boolean isOwner(Long gameId) {
+        return nodeId.equals(ownerOf(gameId));
+    }
+
+    public void heartbeat() {
+        Set<String> liveNodes;
+        try {
+            long now = System.currentTimeMillis();
+            redisTemplate.opsForZSet().add(MEMBERS_KEY, nodeId, now);
+            redisTemplate.opsForZSet().removeRangeByScore(MEMBERS_KEY, Double.NEGATIVE_INFINITY, now - nodeTtlMs);
+            liveNodes = redisTemplate.opsForZSet().rangeByScore(MEMBERS_KEY, now - nodeTtlMs, Double.POSITIVE_INFINITY);
+        } catch (Exception e) {
+            log.warn("Cluster heartbeat failed, keeping current ring of {} node(s): {}",
+                    ring.getNodes().size(), e.getMessage());
+            return;
+        }
+
+        if (liveNodes == null || liveNodes.isEmpty()) {
+            liveNodes = Set.of(nodeId);
+        }
+        Set<String> previousNodes = ring.getNodes();
+        if (previousNodes.equals(liveNodes)) {
+            return;
+        }
+
+        ring = new ConsistentHashRing(liveNodes, virtualNodes);
+        log.info("Cluster membership changed: {} -> {}", previousNodes, ring.getNodes());
+        eventPublisher.publishEvent(new ClusterMembershipChangedEvent(previousNodes, ring.getNodes()));
+    }
+
+    @PreDestroy
+    public void leave() {
+        try {
+            redisTemplate.opsForZSet().remove(MEMBERS_KEY, nodeId);
+        } catch (Exception e) {
+            log.debug("Failed to leave cluster membership, entry expires by TTL: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.tbs.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Component
+@Profile("!test")
+public class GameArchiveScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(GameArchiveScheduler.class);
+
+    private final GameArchiveService gameArchiveService;
+    private final AtomicBoolean isArchiving = new AtomicBoolean(false);
+
+    public GameArchiveScheduler(GameArchiveService gameArchiveService) {
+        this.gameArchiveService = gameArchiveService;
+    }
+
+    @Scheduled(cron = "${app.archive.cron:0 30 3 * * *}")
+    public void archiveFinishedGames() {
+        if (!isArchiving.compareAndSet(false, true)) {
+            log.warn("Game archival already in progress, skipping scheduled run");
+            return;
+        }
+
+        try {
+            gameArchiveService.archiveFinishedGames();
+        } catch (Exception e) {
+            log.error("Error in scheduled archival of finished games", e);
+        } finally {
+            isArchiving.set(false);
+        }
+    }
+}
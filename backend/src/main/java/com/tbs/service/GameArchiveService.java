@@ -0,0 +1,86 @@
+package com.tbs.service;
+
+import com.tbs.config.ReplicaRead;
+import com.tbs.dto.game.GameListItem;
+import com.tbs.enums.GameStatus;
+import com.tbs.enums.GameType;
+import com.tbs.model.ArchivedGame;
+import com.tbs.model.ArchivedMove;
+import com.tbs.repository.ArchivedGameRepository;
+import com.tbs.repository.ArchivedMoveRepository;
+import com.tbs.repository.projection.GameBoardView;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+@Service
+public class GameArchiveService {
+
+    private static final Logger log = LoggerFactory.getLogger(GameArchiveService.class);
+
+    private final ArchivedGameRepository archivedGameRepository;
+    private final ArchivedMoveRepository archivedMoveRepository;
+    private final int finishedAfterDays;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    public GameArchiveService(
+            ArchivedGameRepository archivedGameRepository,
+            ArchivedMoveRepository archivedMoveRepository,
+            @Value("${app.archive.finished-after-days:30}") int finishedAfterDays,
+            @Value("${app.archive.batch-size:500}") int batchSize,
+            @Value("${app.archive.max-batches-per-run:100}") int maxBatchesPerRun
+    ) {
+        this.archivedGameRepository = archivedGameRepository;
+        this.archivedMoveRepository = archivedMoveRepository;
+        this.finishedAfterDays = finishedAfterDays;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    @ReplicaRead
+    @Transactional(readOnly = true)
+    public Optional<ArchivedGame> findArchivedGame(Long gameId) {
+        return archivedGameRepository.findByIdWithPlayers(gameId);
+    }
+
+    @ReplicaRead
+    @Transactional(readOnly = true)
+    public List<ArchivedMove> findArchivedMoves(Long gameId) {
+        return archivedMoveRepository.findByGameIdOrderByMoveOrderAsc(gameId);
+    }
+
+    @ReplicaRead
+    @Transactional(readOnly = true)
+    public Page<GameListItem> findArchivedGames(Long userId, List<GameStatus> status, GameType gameType, Pageable pageable) {
+        return archivedGameRepository.findGameListItems(userId, status, gameType, pageable);
+    }
+
+    @ReplicaRead
+    @Transactional(readOnly = true)
+    public Optional<GameBoardView> findArchivedBoardView(Long gameId) {
+        return archivedGameRepository.findBoardViewById(gameId);
+    }
+
+    public int archiveFinishedGames() {
+        int archived = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            int moved = archivedGameRepository.archiveFinishedGames(finishedAfterDays, batchSize);
+            archived += moved;
+            if (moved < batchSize) {
+                break;
+            }
+        }
+        if (archived > 0) {
+            log.info("Archived {} finished games older than {} days", archived, finishedAfterDays);
+        }
+        return archived;
+    }
+}
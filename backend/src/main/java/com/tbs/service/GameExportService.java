@@ -0,0 +1,316 @@
+package com.tbs.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.tbs.dto.game.GameExportFilter;
+import com.tbs.enums.ExportFormat;
+import com.tbs.exception.ForbiddenException;
+import com.tbs.exception.RateLimitExceededException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Service
+public class GameExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(GameExportService.class);
+    private static final String COLUMNS =
+            "g.id, g.game_type, g.board_size, g.status, g.bot_difficulty, g.player1_id, g.player2_id, " +
+            "g.winner_id, g.move_count, g.move_log, g.created_at, g.finished_at";
+    private static final String[] CSV_HEADER = {
+            "id", "gameType", "boardSize", "status", "botDifficulty", "player1Id", "player2Id",
+            "winnerId", "moveCount", "moveLog", "createdAt", "finishedAt", "archived"
+    };
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final JsonFactory jsonFactory;
+    private final Semaphore exportPermits;
+    private final int flushEveryRows;
+    private final Set<Long> allGamesUserIds;
+
+    public GameExportService(
+            DataSource dataSource,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.export.fetch-size:1000}") int fetchSize,
+            @Value("${app.export.flush-every-rows:500}") int flushEveryRows,
+            @Value("${app.export.max-concurrent:2}") int maxConcurrentExports,
+            @Value("${app.export.all-games-user-ids:}") Set<Long> allGamesUserIds
+    ) {
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.setFetchSize(fetchSize);
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(template);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.jsonFactory = new JsonFactory();
+        this.jsonFactory.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.exportPermits = new Semaphore(maxConcurrentExports);
+        this.flushEveryRows = flushEveryRows;
+        this.allGamesUserIds = Set.copyOf(allGamesUserIds);
+    }
+
+    public void validateAllGamesExport(Long userId) {
+        if (!allGamesUserIds.contains(userId)) {
+            throw new ForbiddenException("You are not allowed to export all games");
+        }
+    }
+
+    public ExportStream export(GameExportFilter filter, ExportFormat format) {
+        if (!exportPermits.tryAcquire()) {
+            throw new RateLimitExceededException("Too many exports in progress, try again later", 0, 60);
+        }
+        return new ExportStream(filter, format);
+    }
+
+    public long writeExport(GameExportFilter filter, ExportFormat format, OutputStream outputStream) throws IOException {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        String where = buildWhereClause(filter, params);
+        String sql = "SELECT " + COLUMNS + ", FALSE AS archived FROM games g" + where +
+                " UNION ALL " +
+                "SELECT " + COLUMNS + ", TRUE AS archived FROM games_archive g" + where;
+
+        long started = System.currentTimeMillis();
+        ExportRowWriter writer = format == ExportFormat.CSV
+                ? new CsvRowWriter(outputStream)
+                : new NdjsonRowWriter(jsonFactory.createGenerator(outputStream));
+
+        long[] rows = {0};
+        try {
+            writer.start();
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(sql, params, rs -> {
+                writeRow(writer, rs);
+                if (++rows[0] % flushEveryRows == 0) {
+                    flush(writer);
+                }
+            }));
+            writer.finish();
+        } catch (UncheckedIOException e) {
+            log.info("Game export aborted after {} rows: {}", rows[0], e.getCause().getMessage());
+            throw e.getCause();
+        }
+
+        log.info("Exported {} games as {} in {}ms (userId={})",
+                rows[0], format.getValue(), System.currentTimeMillis() - started, filter.userId());
+        return rows[0];
+    }
+
+    private String buildWhereClause(GameExportFilter filter, MapSqlParameterSource params) {
+        List<String> conditions = new ArrayList<>();
+        if (filter.userId() != null) {
+            conditions.add("(g.player1_id = :userId OR g.player2_id = :userId)");
+            params.addValue("userId", filter.userId());
+        }
+        if (filter.createdFrom() != null) {
+            conditions.add("g.created_at >= :createdFrom");
+            params.addValue("createdFrom", Timestamp.from(filter.createdFrom()));
+        }
+        if (filter.createdTo() != null) {
+            conditions.add("g.created_at < :createdTo");
+            params.addValue("createdTo", Timestamp.from(filter.createdTo()));
+        }
+        if (filter.gameType() != null) {
+            conditions.add("g.game_type = :gameType");
+            params.addValue("gameType", filter.gameType().getValue());
+        }
+        if (filter.boardSize() != null) {
+            conditions.add("g.board_size = :boardSize");
+            params.addValue("boardSize", filter.boardSize().getValue());
+        }
+        return conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+    }
+
+    private static void writeRow(ExportRowWriter writer, ResultSet rs) throws SQLException {
+        try {
+            writer.row(rs);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void flush(ExportRowWriter writer) {
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Long nullableLong(ResultSet rs, String column) throws SQLException {
+        long value = rs.getLong(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    private static String nullableTimestamp(ResultSet rs, String column) throws SQLException {
+        Timestamp timestamp = rs.getTimestamp(column);
+        return timestamp != null ? timestamp.toInstant().toString() : null;
+    }
+
+    private static String packedMoves(ResultSet rs) throws SQLException {
+        byte[] moveLog = rs.getBytes("move_log");
+        return Base64.getEncoder().encodeToString(moveLog != null ? moveLog : new byte[0]);
+    }
+
+    private interface ExportRowWriter {
+
+        void start() throws IOException;
+
+        void row(ResultSet rs) throws SQLException, IOException;
+
+        void flush() throws IOException;
+
+        void finish() throws IOException;
+    }
+
+    private static final class NdjsonRowWriter implements ExportRowWriter {
+
+        private final JsonGenerator generator;
+
+        private NdjsonRowWriter(JsonGenerator generator) {
+            this.generator = generator;
+        }
+
+        @Override
+        public void start() {
+        }
+
+        @Override
+        public void row(ResultSet rs) throws SQLException, IOException {
+            generator.writeStartObject();
+            generator.writeNumberField("id", rs.getLong("id"));
+            generator.writeStringField("gameType", rs.getString("game_type"));
+            generator.writeNumberField("boardSize", rs.getInt("board_size"));
+            generator.writeStringField("status", rs.getString("status"));
+            generator.writeStringField("botDifficulty", rs.getString("bot_difficulty"));
+            writeNullableNumber("player1Id", nullableLong(rs, "player1_id"));
+            writeNullableNumber("player2Id", nullableLong(rs, "player2_id"));
+            writeNullableNumber("winnerId", nullableLong(rs, "winner_id"));
+            generator.writeNumberField("moveCount", rs.getInt("move_count"));
+            generator.writeStringField("moveLog", packedMoves(rs));
+            generator.writeStringField("createdAt", nullableTimestamp(rs, "created_at"));
+            generator.writeStringField("finishedAt", nullableTimestamp(rs, "finished_at"));
+            generator.writeBooleanField("archived", rs.getBoolean("archived"));
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        private void writeNullableNumber(String field, Long value) throws IOException {
+            if (value == null) {
+                generator.writeNullField(field);
+            } else {
+                generator.writeNumberField(field, value);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            generator.flush();
+        }
+
+        @Override
+        public void finish() throws IOException {
+            generator.close();
+        }
+    }
+
+    private static final class CsvRowWriter implements ExportRowWriter {
+
+        private final Writer writer;
+
+        private CsvRowWriter(OutputStream outputStream) {
+            this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void start() throws IOException {
+            writer.write(String.join(",", CSV_HEADER));
+            writer.write('\n');
+        }
+
+        @Override
+        public void row(ResultSet rs) throws SQLException, IOException {
+            writeValue(rs.getLong("id"));
+            writeValue(rs.getString("game_type"));
+            writeValue(rs.getInt("board_size"));
+            writeValue(rs.getString("status"));
+            writeValue(rs.getString("bot_difficulty"));
+            writeValue(nullableLong(rs, "player1_id"));
+            writeValue(nullableLong(rs, "player2_id"));
+            writeValue(nullableLong(rs, "winner_id"));
+            writeValue(rs.getInt("move_count"));
+            writeValue(packedMoves(rs));
+            writeValue(nullableTimestamp(rs, "created_at"));
+            writeValue(nullableTimestamp(rs, "finished_at"));
+            writer.write(String.valueOf(rs.getBoolean("archived")));
+            writer.write('\n');
+        }
+
+        private void writeValue(Object value) throws IOException {
+            if (value != null) {
+                writer.write(value.toString());
+            }
+            writer.write(',');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writer.flush();
+        }
+
+        @Override
+        public void finish() throws IOException {
+            writer.flush();
+        }
+    }
+
+    public final class ExportStream implements StreamingResponseBody {
+
+        private final GameExportFilter filter;
+        private final ExportFormat format;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private ExportStream(GameExportFilter filter, ExportFormat format) {
+            this.filter = filter;
+            this.format = format;
+        }
+
+        @Override
+        public void writeTo(OutputStream outputStream) throws IOException {
+            try {
+                writeExport(filter, format, outputStream);
+            } finally {
+                release();
+            }
+        }
+
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                exportPermits.release();
+            }
+        }
+    }
+}
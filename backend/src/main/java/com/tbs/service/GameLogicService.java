@@ -3,17 +3,15 @@ package com.tbs.service;
 import com.tbs.dto.common.BoardState;
 import com.tbs.enums.PlayerSymbol;
 import com.tbs.model.Game;
-import com.tbs.model.Move;
+import com.tbs.util.MoveLogCodec;
 import org.springframework.stereotype.Service;
 
-import java.util.Collections;
-import java.util.List;
 import java.util.Objects;
 
 @Service
 public class GameLogicService {
 
-    public void validateMove(Game game, List<Move> existingMoves, int row, int col, PlayerSymbol playerSymbol) {
+    public void validateMove(Game game, int row, int col, PlayerSymbol playerSymbol) {
         int boardSize = game.getBoardSize().getValue();
         
         if (row < 0 || row >= boardSize) {
@@ -28,19 +26,14 @@ public class GameLogicService {
             );
         }
         
-        List<Move> movesToCheck = existingMoves != null ? existingMoves : Collections.emptyList();
-        
-        boolean positionOccupied = movesToCheck.stream()
-            .anyMatch(m -> m.getRow() == row && m.getCol() == col);
-        
-        if (positionOccupied) {
+        if (MoveLogCodec.isOccupied(game.getMoveLog(), boardSize, row, col)) {
             throw new com.tbs.exception.InvalidMoveException(
                 String.format("Position (%d, %d) is already occupied", row, col)
             );
         }
         
         PlayerSymbol currentSymbol = game.getCurrentPlayerSymbol();
-        boolean isFirstMove = movesToCheck.isEmpty();
+        boolean isFirstMove = MoveLogCodec.moveCount(game.getMoveLog()) == 0;
         
         if (currentSymbol == null && !isFirstMove) {
             throw new com.tbs.exception.InvalidMoveException(
@@ -0,0 +1,112 @@
+package com.tbs.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+@Component
+public class GameMailbox {
+
+    private static final Logger log = LoggerFactory.getLogger(GameMailbox.class);
+    private static final ThreadLocal<Long> CURRENT_GAME = new ThreadLocal<>();
+
+    private final Executor executor;
+    private final Map<Long, Mailbox> mailboxes = new ConcurrentHashMap<>();
+
+    public GameMailbox(@Qualifier("gameMailboxExecutor") Executor executor, MeterRegistry meterRegistry) {
+        this.executor = Objects.requireNonNull(executor, "Executor cannot be null");
+        Gauge.builder("game.mailbox.active", mailboxes, Map::size)
+                .description("Games with queued or running commands")
+                .register(meterRegistry);
+    }
+
+    public void submit(Long gameId, Runnable command) {
+        mailboxes.compute(gameId, (id, mailbox) -> {
+            Mailbox target = mailbox != null ? mailbox : new Mailbox();
+            target.commands.add(command);
+            if (!target.scheduled) {
+                target.scheduled = true;
+                executor.execute(() -> drain(id, target));
+            }
+            return target;
+        });
+    }
+
+    public <T> T call(Long gameId, Supplier<T> command) {
+        if (gameId.equals(CURRENT_GAME.get())) {
+            return command.get();
+        }
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        submit(gameId, () -> {
+            try {
+                result.complete(command.get());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        });
+
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    int activeMailboxes() {
+        return mailboxes.size();
+    }
+
+    private void drain(Long gameId, Mailbox mailbox) {
+        CURRENT_GAME.set(gameId);
+        try {
+            Runnable command;
+            while ((command = mailbox.commands.poll()) != null) {
+                try {
+                    command.run();
+                } catch (Exception e) {
+                    log.error("Game command failed: gameId={}", gameId, e);
+                }
+            }
+        } finally {
+            CURRENT_GAME.remove();
+        }
+
+        mailboxes.compute(gameId, (id, current) -> {
+            if (current != mailbox) {
+                return current;
+            }
+            if (mailbox.commands.isEmpty()) {
+                mailbox.scheduled = false;
+                return null;
+            }
+            executor.execute(() -> drain(id, mailbox));
+            return mailbox;
+        });
+    }
+
+    private static final class Mailbox {
+        private final Queue<Runnable> commands = new ConcurrentLinkedQueue<>();
+        private boolean scheduled;
+    }
+}
@@ -1,5 +1,6 @@
 package com.tbs.service;
 
+import com.tbs.config.ReplicaRead;
 import com.tbs.dto.common.BoardState;
 import com.tbs.dto.game.*;
 import com.tbs.dto.move.MoveListItem;
@@ -8,18 +9,23 @@ import com.tbs.dto.user.WinnerInfo;
 import com.tbs.enums.BoardSize;
 import com.tbs.enums.GameStatus;
 import com.tbs.enums.GameType;
+import com.tbs.event.GameStatusChangedEvent;
 import com.tbs.exception.BadRequestException;
 import com.tbs.exception.GameNotFoundException;
 import com.tbs.exception.UserNotFoundException;
 import com.tbs.mapper.MoveMapper;
+import com.tbs.model.AbstractGame;
+import com.tbs.model.ArchivedGame;
 import com.tbs.model.Game;
 import com.tbs.model.Move;
 import com.tbs.model.User;
 import com.tbs.repository.GameRepository;
 import com.tbs.repository.MoveRepository;
 import com.tbs.repository.UserRepository;
+import com.tbs.repository.projection.GameBoardView;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -27,7 +33,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
@@ -42,16 +47,21 @@ public class GameService {
     private final BoardStateService boardStateService;
     private final GameValidationService gameValidationService;
     private final PointsService pointsService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final GameArchiveService gameArchiveService;
 
     public GameService(GameRepository gameRepository, MoveRepository moveRepository,
                        UserRepository userRepository, BoardStateService boardStateService,
-                       GameValidationService gameValidationService, PointsService pointsService) {
+                       GameValidationService gameValidationService, PointsService pointsService,
+                       ApplicationEventPublisher eventPublisher, GameArchiveService gameArchiveService) {
         this.gameRepository = Objects.requireNonNull(gameRepository, "GameRepository cannot be null");
         this.moveRepository = Objects.requireNonNull(moveRepository, "MoveRepository cannot be null");
         this.userRepository = Objects.requireNonNull(userRepository, "UserRepository cannot be null");
         this.boardStateService = Objects.requireNonNull(boardStateService, "BoardStateService cannot be null");
         this.gameValidationService = Objects.requireNonNull(gameValidationService, "GameValidationService cannot be null");
         this.pointsService = Objects.requireNonNull(pointsService, "PointsService cannot be null");
+        this.eventPublisher = Objects.requireNonNull(eventPublisher, "ApplicationEventPublisher cannot be null");
+        this.gameArchiveService = Objects.requireNonNull(gameArchiveService, "GameArchiveService cannot be null");
     }
 
     @Transactional
@@ -76,7 +86,7 @@ public class GameService {
 
         Game savedGame = gameRepository.save(game);
 
-        BoardState boardState = boardStateService.generateBoardState(savedGame, List.of());
+        BoardState boardState = boardStateService.generateBoardState(savedGame);
 
         return mapToCreateGameResponse(savedGame, boardState);
     }
@@ -87,14 +97,16 @@ public class GameService {
             throw new BadRequestException("Game ID cannot be null");
         }
         log.debug("Retrieving game detail: gameId={}, userId={}", gameId, userId);
-        Game game = gameRepository.findByIdWithPlayers(gameId)
-                .orElseThrow(() -> new GameNotFoundException("Game not found"));
+        Game game = gameRepository.findByIdWithPlayers(gameId).orElse(null);
+        if (game == null) {
+            return getArchivedGameDetail(gameId, userId);
+        }
 
         gameValidationService.validateParticipation(game, userId);
 
-        List<Move> moves = moveRepository.findByGameIdOrderByMoveOrderAsc(gameId);
-        BoardState boardState = boardStateService.generateBoardState(game, moves);
+        BoardState boardState = boardStateService.generateBoardState(game);
 
+        List<Move> moves = moveRepository.findByGameIdOrderByMoveOrderAsc(gameId);
         List<MoveListItem> moveListItems = moves.stream()
                 .map(MoveMapper::toMoveListItem)
                 .collect(Collectors.toList());
@@ -102,58 +114,55 @@ public class GameService {
         return mapToGameDetailResponse(game, boardState, moves.size(), moveListItems);
     }
 
-    @Transactional(readOnly = true)
-    public BoardStateResponse getBoardState(Long gameId, Long userId) {
-        log.debug("Retrieving board state: gameId={}, userId={}", gameId, userId);
-        Game game = gameRepository.findById(gameId)
+    private GameDetailResponse getArchivedGameDetail(Long gameId, Long userId) {
+        ArchivedGame game = gameArchiveService.findArchivedGame(gameId)
                 .orElseThrow(() -> new GameNotFoundException("Game not found"));
 
         gameValidationService.validateParticipation(game, userId);
 
-        List<Move> moves = moveRepository.findByGameIdOrderByMoveOrderAsc(gameId);
-        BoardState boardState = boardStateService.generateBoardState(game, moves);
-
-        BoardStateResponse.LastMove lastMoveDto = moveRepository
-                .findFirstByGameIdOrderByMoveOrderDesc(gameId)
-                .map(move -> new BoardStateResponse.LastMove(
-                        move.getRow(),
-                        move.getCol(),
-                        move.getPlayerSymbol(),
-                        move.getMoveOrder()))
-                .orElse(null);
-
-        return new BoardStateResponse(boardState, game.getBoardSize(), moves.size(), lastMoveDto);
+        BoardState boardState = boardStateService.generateBoardState(game);
+
+        List<MoveListItem> moveListItems = gameArchiveService.findArchivedMoves(gameId).stream()
+                .map(MoveMapper::toMoveListItem)
+                .collect(Collectors.toList());
+
+        return mapToGameDetailResponse(game, boardState, moveListItems.size(), moveListItems);
     }
 
     @Transactional(readOnly = true)
-    public GameListResponse getGames(Long userId, List<GameStatus> status, GameType gameType, Pageable pageable) {
-        log.debug("Retrieving games list: userId={}, status={}, gameType={}, page={}", userId, status, gameType, pageable.isPaged() ? pageable.getPageNumber() : "unpaged");
-        Page<Game> games = gameRepository.findByUserIdAndFilters(userId, status, gameType, pageable);
+    public BoardStateResponse getBoardState(Long gameId, Long userId) {
+        log.debug("Retrieving board state: gameId={}, userId={}", gameId, userId);
+        GameBoardView game = gameRepository.findBoardViewById(gameId)
+                .or(() -> gameArchiveService.findArchivedBoardView(gameId))
+                .orElseThrow(() -> new GameNotFoundException("Game not found"));
 
-        List<Long> gameIds = games.getContent().stream()
-                .map(Game::getId)
-                .collect(Collectors.toList());
+        gameValidationService.validateParticipation(game.gameId(), game.player1Id(), game.player2Id(), userId);
 
-        Map<Long, Long> moveCountsMap = gameIds.isEmpty()
-                ? Map.of()
-                : moveRepository.getMoveCountsByGameIds(gameIds);
+        BoardState boardState = boardStateService.generateBoardState(game.boardSize(), game.moveLog());
 
-        List<GameListItem> items = games.getContent().stream()
-                .map(g -> {
-                    long totalMoves = moveCountsMap.getOrDefault(g.getId(), 0L);
-                    return mapToGameListItem(g, totalMoves);
-                })
-                .collect(Collectors.toList());
+        int totalMoves = game.moveCount();
+        BoardStateResponse.LastMove lastMoveDto = null;
+        if (totalMoves > 0 && game.lastMoveSymbol() != null) {
+            lastMoveDto = new BoardStateResponse.LastMove(
+                    game.lastMoveRow(),
+                    game.lastMoveCol(),
+                    game.lastMoveSymbol(),
+                    totalMoves);
+        }
 
-        return new GameListResponse(
-                items,
-                games.getTotalElements(),
-                games.getTotalPages(),
-                games.getSize(),
-                games.getNumber(),
-                games.isFirst(),
-                games.isLast()
-        );
+        return new BoardStateResponse(boardState, game.boardSize(), totalMoves, lastMoveDto);
+    }
+
+    @ReplicaRead
+    @Transactional(readOnly = true)
+    public GameListResponse getGames(Long userId, List<GameStatus> status, GameType gameType, boolean archived,
+                                     Pageable pageable) {
+        log.debug("Retrieving games list: userId={}, status={}, gameType={}, archived={}, page={}", userId, status, gameType, archived, pageable.isPaged() ? pageable.getPageNumber() : "unpaged");
+        Page<GameListItem> games = archived
+                ? gameArchiveService.findArchivedGames(userId, status, gameType, pageable)
+                : gameRepository.findGameListItems(userId, status, gameType, pageable);
+
+        return mapToGameListResponse(games);
     }
 
     @Transactional
@@ -183,6 +192,7 @@ public class GameService {
             pointsService.awardPointsForWin(updatedGame, winner);
         }
 
+        eventPublisher.publishEvent(new GameStatusChangedEvent(gameId, oldStatus, newStatus));
         log.info("Game {} status updated from {} to {} by user {}", gameId, oldStatus, newStatus, userId);
 
         return new UpdateGameStatusResponse(
@@ -241,7 +251,7 @@ public class GameService {
         );
     }
 
-    private GameDetailResponse mapToGameDetailResponse(Game game, BoardState boardState, int totalMoves,
+    private GameDetailResponse mapToGameDetailResponse(AbstractGame game, BoardState boardState, int totalMoves,
                                                        List<MoveListItem> moves) {
         return new GameDetailResponse(
                 game.getId(),
@@ -263,20 +273,15 @@ public class GameService {
         );
     }
 
-    private GameListItem mapToGameListItem(Game game, long totalMoves) {
-        return new GameListItem(
-                game.getId(),
-                game.getGameType(),
-                game.getBoardSize(),
-                game.getStatus(),
-                game.getPlayer1().getUsername(),
-                game.getPlayer2() != null ? game.getPlayer2().getUsername() : null,
-                game.getWinner() != null ? game.getWinner().getUsername() : null,
-                game.getBotDifficulty(),
-                (int) totalMoves,
-                game.getCreatedAt(),
-                game.getLastMoveAt(),
-                game.getFinishedAt()
+    private GameListResponse mapToGameListResponse(Page<GameListItem> games) {
+        return new GameListResponse(
+                games.getContent(),
+                games.getTotalElements(),
+                games.getTotalPages(),
+                games.getSize(),
+                games.getNumber(),
+                games.isFirst(),
+                games.isLast()
         );
     }
 
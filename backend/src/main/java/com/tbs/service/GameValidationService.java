@@ -1,7 +1,7 @@
 package com.tbs.service;
 
 import com.tbs.exception.ForbiddenException;
-import com.tbs.model.Game;
+import com.tbs.model.AbstractGame;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -11,14 +11,22 @@ public class GameValidationService {
 
     private static final Logger log = LoggerFactory.getLogger(GameValidationService.class);
 
-    public void validateParticipation(Game game, Long userId) {
+    public void validateParticipation(AbstractGame game, Long userId) {
         if (game.getPlayer1() == null) {
             log.error("Game {} has null player1", game.getId());
             throw new IllegalStateException("Game must have player1");
         }
-        if (!game.getPlayer1().getId().equals(userId) &&
-                (game.getPlayer2() == null || !game.getPlayer2().getId().equals(userId))) {
-            log.warn("User {} attempted to access game {} they are not a participant of", userId, game.getId());
+        validateParticipation(
+                game.getId(),
+                game.getPlayer1().getId(),
+                game.getPlayer2() != null ? game.getPlayer2().getId() : null,
+                userId
+        );
+    }
+
+    public void validateParticipation(Long gameId, Long player1Id, Long player2Id, Long userId) {
+        if (userId == null || (!userId.equals(player1Id) && !userId.equals(player2Id))) {
+            log.warn("User {} attempted to access game {} they are not a participant of", userId, gameId);
             throw new ForbiddenException("You are not a participant of this game");
         }
     }
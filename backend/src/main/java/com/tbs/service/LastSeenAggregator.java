@@ -0,0 +1,122 @@
+package com.tbs.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class LastSeenAggregator {
+
+    private static final Logger log = LoggerFactory.getLogger(LastSeenAggregator.class);
+    private static final String UPDATE_PREFIX = "MERGE INTO users u USING (VALUES ";
+    private static final String UPDATE_ROW = "(CAST(? AS BIGINT), CAST(? AS TIMESTAMP WITH TIME ZONE))";
+    private static final String UPDATE_SUFFIX = ") AS v(id, last_seen_at) ON u.id = v.id " +
+            "WHEN MATCHED AND (u.last_seen_at IS NULL OR u.last_seen_at < v.last_seen_at) " +
+            "THEN UPDATE SET last_seen_at = v.last_seen_at";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final ConcurrentHashMap<Long, Instant> pending = new ConcurrentHashMap<>();
+    private final Counter flushedCounter;
+
+    public LastSeenAggregator(
+            DataSource dataSource,
+            @Value("${app.last-seen.flush-batch-size:500}") int batchSize,
+            MeterRegistry meterRegistry
+    ) {
+        this.jdbcTemplate = new JdbcTemplate(Objects.requireNonNull(dataSource, "DataSource cannot be null"));
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Last seen flush batch size must be positive");
+        }
+        this.batchSize = batchSize;
+        Gauge.builder("users.last_seen.pending", pending, Map::size)
+                .description("Last seen timestamps waiting to be flushed to the users table")
+                .register(meterRegistry);
+        this.flushedCounter = Counter.builder("users.last_seen.flushed")
+                .register(meterRegistry);
+    }
+
+    public void record(Long userId, Instant timestamp) {
+        pending.merge(userId, timestamp, (current, next) -> next.isAfter(current) ? next : current);
+    }
+
+    public Instant merge(Long userId, Instant persisted) {
+        Instant pendingTimestamp = pending.get(userId);
+        if (pendingTimestamp == null) {
+            return persisted;
+        }
+        return persisted == null || pendingTimestamp.isAfter(persisted) ? pendingTimestamp : persisted;
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    public int flush() {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        List<Map.Entry<Long, Instant>> snapshot = new ArrayList<>(pending.size());
+        pending.forEach((userId, timestamp) -> snapshot.add(new AbstractMap.SimpleImmutableEntry<>(userId, timestamp)));
+
+        int flushed = 0;
+        for (int from = 0; from < snapshot.size(); from += batchSize) {
+            List<Map.Entry<Long, Instant>> batch = snapshot.subList(from, Math.min(from + batchSize, snapshot.size()));
+            jdbcTemplate.update(buildUpdateSql(batch.size()), toArguments(batch));
+            batch.forEach(entry -> pending.remove(entry.getKey(), entry.getValue()));
+            flushed += batch.size();
+        }
+
+        flushedCounter.increment(flushed);
+        log.debug("Flushed {} last seen timestamps", flushed);
+        return flushed;
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.warn("Failed to flush {} pending last seen timestamps on shutdown", pending.size(), e);
+        }
+    }
+
+    private static String buildUpdateSql(int rows) {
+        StringBuilder sql = new StringBuilder(UPDATE_PREFIX.length() + rows * (UPDATE_ROW.length() + 2) + UPDATE_SUFFIX.length());
+        sql.append(UPDATE_PREFIX);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(UPDATE_ROW);
+        }
+        return sql.append(UPDATE_SUFFIX).toString();
+    }
+
+    private static Object[] toArguments(List<Map.Entry<Long, Instant>> batch) {
+        Object[] args = new Object[batch.size() * 2];
+        int index = 0;
+        for (Map.Entry<Long, Instant> entry : batch) {
+            args[index++] = entry.getKey();
+            args[index++] = entry.getValue().atOffset(ZoneOffset.UTC);
+        }
+        return args;
+    }
+}
@@ -0,0 +1,40 @@
+package com.tbs.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Component
+@Profile("!test")
+public class LastSeenFlushScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(LastSeenFlushScheduler.class);
+
+    private final LastSeenAggregator lastSeenAggregator;
+    private final AtomicBoolean isFlushing = new AtomicBoolean(false);
+
+    public LastSeenFlushScheduler(LastSeenAggregator lastSeenAggregator) {
+        this.lastSeenAggregator = lastSeenAggregator;
+    }
+
+    @Scheduled(fixedDelayString = "${app.last-seen.flush-interval-ms:5000}")
+    public void flushLastSeen() {
+        if (!isFlushing.compareAndSet(false, true)) {
+            log.warn("Last seen flush already in progress, skipping scheduled run");
+            return;
+        }
+
+        try {
+            lastSeenAggregator.flush();
+        } catch (Exception e) {
+            log.warn("Error in scheduled last seen flush, {} timestamps kept for retry",
+                    lastSeenAggregator.pendingCount(), e);
+        } finally {
+            isFlushing.set(false);
+        }
+    }
+}
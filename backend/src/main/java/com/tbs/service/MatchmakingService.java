@@ -27,6 +27,7 @@ public class MatchmakingService {
     private static final int DEFAULT_ESTIMATED_WAIT_TIME = 30;
 
     private final RedisService redisService;
+    private final ActiveGameIndex activeGameIndex;
     private final GameRepository gameRepository;
     private final UserRepository userRepository;
 
@@ -39,9 +40,10 @@ public class MatchmakingService {
         return points;
     }
 
-    public MatchmakingService(RedisService redisService,
+    public MatchmakingService(RedisService redisService, ActiveGameIndex activeGameIndex,
                              GameRepository gameRepository, UserRepository userRepository) {
         this.redisService = redisService;
+        this.activeGameIndex = activeGameIndex;
         this.gameRepository = gameRepository;
         this.userRepository = userRepository;
     }
@@ -58,7 +60,7 @@ public class MatchmakingService {
         try {
             boolean added = redisService.addToQueueIfNotActive(userId, request.boardSize());
             if (!added) {
-                if (gameRepository.hasActivePvpGame(userId)) {
+                if (activeGameIndex.hasActiveGame(userId)) {
                     throw new UserHasActiveGameException("User already has an active PvP game");
                 }
                 throw new UserAlreadyInQueueException("User is already in the matchmaking queue");
@@ -72,7 +74,7 @@ public class MatchmakingService {
                     List<Long> potentialMatches = redisService.getQueueForBoardSize(request.boardSize())
                             .stream()
                             .filter(id -> !id.equals(userId))
-                            .filter(id -> !gameRepository.hasActivePvpGame(id))
+                            .filter(id -> !activeGameIndex.hasActiveGame(id))
                             .toList();
 
                     if (!potentialMatches.isEmpty()) {
@@ -171,7 +173,7 @@ public class MatchmakingService {
 
     @Transactional(readOnly = true)
     public boolean isUserAvailable(Long userId) {
-        return !gameRepository.hasActivePvpGame(userId);
+        return !activeGameIndex.hasActiveGame(userId);
     }
 
     private int calculateEstimatedWaitTime(BoardSize boardSize) {
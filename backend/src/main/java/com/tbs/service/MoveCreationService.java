@@ -4,7 +4,9 @@ import com.tbs.enums.PlayerSymbol;
 import com.tbs.model.Game;
 import com.tbs.model.Move;
 import com.tbs.model.User;
+import com.tbs.repository.GameRepository;
 import com.tbs.repository.MoveRepository;
+import com.tbs.util.MoveLogCodec;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,14 +14,24 @@ import org.springframework.transaction.annotation.Transactional;
 public class MoveCreationService {
 
     private final MoveRepository moveRepository;
+    private final GameRepository gameRepository;
 
-    public MoveCreationService(MoveRepository moveRepository) {
+    public MoveCreationService(MoveRepository moveRepository, GameRepository gameRepository) {
         this.moveRepository = moveRepository;
+        this.gameRepository = gameRepository;
     }
 
     @Transactional
     public Move createAndSaveMove(Game game, int row, int col, PlayerSymbol symbol, User player) {
-        short moveOrder = moveRepository.getNextMoveOrder(game.getId());
+        short moveOrder = game.getNextMoveOrder();
+        game.setNextMoveOrder((short) (moveOrder + 1));
+        game.setMoveLog(MoveLogCodec.append(game.getMoveLog(), MoveLogCodec.encode(
+                row, col, game.getBoardSize().getValue(), symbol, isPlayer1(game, player))));
+        game.setMoveCount((short) (game.getMoveCount() + 1));
+        game.setLastMoveRow((short) row);
+        game.setLastMoveCol((short) col);
+        game.setLastMoveSymbol(symbol);
+        gameRepository.saveAndFlush(game);
         
         Move move = new Move();
         move.setGame(game);
@@ -31,5 +43,8 @@ public class MoveCreationService {
         
         return moveRepository.save(move);
     }
-}
 
+    private boolean isPlayer1(Game game, User player) {
+        return player != null && game.getPlayer1() != null && game.getPlayer1().getId().equals(player.getId());
+    }
+}
@@ -13,6 +13,7 @@ public class MoveOperationContext {
     private final TurnDeterminationService turnDeterminationService;
     private final BotUserService botUserService;
     private final PointsService pointsService;
+    private final GameArchiveService gameArchiveService;
 
     public MoveOperationContext(
             BoardStateService boardStateService,
@@ -23,7 +24,8 @@ public class MoveOperationContext {
             MoveCreationService moveCreationService,
             TurnDeterminationService turnDeterminationService,
             BotUserService botUserService,
-            PointsService pointsService
+            PointsService pointsService,
+            GameArchiveService gameArchiveService
     ) {
         this.boardStateService = boardStateService;
         this.gameLogicService = gameLogicService;
@@ -34,6 +36,7 @@ public class MoveOperationContext {
         this.turnDeterminationService = turnDeterminationService;
         this.botUserService = botUserService;
         this.pointsService = pointsService;
+        this.gameArchiveService = gameArchiveService;
     }
 
     public BoardStateService getBoardStateService() {
@@ -71,5 +74,9 @@ public class MoveOperationContext {
     public PointsService getPointsService() {
         return pointsService;
     }
+
+    public GameArchiveService getGameArchiveService() {
+        return gameArchiveService;
+    }
 }
 
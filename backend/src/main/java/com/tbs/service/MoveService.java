@@ -17,6 +17,7 @@ import com.tbs.exception.InvalidGameTypeException;
 import com.tbs.exception.InvalidMoveException;
 import com.tbs.exception.UserNotFoundException;
 import com.tbs.mapper.MoveMapper;
+import com.tbs.model.ArchivedGame;
 import com.tbs.model.Game;
 import com.tbs.model.Move;
 import com.tbs.model.User;
@@ -61,8 +62,10 @@ public class MoveService {
 
     @Transactional(readOnly = true)
     public List<MoveListItem> getMovesByGameId(Long gameId, Long userId) {
-        Game game = gameRepository.findById(gameId)
-                .orElseThrow(() -> new GameNotFoundException("Game not found"));
+        Game game = gameRepository.findById(gameId).orElse(null);
+        if (game == null) {
+            return getArchivedMoves(gameId, userId);
+        }
 
         moveOperationContext.getGameValidationService().validateParticipation(game, userId);
 
@@ -75,6 +78,18 @@ public class MoveService {
                 .collect(Collectors.toList());
     }
 
+    private List<MoveListItem> getArchivedMoves(Long gameId, Long userId) {
+        GameArchiveService gameArchiveService = moveOperationContext.getGameArchiveService();
+        ArchivedGame game = gameArchiveService.findArchivedGame(gameId)
+                .orElseThrow(() -> new GameNotFoundException("Game not found"));
+
+        moveOperationContext.getGameValidationService().validateParticipation(game, userId);
+
+        return gameArchiveService.findArchivedMoves(gameId).stream()
+                .map(MoveMapper::toMoveListItem)
+                .collect(Collectors.toList());
+    }
+
     @Transactional
     public CreateMoveResponse createMove(Long gameId, CreateMoveRequest request, Long userId) {
         Game game = gameRepository.findById(gameId)
@@ -94,8 +109,6 @@ public class MoveService {
                     request.row(), request.col(), boardSize));
         }
 
-        List<Move> existingMoves = moveRepository.findByGameIdOrderByMoveOrderAsc(gameId);
-        
         if (game.getStatus() == GameStatus.WAITING) {
             game.setStatus(GameStatus.IN_PROGRESS);
             if (game.getCurrentPlayerSymbol() == null) {
@@ -103,9 +116,9 @@ public class MoveService {
             }
         }
         
-        moveOperationContext.getTurnValidationService().validatePlayerTurn(game, existingMoves, request.playerSymbol(), userId);
+        moveOperationContext.getTurnValidationService().validatePlayerTurn(game, request.playerSymbol(), userId);
         
-        moveOperationContext.getGameLogicService().validateMove(game, existingMoves, request.row(), request.col(), request.playerSymbol());
+        moveOperationContext.getGameLogicService().validateMove(game, request.row(), request.col(), request.playerSymbol());
 
         User player = userRepository.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException("User not found"));
@@ -113,8 +126,7 @@ public class MoveService {
         Move savedMove = moveOperationContext.getMoveCreationService().createAndSaveMove(game, request.row(), request.col(), request.playerSymbol(), player);
         log.info("Created move {} for game {} by user {}", savedMove.getId(), gameId, userId);
 
-        List<Move> allMoves = moveRepository.findByGameIdOrderByMoveOrderAsc(gameId);
-        BoardState boardState = moveOperationContext.getBoardStateService().generateBoardState(game, allMoves);
+        BoardState boardState = moveOperationContext.getBoardStateService().generateBoardState(game);
 
         GameStateUpdateResult stateUpdate = updateGameStateAfterMove(
                 game, boardState, request.playerSymbol(), player, userId
@@ -181,15 +193,14 @@ public class MoveService {
             throw new GameNotInProgressException("Game is not in progress");
         }
 
-        List<Move> existingMoves = moveRepository.findByGameIdOrderByMoveOrderAsc(gameId);
-        BoardState boardState = moveOperationContext.getBoardStateService().generateBoardState(game, existingMoves);
+        BoardState boardState = moveOperationContext.getBoardStateService().generateBoardState(game);
 
         PlayerSymbol currentSymbol = game.getCurrentPlayerSymbol();
         if (currentSymbol == null) {
             throw new GameNotInProgressException("Game has not started yet");
         }
 
-        PlayerSymbol player1Symbol = moveOperationContext.getTurnDeterminationService().determinePlayer1Symbol(game, existingMoves);
+        PlayerSymbol player1Symbol = moveOperationContext.getTurnDeterminationService().determinePlayer1Symbol(game);
         PlayerSymbol botSymbol = moveOperationContext.getGameLogicService().getOppositeSymbol(player1Symbol);
 
         if (currentSymbol != botSymbol) {
@@ -208,8 +219,7 @@ public class MoveService {
         Move savedMove = moveOperationContext.getMoveCreationService().createAndSaveMove(game, botPosition.row(), botPosition.col(), botSymbol, botUser);
         log.info("Created bot move {} for game {} with difficulty {}", savedMove.getId(), gameId, game.getBotDifficulty());
 
-        List<Move> allMoves = moveRepository.findByGameIdOrderByMoveOrderAsc(gameId);
-        boardState = moveOperationContext.getBoardStateService().generateBoardState(game, allMoves);
+        boardState = moveOperationContext.getBoardStateService().generateBoardState(game);
 
         GameStateUpdateResult stateUpdate = updateGameStateAfterBotMove(
                 game, boardState, botSymbol, gameId
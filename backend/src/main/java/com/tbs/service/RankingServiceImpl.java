@@ -1,5 +1,6 @@
 package com.tbs.service;
 
+import com.tbs.config.ReplicaRead;
 import com.tbs.dto.ranking.RankingAroundItem;
 import com.tbs.dto.ranking.RankingAroundResponse;
 import com.tbs.dto.ranking.RankingDetailResponse;
@@ -26,6 +27,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
+@ReplicaRead
 @Transactional(readOnly = true)
 public class RankingServiceImpl implements RankingService {
 
@@ -4,13 +4,10 @@ import com.tbs.enums.GameType;
 import com.tbs.enums.PlayerSymbol;
 import com.tbs.exception.ForbiddenException;
 import com.tbs.model.Game;
-import com.tbs.model.Move;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-
 @Service
 public class TurnValidationService {
 
@@ -22,7 +19,7 @@ public class TurnValidationService {
         this.turnDeterminationService = turnDeterminationService;
     }
 
-    public void validatePlayerTurn(Game game, List<Move> existingMoves, PlayerSymbol playerSymbol, Long userId) {
+    public void validatePlayerTurn(Game game, PlayerSymbol playerSymbol, Long userId) {
         PlayerSymbol currentPlayerSymbol = game.getCurrentPlayerSymbol();
         
         if (game.getStatus() == com.tbs.enums.GameStatus.IN_PROGRESS && currentPlayerSymbol == null) {
@@ -34,7 +31,7 @@ public class TurnValidationService {
         }
         
         if (game.getGameType() == GameType.VS_BOT) {
-            PlayerSymbol player1Symbol = turnDeterminationService.determinePlayer1Symbol(game, existingMoves);
+            PlayerSymbol player1Symbol = turnDeterminationService.determinePlayer1Symbol(game);
             boolean isPlayer1Turn = currentPlayerSymbol == player1Symbol;
             boolean isCurrentUserPlayer1 = game.getPlayer1().getId().equals(userId);
             
@@ -53,7 +50,7 @@ public class TurnValidationService {
             return;
         }
         
-        PlayerSymbol player1Symbol = turnDeterminationService.determinePlayer1Symbol(game, existingMoves);
+        PlayerSymbol player1Symbol = turnDeterminationService.determinePlayer1Symbol(game);
         boolean isPlayer1Turn = currentPlayerSymbol == player1Symbol;
         boolean isCurrentUserPlayer1 = game.getPlayer1().getId().equals(userId);
         
@@ -29,10 +29,16 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final AuthenticationService authenticationService;
+    private final LastSeenAggregator lastSeenAggregator;
 
-    public UserService(UserRepository userRepository, AuthenticationService authenticationService) {
+    public UserService(
+            UserRepository userRepository,
+            AuthenticationService authenticationService,
+            LastSeenAggregator lastSeenAggregator
+    ) {
         this.userRepository = userRepository;
         this.authenticationService = authenticationService;
+        this.lastSeenAggregator = lastSeenAggregator;
     }
 
     public com.tbs.dto.auth.UserProfileResponse getCurrentUserProfile() {
@@ -56,15 +62,9 @@ public class UserService {
         return mapToUserProfileResponse(user);
     }
 
-    @Transactional
-    @CacheEvict(value = "userProfile", key = "#userId")
     public LastSeenResponse updateLastSeen(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserNotFoundException("User not found"));
-
         Instant now = Instant.now();
-        user.setLastSeenAt(now);
-        userRepository.save(user);
+        lastSeenAggregator.record(userId, now);
 
         return new LastSeenResponse("Last seen updated successfully", now);
     }
@@ -127,7 +127,7 @@ public class UserService {
                 user.getGamesPlayed(),
                 user.getGamesWon(),
                 user.getCreatedAt(),
-                user.getLastSeenAt()
+                lastSeenAggregator.merge(user.getId(), user.getLastSeenAt())
         );
     }
 
@@ -10,15 +10,14 @@ import com.tbs.model.Game;
 import com.tbs.model.Move;
 import com.tbs.model.User;
 import com.tbs.repository.GameRepository;
-import com.tbs.repository.MoveRepository;
 import com.tbs.repository.UserRepository;
+import com.tbs.util.MoveLogCodec;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
-import java.util.List;
 
 @Service
 public class WebSocketGameService {
@@ -26,7 +25,6 @@ public class WebSocketGameService {
     private static final Logger log = LoggerFactory.getLogger(WebSocketGameService.class);
 
     private final GameRepository gameRepository;
-    private final MoveRepository moveRepository;
     private final UserRepository userRepository;
     private final BoardStateService boardStateService;
     private final GameLogicService gameLogicService;
@@ -36,7 +34,6 @@ public class WebSocketGameService {
 
     public WebSocketGameService(
             GameRepository gameRepository,
-            MoveRepository moveRepository,
             UserRepository userRepository,
             BoardStateService boardStateService,
             GameLogicService gameLogicService,
@@ -45,7 +42,6 @@ public class WebSocketGameService {
             PointsService pointsService
     ) {
         this.gameRepository = gameRepository;
-        this.moveRepository = moveRepository;
         this.userRepository = userRepository;
         this.boardStateService = boardStateService;
         this.gameLogicService = gameLogicService;
@@ -59,25 +55,22 @@ public class WebSocketGameService {
         Game game = gameRepository.findByIdWithPlayers(gameId)
                 .orElseThrow(() -> new GameNotFoundException("Game not found"));
 
-        List<Move> existingMoves = moveRepository.findByGameIdOrderByMoveOrderAsc(gameId);
-        
-        gameLogicService.validateMove(game, existingMoves, row, col, playerSymbol);
-        turnValidationService.validatePlayerTurn(game, existingMoves, playerSymbol, userId);
+        gameLogicService.validateMove(game, row, col, playerSymbol);
+        turnValidationService.validatePlayerTurn(game, playerSymbol, userId);
 
         User player = userRepository.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException("User not found"));
 
         Move savedMove = moveCreationService.createAndSaveMove(game, row, col, playerSymbol, player);
 
-        List<Move> allMoves = moveRepository.findByGameIdOrderByMoveOrderAsc(gameId);
-        BoardState boardState = boardStateService.generateBoardState(game, allMoves);
+        BoardState boardState = boardStateService.generateBoardState(game);
 
         processMoveResult(game, boardState, playerSymbol, player);
 
         game.setLastMoveAt(Instant.now());
         Game updatedGame = gameRepository.save(game);
 
-        return new MoveResult(savedMove, updatedGame, boardState, allMoves.size());
+        return new MoveResult(savedMove, updatedGame, boardState, MoveLogCodec.moveCount(updatedGame.getMoveLog()));
     }
 
     @Transactional
@@ -104,10 +97,9 @@ public class WebSocketGameService {
 
         pointsService.awardPointsForWin(savedGame, winner);
 
-        List<Move> moves = moveRepository.findByGameIdOrderByMoveOrderAsc(gameId);
-        BoardState boardState = boardStateService.generateBoardState(game, moves);
+        BoardState boardState = boardStateService.generateBoardState(game);
 
-        return new SurrenderResult(game, winner, boardState, moves.size());
+        return new SurrenderResult(game, winner, boardState, MoveLogCodec.moveCount(game.getMoveLog()));
     }
 
     private void processMoveResult(Game game, BoardState boardState, PlayerSymbol moveSymbol, User player) {
@@ -0,0 +1,108 @@
+package com.tbs.util;
+
+import com.tbs.enums.PlayerSymbol;
+import org.springframework.lang.Nullable;
+
+import java.util.Arrays;
+
+public final class MoveLogCodec {
+
+    private static final int CELL_MASK = 0x3F;
+    private static final int PLAYER1_FLAG = 0x40;
+    private static final int SYMBOL_O_FLAG = 0x80;
+    private static final byte[] EMPTY = new byte[0];
+
+    private MoveLogCodec() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    public static byte[] empty() {
+        return EMPTY;
+    }
+
+    public static byte encode(int row, int col, int boardSize, PlayerSymbol symbol, boolean player1) {
+        if (row < 0 || row >= boardSize || col < 0 || col >= boardSize) {
+            throw new IllegalArgumentException(
+                String.format("Move position (%d, %d) is out of bounds for board size %d", row, col, boardSize)
+            );
+        }
+        int entry = row * boardSize + col;
+        if (symbol == PlayerSymbol.O) {
+            entry |= SYMBOL_O_FLAG;
+        }
+        if (player1) {
+            entry |= PLAYER1_FLAG;
+        }
+        return (byte) entry;
+    }
+
+    public static byte[] append(@Nullable byte[] log, byte entry) {
+        byte[] current = log != null ? log : EMPTY;
+        byte[] appended = Arrays.copyOf(current, current.length + 1);
+        appended[current.length] = entry;
+        return appended;
+    }
+
+    public static int moveCount(@Nullable byte[] log) {
+        return log != null ? log.length : 0;
+    }
+
+    public static int row(byte entry, int boardSize) {
+        return (entry & CELL_MASK) / boardSize;
+    }
+
+    public static int col(byte entry, int boardSize) {
+        return (entry & CELL_MASK) % boardSize;
+    }
+
+    public static PlayerSymbol symbol(byte entry) {
+        return (entry & SYMBOL_O_FLAG) != 0 ? PlayerSymbol.O : PlayerSymbol.X;
+    }
+
+    public static boolean isPlayer1(byte entry) {
+        return (entry & PLAYER1_FLAG) != 0;
+    }
+
+    public static void decodeInto(@Nullable byte[] log, int boardSize, String[][] cells) {
+        int count = moveCount(log);
+        for (int i = 0; i < count; i++) {
+            byte entry = log[i];
+            int cell = entry & CELL_MASK;
+            if (cell >= boardSize * boardSize) {
+                throw new IllegalArgumentException(
+                    String.format("Move log entry %d points outside board size %d", i, boardSize)
+                );
+            }
+            int row = cell / boardSize;
+            int col = cell % boardSize;
+            if (cells[row][col] != null) {
+                throw new IllegalArgumentException(
+                    String.format("Duplicate move at position (%d, %d)", row, col)
+                );
+            }
+            cells[row][col] = symbol(entry).getValue();
+        }
+    }
+
+    public static boolean isOccupied(@Nullable byte[] log, int boardSize, int row, int col) {
+        int cell = row * boardSize + col;
+        int count = moveCount(log);
+        for (int i = 0; i < count; i++) {
+            if ((log[i] & CELL_MASK) == cell) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Nullable
+    public static PlayerSymbol player1Symbol(@Nullable byte[] log) {
+        int count = moveCount(log);
+        for (int i = 0; i < count; i++) {
+            if (isPlayer1(log[i])) {
+                return symbol(log[i]);
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,163 @@
+package com.tbs.websocket;
+
+import com.tbs.dto.websocket.BaseWebSocketMessage;
+import com.tbs.dto.websocket.MoveMessage;
+import com.tbs.dto.websocket.OpponentMoveMessage;
+import com.tbs.dto.websocket.PingMessage;
+import com.tbs.dto.websocket.PongMessage;
+import com.tbs.dto.websocket.TimerUpdateMessage;
+import com.tbs.dto.websocket.WebSocketMessageType;
+import com.tbs.enums.PlayerSymbol;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+
+public final class BinaryFrameCodec {
+
+    public static final byte MOVE = 0x01;
+    public static final byte PING = 0x02;
+    public static final byte PONG = 0x03;
+    public static final byte OPPONENT_MOVE = 0x10;
+    public static final byte TIMER_UPDATE = 0x11;
+
+    private static final int MOVE_FRAME_SIZE = 4;
+    private static final int PING_FRAME_SIZE = 9;
+    private static final int OPPONENT_MOVE_FRAME_SIZE = 19;
+    private static final int TIMER_UPDATE_FRAME_SIZE = 4;
+    private static final int MAX_UNSIGNED_BYTE = 0xFF;
+    private static final int MAX_UNSIGNED_SHORT = 0xFFFF;
+    private static final long NO_TIMESTAMP = Long.MIN_VALUE;
+    private static final byte NO_SYMBOL = 0;
+    private static final byte SYMBOL_X = 1;
+    private static final byte SYMBOL_O = 2;
+
+    private BinaryFrameCodec() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    public static boolean supports(WebSocketMessageType type) {
+        return switch (type) {
+            case MOVE, PING, PONG, OPPONENT_MOVE, TIMER_UPDATE -> true;
+            default -> false;
+        };
+    }
+
+    public static ByteBuffer encode(BaseWebSocketMessage message) {
+        ByteBuffer frame = switch (message) {
+            case MoveMessage move -> ByteBuffer.allocate(MOVE_FRAME_SIZE)
+                    .put(MOVE)
+                    .put(unsignedByte(move.payload().row(), "row"))
+                    .put(unsignedByte(move.payload().col(), "col"))
+                    .put(symbol(move.payload().playerSymbol()));
+            case PingMessage ping -> ByteBuffer.allocate(PING_FRAME_SIZE)
+                    .put(PING)
+                    .putLong(epochMillis(ping.payload().timestamp()));
+            case PongMessage pong -> ByteBuffer.allocate(PING_FRAME_SIZE)
+                    .put(PONG)
+                    .putLong(epochMillis(pong.payload().timestamp()));
+            case OpponentMoveMessage opponentMove -> encodeOpponentMove(opponentMove.payload());
+            case TimerUpdateMessage timerUpdate -> ByteBuffer.allocate(TIMER_UPDATE_FRAME_SIZE)
+                    .put(TIMER_UPDATE)
+                    .putShort(unsignedShort(timerUpdate.payload().remainingSeconds(), "remainingSeconds"))
+                    .put(symbol(timerUpdate.payload().currentPlayerSymbol()));
+            default -> throw new IllegalArgumentException(
+                    "Message type has no binary frame layout: " + message.type());
+        };
+        return frame.flip();
+    }
+
+    public static BaseWebSocketMessage decode(ByteBuffer frame) {
+        try {
+            byte opcode = frame.get();
+            BaseWebSocketMessage message = switch (opcode) {
+                case MOVE -> new MoveMessage(new MoveMessage.MovePayload(
+                        Byte.toUnsignedInt(frame.get()),
+                        Byte.toUnsignedInt(frame.get()),
+                        requireSymbol(frame.get())
+                ));
+                case PING -> new PingMessage(new PingMessage.PingPayload(instant(frame.getLong())));
+                case PONG -> new PongMessage(new PongMessage.PongPayload(instant(frame.getLong())));
+                case OPPONENT_MOVE -> new OpponentMoveMessage(new OpponentMoveMessage.OpponentMovePayload(
+                        Byte.toUnsignedInt(frame.get()),
+                        Byte.toUnsignedInt(frame.get()),
+                        symbol(frame.get()),
+                        null,
+                        symbol(frame.get()),
+                        instant(frame.getLong()),
+                        Short.toUnsignedInt(frame.getShort()),
+                        String.format("%08x", frame.getInt())
+                ));
+                case TIMER_UPDATE -> new TimerUpdateMessage(new TimerUpdateMessage.TimerUpdatePayload(
+                        Short.toUnsignedInt(frame.getShort()),
+                        symbol(frame.get())
+                ));
+                default -> throw new IllegalArgumentException("Unknown binary frame opcode: " + opcode);
+            };
+            if (frame.hasRemaining()) {
+                throw new IllegalArgumentException("Unexpected trailing bytes in binary frame: " + frame.remaining());
+            }
+            return message;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Binary frame is truncated", e);
+        }
+    }
+
+    private static ByteBuffer encodeOpponentMove(OpponentMoveMessage.OpponentMovePayload payload) {
+        return ByteBuffer.allocate(OPPONENT_MOVE_FRAME_SIZE)
+                .put(OPPONENT_MOVE)
+                .put(unsignedByte(payload.row(), "row"))
+                .put(unsignedByte(payload.col(), "col"))
+                .put(symbol(payload.playerSymbol()))
+                .put(symbol(payload.currentPlayerSymbol()))
+                .putLong(epochMillis(payload.nextMoveAt()))
+                .putShort(unsignedShort(payload.moveSequence(), "moveSequence"))
+                .putInt(Integer.parseUnsignedInt(payload.boardHash(), 16));
+    }
+
+    private static byte unsignedByte(int value, String field) {
+        if (value < 0 || value > MAX_UNSIGNED_BYTE) {
+            throw new IllegalArgumentException(field + " out of range for binary frame: " + value);
+        }
+        return (byte) value;
+    }
+
+    private static short unsignedShort(int value, String field) {
+        if (value < 0 || value > MAX_UNSIGNED_SHORT) {
+            throw new IllegalArgumentException(field + " out of range for binary frame: " + value);
+        }
+        return (short) value;
+    }
+
+    private static byte symbol(PlayerSymbol symbol) {
+        if (symbol == null) {
+            return NO_SYMBOL;
+        }
+        return symbol == PlayerSymbol.X ? SYMBOL_X : SYMBOL_O;
+    }
+
+    private static PlayerSymbol symbol(byte value) {
+        return switch (value) {
+            case NO_SYMBOL -> null;
+            case SYMBOL_X -> PlayerSymbol.X;
+            case SYMBOL_O -> PlayerSymbol.O;
+            default -> throw new IllegalArgumentException("Unknown player symbol code: " + value);
+        };
+    }
+
+    private static PlayerSymbol requireSymbol(byte value) {
+        PlayerSymbol symbol = symbol(value);
+        if (symbol == null) {
+            throw new IllegalArgumentException("Player symbol is required");
+        }
+        return symbol;
+    }
+
+    private static long epochMillis(Instant instant) {
+        return instant != null ? instant.toEpochMilli() : NO_TIMESTAMP;
+    }
+
+    private static Instant instant(long epochMillis) {
+        return epochMillis != NO_TIMESTAMP ? Instant.ofEpochMilli(epochMillis) : null;
+    }
+}
@@ -0,0 +1,25 @@
+package com.tbs.websocket;
+
+import com.tbs.dto.common.BoardState;
+
+public record BoardDigest(int moveSequence, String boardHash) {
+
+    private static final int FNV_OFFSET_BASIS = 0x811C9DC5;
+    private static final int FNV_PRIME = 0x01000193;
+    private static final char EMPTY_CELL = '.';
+
+    public static BoardDigest of(BoardState boardState) {
+        int hash = FNV_OFFSET_BASIS;
+        int moves = 0;
+        for (String[] row : boardState.state()) {
+            for (String cell : row) {
+                char symbol = cell == null || cell.isEmpty() ? EMPTY_CELL : cell.charAt(0);
+                if (symbol != EMPTY_CELL) {
+                    moves++;
+                }
+                hash = (hash ^ symbol) * FNV_PRIME;
+            }
+        }
+        return new BoardDigest(moves, String.format("%08x", hash));
+    }
+}
@@ -0,0 +1,45 @@
+package com.tbs.websocket;
+
+import com.tbs.dto.websocket.BaseWebSocketMessage;
+
+public record GameEvent(
+        Type type,
+        Long gameId,
+        Long targetUserId,
+        Long excludedUserId,
+        BaseWebSocketMessage message
+) {
+
+    public enum Type {
+        DELIVER,
+        CLOSE_SESSIONS,
+        RESTART_CLOCK,
+        PLAYER_CONNECTED,
+        PLAYER_DISCONNECTED
+    }
+
+    public static GameEvent deliver(Long gameId, Long targetUserId, Long excludedUserId, BaseWebSocketMessage message) {
+        return new GameEvent(Type.DELIVER, gameId, targetUserId, excludedUserId, message);
+    }
+
+    public static GameEvent closeSessions(Long gameId) {
+        return new GameEvent(Type.CLOSE_SESSIONS, gameId, null, null, null);
+    }
+
+    public static GameEvent restartClock(Long gameId) {
+        return new GameEvent(Type.RESTART_CLOCK, gameId, null, null, null);
+    }
+
+    public static GameEvent playerConnected(Long gameId, Long userId) {
+        return new GameEvent(Type.PLAYER_CONNECTED, gameId, userId, null, null);
+    }
+
+    public static GameEvent playerDisconnected(Long gameId, Long userId) {
+        return new GameEvent(Type.PLAYER_DISCONNECTED, gameId, userId, null, null);
+    }
+
+    public boolean isFor(Long userId) {
+        return (targetUserId == null || targetUserId.equals(userId))
+                && (excludedUserId == null || !excludedUserId.equals(userId));
+    }
+}
@@ -0,0 +1,10 @@
+package com.tbs.websocket;
+
+import java.util.function.Consumer;
+
+public interface GameEventBus {
+
+    void publish(GameEvent event);
+
+    void subscribe(Consumer<GameEvent> listener);
+}
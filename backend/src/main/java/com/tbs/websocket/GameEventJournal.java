@@ -0,0 +1,103 @@
+package com.tbs.websocket;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tbs.dto.websocket.BaseWebSocketMessage;
+import com.tbs.dto.websocket.GameEndedMessage;
+import com.tbs.dto.websocket.MoveAcceptedMessage;
+import com.tbs.dto.websocket.OpponentMoveMessage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+public class GameEventJournal {
+
+    private final int capacity;
+    private final Cache<Long, Journal> journals;
+
+    public GameEventJournal(
+            @Value("${app.websocket.resume.journal-size:64}") int capacity,
+            @Value("${websocket.game-cache.max-size:10000}") long maximumGames,
+            @Value("${websocket.game-cache.ttl-seconds:600}") long ttlSeconds
+    ) {
+        this.capacity = capacity;
+        this.journals = Caffeine.newBuilder()
+                .maximumSize(maximumGames)
+                .expireAfterAccess(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    public void record(GameEvent event) {
+        if (event.type() != GameEvent.Type.DELIVER) {
+            return;
+        }
+        Integer sequence = sequenceOf(event.message());
+        if (sequence == null) {
+            return;
+        }
+        journals.get(event.gameId(), id -> new Journal()).append(sequence, event);
+    }
+
+    public Optional<List<GameEvent>> eventsSince(Long gameId, Long userId, int moveSequence, int currentSequence) {
+        Journal journal = journals.getIfPresent(gameId);
+        if (journal == null) {
+            return Optional.empty();
+        }
+        return journal.since(userId, moveSequence, currentSequence);
+    }
+
+    private static Integer sequenceOf(BaseWebSocketMessage message) {
+        return switch (message) {
+            case MoveAcceptedMessage accepted -> accepted.payload().moveSequence();
+            case OpponentMoveMessage opponentMove -> opponentMove.payload().moveSequence();
+            case GameEndedMessage ended -> ended.payload().totalMoves();
+            default -> null;
+        };
+    }
+
+    private record Entry(int sequence, GameEvent event) {}
+
+    private final class Journal {
+
+        private final Deque<Entry> entries = new ArrayDeque<>();
+        private int evictedThrough = -1;
+
+        private synchronized void append(int sequence, GameEvent event) {
+            if (entries.size() >= capacity) {
+                evictedThrough = Math.max(evictedThrough, entries.pollFirst().sequence());
+            }
+            entries.addLast(new Entry(sequence, event));
+        }
+
+        private synchronized Optional<List<GameEvent>> since(Long userId, int moveSequence, int currentSequence) {
+            if (moveSequence > currentSequence || evictedThrough > moveSequence) {
+                return Optional.empty();
+            }
+            BitSet recorded = new BitSet();
+            List<GameEvent> missed = new ArrayList<>();
+            for (Entry entry : entries) {
+                if (!entry.event().isFor(userId)) {
+                    continue;
+                }
+                if (entry.sequence() > moveSequence) {
+                    recorded.set(entry.sequence());
+                }
+                if (entry.sequence() > moveSequence || entry.event().message() instanceof GameEndedMessage) {
+                    missed.add(entry.event());
+                }
+            }
+            if (recorded.nextClearBit(moveSequence + 1) <= currentSequence) {
+                return Optional.empty();
+            }
+            return Optional.of(missed);
+        }
+    }
+}
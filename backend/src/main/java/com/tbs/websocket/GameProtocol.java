@@ -0,0 +1,38 @@
+package com.tbs.websocket;
+
+import java.util.List;
+
+public enum GameProtocol {
+    FULL("game-protocol"),
+    DELTA("game-protocol.v2"),
+    BINARY("game-protocol.binary");
+
+    public static final String SESSION_ATTRIBUTE = "gameProtocol";
+
+    private final String subprotocol;
+
+    GameProtocol(String subprotocol) {
+        this.subprotocol = subprotocol;
+    }
+
+    public String getSubprotocol() {
+        return subprotocol;
+    }
+
+    public boolean sendsBoardDeltas() {
+        return this != FULL;
+    }
+
+    public static GameProtocol fromSubprotocol(String subprotocol) {
+        for (GameProtocol protocol : values()) {
+            if (protocol.subprotocol.equals(subprotocol)) {
+                return protocol;
+            }
+        }
+        return FULL;
+    }
+
+    public static List<String> subprotocols() {
+        return List.of(BINARY.subprotocol, DELTA.subprotocol, FULL.subprotocol);
+    }
+}
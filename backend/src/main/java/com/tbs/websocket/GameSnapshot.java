@@ -0,0 +1,45 @@
+package com.tbs.websocket;
+
+import com.tbs.dto.common.BoardState;
+import com.tbs.dto.user.WinnerInfo;
+import com.tbs.enums.BoardSize;
+import com.tbs.enums.GameStatus;
+import com.tbs.enums.GameType;
+import com.tbs.enums.PlayerSymbol;
+import com.tbs.model.Game;
+
+public record GameSnapshot(
+        long gameId,
+        GameType gameType,
+        GameStatus status,
+        BoardSize boardSize,
+        Long player1Id,
+        Long player2Id,
+        PlayerSymbol currentPlayerSymbol,
+        WinnerInfo winner,
+        BoardState boardState
+) {
+    public static GameSnapshot of(Game game, BoardState boardState) {
+        return new GameSnapshot(
+                game.getId(),
+                game.getGameType(),
+                game.getStatus(),
+                game.getBoardSize(),
+                game.getPlayer1() != null ? game.getPlayer1().getId() : null,
+                game.getPlayer2() != null ? game.getPlayer2().getId() : null,
+                game.getCurrentPlayerSymbol(),
+                game.getWinner() != null
+                        ? new WinnerInfo(game.getWinner().getId(), game.getWinner().getUsername())
+                        : null,
+                boardState
+        );
+    }
+
+    public boolean isParticipant(Long userId) {
+        return userId != null && (userId.equals(player1Id) || userId.equals(player2Id));
+    }
+
+    public boolean isActive() {
+        return status == GameStatus.IN_PROGRESS || status == GameStatus.WAITING;
+    }
+}
@@ -0,0 +1,84 @@
+package com.tbs.websocket;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tbs.dto.common.BoardState;
+import com.tbs.enums.GameStatus;
+import com.tbs.enums.PlayerSymbol;
+import com.tbs.model.Game;
+import com.tbs.repository.GameRepository;
+import com.tbs.service.BoardStateService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+@Component
+public class GameSnapshotCache {
+
+    private static final String CACHE_NAME = "wsGameSnapshots";
+
+    private final GameRepository gameRepository;
+    private final BoardStateService boardStateService;
+    private final Cache<Long, GameSnapshot> cache;
+
+    public GameSnapshotCache(
+            GameRepository gameRepository,
+            BoardStateService boardStateService,
+            MeterRegistry meterRegistry,
+            @Value("${websocket.game-cache.max-size:10000}") long maximumSize,
+            @Value("${websocket.game-cache.ttl-seconds:600}") long ttlSeconds
+    ) {
+        this.gameRepository = gameRepository;
+        this.boardStateService = boardStateService;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public Optional<GameSnapshot> getGame(Long gameId) {
+        return Optional.ofNullable(cache.get(gameId, this::load));
+    }
+
+    public GameSnapshot update(Game game, BoardState boardState) {
+        GameSnapshot snapshot = GameSnapshot.of(game, boardState);
+        cache.put(game.getId(), snapshot);
+        return snapshot;
+    }
+
+    public void recordMove(Long gameId, BoardState boardState, PlayerSymbol currentPlayerSymbol, GameStatus status) {
+        if (status != GameStatus.IN_PROGRESS) {
+            cache.invalidate(gameId);
+            return;
+        }
+        cache.asMap().computeIfPresent(gameId, (id, snapshot) -> new GameSnapshot(
+                snapshot.gameId(),
+                snapshot.gameType(),
+                status,
+                snapshot.boardSize(),
+                snapshot.player1Id(),
+                snapshot.player2Id(),
+                currentPlayerSymbol,
+                snapshot.winner(),
+                boardState
+        ));
+    }
+
+    public void evict(Long gameId) {
+        cache.invalidate(gameId);
+    }
+
+    private GameSnapshot load(Long gameId) {
+        Game game = gameRepository.findByIdWithPlayers(gameId).orElse(null);
+        if (game == null) {
+            return null;
+        }
+        return GameSnapshot.of(game, boardStateService.generateBoardState(game));
+    }
+}
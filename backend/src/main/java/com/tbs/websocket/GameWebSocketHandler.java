@@ -1,7 +1,6 @@
 package com.tbs.websocket;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.tbs.dto.websocket.*;
 import com.tbs.exception.ForbiddenException;
 import com.tbs.exception.InvalidMoveException;
@@ -10,17 +9,22 @@ import com.tbs.model.Move;
 import com.tbs.model.User;
 import com.tbs.enums.PlayerSymbol;
 import com.tbs.repository.GameRepository;
-import com.tbs.repository.MoveRepository;
 import com.tbs.service.BoardStateService;
+import com.tbs.util.MoveLogCodec;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
 import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.SubProtocolCapable;
 import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
 import org.springframework.web.socket.WebSocketSession;
-import org.springframework.web.socket.handler.TextWebSocketHandler;
+import org.springframework.web.socket.handler.AbstractWebSocketHandler;
 
 import jakarta.annotation.PostConstruct;
 import java.io.IOException;
@@ -28,6 +32,7 @@ import java.time.Instant;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
@@ -35,72 +40,108 @@ import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 @Component
-public class GameWebSocketHandler extends TextWebSocketHandler {
+public class GameWebSocketHandler extends AbstractWebSocketHandler implements SubProtocolCapable {
 
     private static final Logger log = LoggerFactory.getLogger(GameWebSocketHandler.class);
     private static final int MOVE_TIMEOUT_SECONDS = 20;
-    private static final int PING_TIMEOUT_SECONDS = 60;
-    private static final int RECONNECT_WINDOW_SECONDS = 20;
+    private static final int PLAYERS_PER_GAME = 2;
     private static final int TIMER_UPDATE_INTERVAL_SECONDS = 1;
     private static final int MAX_MESSAGES_PER_MINUTE = 60;
     private static final int MAX_MOVES_PER_MINUTE = 10;
+    private static final int MAX_PAYLOAD_SIZE = 1024;
 
     private final ObjectMapper objectMapper;
     private final WebSocketSessionManager sessionManager;
     private final GameRepository gameRepository;
-    private final MoveRepository moveRepository;
     private final BoardStateService boardStateService;
     private final com.tbs.service.WebSocketMessageStorageService messageStorageService;
     private final com.tbs.service.WebSocketGameService webSocketGameService;
     private final com.tbs.service.RateLimitingService rateLimitingService;
+    private final GameSnapshotCache gameSnapshotCache;
+    private final InboundMessageDecoder inboundMessageDecoder;
+    private final com.tbs.service.GameMailbox gameMailbox;
+    private final GameEventBus gameEventBus;
+    private final com.tbs.service.ClusterMembership clusterMembership;
+    private final SpectatorHub spectatorHub;
+    private final LivenessSweeper livenessSweeper;
+    private final ReconnectDeadlineStore reconnectDeadlineStore;
+    private final GameEventJournal gameEventJournal;
+    private final com.tbs.security.ResumeTokenProvider resumeTokenProvider;
+    private final boolean resumeEnabled;
     
     private final Map<String, WebSocketSession> activeSessions = new ConcurrentHashMap<>();
     private final Map<Long, ScheduledFuture<?>> gameTimers = new ConcurrentHashMap<>();
+    private final Map<Long, ScheduledFuture<?>> moveTimeouts = new ConcurrentHashMap<>();
     private final Map<Long, Instant> moveDeadlines = new ConcurrentHashMap<>();
-    private final Map<String, Instant> lastPingTime = new ConcurrentHashMap<>();
     private final ScheduledExecutorService scheduler;
+    private final long livenessSweepIntervalMillis;
 
     public GameWebSocketHandler(
             ObjectMapper objectMapper,
             WebSocketSessionManager sessionManager,
             GameRepository gameRepository,
-            MoveRepository moveRepository,
             BoardStateService boardStateService,
             com.tbs.service.WebSocketMessageStorageService messageStorageService,
             com.tbs.service.WebSocketGameService webSocketGameService,
             com.tbs.service.RateLimitingService rateLimitingService,
-            @Qualifier("webSocketScheduler") ScheduledExecutorService scheduler
+            GameSnapshotCache gameSnapshotCache,
+            InboundMessageDecoder inboundMessageDecoder,
+            com.tbs.service.GameMailbox gameMailbox,
+            GameEventBus gameEventBus,
+            com.tbs.service.ClusterMembership clusterMembership,
+            SpectatorHub spectatorHub,
+            LivenessSweeper livenessSweeper,
+            ReconnectDeadlineStore reconnectDeadlineStore,
+            GameEventJournal gameEventJournal,
+            com.tbs.security.ResumeTokenProvider resumeTokenProvider,
+            @Qualifier("webSocketScheduler") ScheduledExecutorService scheduler,
+            @Value("${websocket.liveness.sweep-interval:1000}") long livenessSweepIntervalMillis,
+            @Value("${app.websocket.resume.enabled:true}") boolean resumeEnabled
     ) {
         this.objectMapper = objectMapper;
         this.sessionManager = sessionManager;
         this.gameRepository = gameRepository;
-        this.moveRepository = moveRepository;
         this.boardStateService = boardStateService;
         this.messageStorageService = messageStorageService;
         this.webSocketGameService = webSocketGameService;
         this.rateLimitingService = rateLimitingService;
+        this.gameSnapshotCache = gameSnapshotCache;
+        this.inboundMessageDecoder = inboundMessageDecoder;
+        this.gameMailbox = gameMailbox;
+        this.gameEventBus = gameEventBus;
+        this.clusterMembership = clusterMembership;
+        this.spectatorHub = spectatorHub;
+        this.livenessSweeper = livenessSweeper;
+        this.reconnectDeadlineStore = reconnectDeadlineStore;
+        this.gameEventJournal = gameEventJournal;
+        this.resumeTokenProvider = resumeTokenProvider;
+        this.resumeEnabled = resumeEnabled;
         this.scheduler = scheduler;
+        this.livenessSweepIntervalMillis = livenessSweepIntervalMillis;
+    }
+
+    @Override
+    @NonNull
+    public List<String> getSubProtocols() {
+        return GameProtocol.subprotocols();
     }
 
     @PostConstruct
     public void init() {
         scheduler.scheduleAtFixedRate(this::cleanupStaleTimers, 60, 60, TimeUnit.SECONDS);
+        scheduler.scheduleAtFixedRate(this::sweepLiveness,
+                livenessSweepIntervalMillis, livenessSweepIntervalMillis, TimeUnit.MILLISECONDS);
+        gameEventBus.subscribe(this::onGameEvent);
     }
 
     private void cleanupStaleTimers() {
         try {
             Set<Long> activeGameIds = sessionManager.getAllActiveGameIds();
-            gameTimers.entrySet().removeIf(entry -> {
-                if (!activeGameIds.contains(entry.getKey())) {
-                    ScheduledFuture<?> timer = entry.getValue();
-                    if (timer != null && !timer.isDone()) {
-                        timer.cancel(false);
-                    }
-                    return true;
-                }
-                return false;
-            });
-            moveDeadlines.entrySet().removeIf(entry -> !activeGameIds.contains(entry.getKey()));
+            gameTimers.keySet().stream()
+                    .filter(gameId -> !activeGameIds.contains(gameId) && !clusterMembership.isOwner(gameId))
+                    .forEach(this::stopMoveTimer);
+            moveDeadlines.keySet().removeIf(gameId ->
+                    !activeGameIds.contains(gameId) && !clusterMembership.isOwner(gameId));
             log.debug("Cleaned up stale timers. Active games: {}", activeGameIds.size());
         } catch (Exception e) {
             log.error("Error during cleanup of stale timers", e);
@@ -111,7 +152,13 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
     public void afterConnectionEstablished(@NonNull WebSocketSession session) throws Exception {
         Long gameId = (Long) session.getAttributes().get("gameId");
         Long userId = (Long) session.getAttributes().get("userId");
-        Game game = (Game) session.getAttributes().get("game");
+        GameSnapshot game = (GameSnapshot) session.getAttributes().get("game");
+        Integer resumeSequence = (Integer) session.getAttributes().get("resumeSequence");
+
+        if (gameId != null && userId != null && resumeSequence != null) {
+            resumeSession(session, gameId, userId, resumeSequence);
+            return;
+        }
 
         if (gameId == null || userId == null || game == null) {
             log.error("WebSocket connection established with missing attributes");
@@ -119,29 +166,29 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
             return;
         }
 
-        if (game.getStatus() == com.tbs.enums.GameStatus.FINISHED || 
-            game.getStatus() == com.tbs.enums.GameStatus.ABANDONED) {
+        if (game.status() == com.tbs.enums.GameStatus.FINISHED || 
+            game.status() == com.tbs.enums.GameStatus.ABANDONED) {
             log.warn("WebSocket connection attempted for finished game: gameId={}, status={}", 
-                    gameId, game.getStatus());
+                    gameId, game.status());
             session.close(CloseStatus.POLICY_VIOLATION);
             return;
         }
 
+        session.getAttributes().put(GameProtocol.SESSION_ATTRIBUTE, GameProtocol.fromSubprotocol(session.getAcceptedProtocol()));
         activeSessions.put(session.getId(), session);
         sessionManager.addSession(gameId, userId, session.getId());
-        lastPingTime.put(session.getId(), Instant.now());
+        livenessSweeper.sessionOpened(session.getId(), Instant.now());
         log.info("WebSocket connection established: gameId={}, userId={}, sessionId={}", 
                 gameId, userId, session.getId());
         log.debug("Active sessions after add: {}", activeSessions.keySet());
         log.debug("SessionManager sessions for gameId={}: {}", gameId, sessionManager.getGameSessions(gameId));
 
         sendInitialGameState(session, game);
+        handlePlayerConnected(gameId, userId);
         
-        if (game.getStatus() == com.tbs.enums.GameStatus.IN_PROGRESS && game.getCurrentPlayerSymbol() != null) {
-            startMoveTimer(gameId, game);
+        if (game.status() == com.tbs.enums.GameStatus.IN_PROGRESS && game.currentPlayerSymbol() != null) {
+            restartClock(gameId);
         }
-        
-        startPingTimeoutCheck(session);
     }
 
     @Override
@@ -149,68 +196,76 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
         Long gameId = (Long) session.getAttributes().get("gameId");
         Long userId = (Long) session.getAttributes().get("userId");
 
-        if (gameId == null || userId == null) {
-            log.error("Received message from session with missing attributes");
+        if (!acceptInboundMessage(session, gameId, userId, message.getPayloadLength())) {
             return;
         }
 
-        final int MAX_PAYLOAD_SIZE = 1024;
-        if (message.getPayloadLength() > MAX_PAYLOAD_SIZE) {
-            log.warn("WebSocket message too large: {} bytes (max: {})", message.getPayloadLength(), MAX_PAYLOAD_SIZE);
-            sendError(session, "Message too large");
+        BaseWebSocketMessage inbound;
+        try {
+            inbound = inboundMessageDecoder.decode(message.getPayload());
+        } catch (IllegalArgumentException | IOException e) {
+            log.warn("Invalid WebSocket message: gameId={}, userId={}, reason={}, payload={}",
+                    gameId, userId, e.getMessage(), message.getPayload());
+            sendError(session, "Invalid message format");
             return;
         }
 
-        String rateLimitKey = "websocket:" + userId + ":" + gameId;
-        if (!rateLimitingService.isAllowed(rateLimitKey + ":messages", MAX_MESSAGES_PER_MINUTE, java.time.Duration.ofMinutes(1))) {
-            log.warn("Rate limit exceeded for WebSocket messages: userId={}, gameId={}", userId, gameId);
-            sendError(session, "Rate limit exceeded. Please slow down.");
+        try {
+            handleMessage(session, gameId, userId, inbound);
+        } catch (Exception e) {
+            log.error("Error handling WebSocket message: gameId={}, userId={}, payload={}", gameId, userId, message.getPayload(), e);
+            sendError(session, "Invalid message format");
+        }
+    }
+
+    @Override
+    protected void handleBinaryMessage(@NonNull WebSocketSession session, @NonNull BinaryMessage message) {
+        Long gameId = (Long) session.getAttributes().get("gameId");
+        Long userId = (Long) session.getAttributes().get("userId");
+
+        if (!acceptInboundMessage(session, gameId, userId, message.getPayloadLength())) {
             return;
         }
 
+        BaseWebSocketMessage inbound;
         try {
-            JsonNode root = objectMapper.readTree(message.getPayload());
-            if (root == null || !root.hasNonNull("type")) {
-                log.error("WebSocket message missing type field: gameId={}, userId={}, payload={}", gameId, userId, message.getPayload());
-                sendError(session, "Invalid message format");
-                return;
-            }
-
-            String typeText = root.get("type").asText();
-            WebSocketMessageType type;
-            try {
-                type = WebSocketMessageType.valueOf(typeText);
-            } catch (IllegalArgumentException e) {
-                log.error("Unknown WebSocket message type: gameId={}, userId={}, type={}, payload={}", gameId, userId, typeText, message.getPayload());
-                sendError(session, "Invalid message format");
-                return;
-            }
+            inbound = BinaryFrameCodec.decode(message.getPayload());
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid binary WebSocket frame: gameId={}, userId={}, reason={}", gameId, userId, e.getMessage());
+            sendError(session, "Invalid message format");
+            return;
+        }
 
-            switch (type) {
-                case MOVE -> {
-                    String moveRateLimitKey = rateLimitKey + ":moves";
-                    if (!rateLimitingService.isAllowed(moveRateLimitKey, MAX_MOVES_PER_MINUTE, java.time.Duration.ofMinutes(1))) {
-                        log.warn("Rate limit exceeded for WebSocket moves: userId={}, gameId={}", userId, gameId);
-                        sendError(session, "Move rate limit exceeded. Please slow down.");
-                        return;
-                    }
-                    MoveMessage moveMessage = objectMapper.treeToValue(root, MoveMessage.class);
-                    handleMove(session, gameId, userId, moveMessage);
-                }
-                case SURRENDER -> handleSurrender(session, gameId, userId);
-                case PING -> {
-                    PingMessage pingMessage = objectMapper.treeToValue(root, PingMessage.class);
-                    handlePing(session, pingMessage);
-                }
-                default -> {
-                    log.warn("Unsupported client WebSocket message type: gameId={}, userId={}, type={}", gameId, userId, type);
-                    sendError(session, "Invalid message format");
-                }
-            }
-        } catch (Exception e) {
-            log.error("Error handling WebSocket message: gameId={}, userId={}, payload={}", gameId, userId, message.getPayload(), e);
+        if (inbound.type() != WebSocketMessageType.MOVE && inbound.type() != WebSocketMessageType.PING) {
+            log.warn("Unsupported client binary frame: gameId={}, userId={}, type={}", gameId, userId, inbound.type());
             sendError(session, "Invalid message format");
+            return;
+        }
+        handleMessage(session, gameId, userId, inbound);
+    }
+
+    private boolean acceptInboundMessage(WebSocketSession session, Long gameId, Long userId, int payloadLength) {
+        if (gameId == null || userId == null) {
+            log.error("Received message from session with missing attributes");
+            return false;
+        }
+
+        if (payloadLength > MAX_PAYLOAD_SIZE) {
+            log.warn("WebSocket message too large: {} bytes (max: {})", payloadLength, MAX_PAYLOAD_SIZE);
+            sendError(session, "Message too large");
+            return false;
+        }
+
+        if (!rateLimitingService.isAllowed(rateLimitKey(gameId, userId) + ":messages", MAX_MESSAGES_PER_MINUTE, java.time.Duration.ofMinutes(1))) {
+            log.warn("Rate limit exceeded for WebSocket messages: userId={}, gameId={}", userId, gameId);
+            sendError(session, "Rate limit exceeded. Please slow down.");
+            return false;
         }
+        return true;
+    }
+
+    private static String rateLimitKey(Long gameId, Long userId) {
+        return "websocket:" + userId + ":" + gameId;
     }
 
     @Override
@@ -221,9 +276,17 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
         if (gameId != null && userId != null) {
             log.info("WebSocket connection closing: gameId={}, userId={}, sessionId={}, status={}", 
                     gameId, userId, session.getId(), status);
-            lastPingTime.remove(session.getId());
+            livenessSweeper.sessionClosed(session.getId());
             activeSessions.remove(session.getId());
+            if (!session.getId().equals(sessionManager.getSessionId(gameId, userId))) {
+                log.debug("Closed session was already replaced by a newer one: gameId={}, userId={}, sessionId={}",
+                        gameId, userId, session.getId());
+                return;
+            }
             sessionManager.removeSession(gameId, userId);
+            if (sessionManager.getGameSessions(gameId).isEmpty()) {
+                gameSnapshotCache.evict(gameId);
+            }
             log.info("WebSocket connection closed: gameId={}, userId={}, sessionId={}", 
                     gameId, userId, session.getId());
             log.debug("Active sessions after remove: {}", activeSessions.keySet());
@@ -235,31 +298,96 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
 
     private void handleMessage(WebSocketSession session, Long gameId, Long userId, BaseWebSocketMessage message) {
         switch (message.type()) {
-            case MOVE -> handleMove(session, gameId, userId, (MoveMessage) message);
-            case SURRENDER -> handleSurrender(session, gameId, userId);
+            case MOVE -> {
+                String moveRateLimitKey = rateLimitKey(gameId, userId) + ":moves";
+                if (!rateLimitingService.isAllowed(moveRateLimitKey, MAX_MOVES_PER_MINUTE, java.time.Duration.ofMinutes(1))) {
+                    log.warn("Rate limit exceeded for WebSocket moves: userId={}, gameId={}", userId, gameId);
+                    sendError(session, "Move rate limit exceeded. Please slow down.");
+                    return;
+                }
+                gameMailbox.submit(gameId, () -> handleMove(session, gameId, userId, (MoveMessage) message));
+            }
+            case SURRENDER -> gameMailbox.submit(gameId, () -> handleSurrender(session, gameId, userId));
+            case RESYNC -> handleResync(session, gameId);
             case PING -> handlePing(session, (PingMessage) message);
             default -> log.warn("Unknown message type: {}", message.type());
         }
     }
 
-    private void sendInitialGameState(WebSocketSession session, Game game) throws IOException {
-        List<Move> moves = moveRepository.findByGameIdOrderByMoveOrderAsc(game.getId());
-        com.tbs.dto.common.BoardState boardState = boardStateService.generateBoardState(game, moves);
-
+    private void sendInitialGameState(WebSocketSession session, GameSnapshot game) {
+        BoardDigest digest = BoardDigest.of(game.boardState());
+        Long userId = (Long) session.getAttributes().get("userId");
+        String tokenId = (String) session.getAttributes().get("tokenId");
+        String resumeToken = resumeEnabled && tokenId != null && game.isActive()
+                ? resumeTokenProvider.issue(game.gameId(), userId, tokenId, digest.moveSequence())
+                : null;
         GameUpdateMessage gameUpdate = new GameUpdateMessage(
                 new GameUpdateMessage.GameUpdatePayload(
-                        game.getId(),
-                        game.getStatus(),
-                        game.getWinner() != null 
-                                ? new com.tbs.dto.user.WinnerInfo(game.getWinner().getId(), game.getWinner().getUsername())
-                                : null,
-                        boardState
+                        game.gameId(),
+                        game.status(),
+                        game.winner(),
+                        game.boardState(),
+                        digest.moveSequence(),
+                        digest.boardHash(),
+                        resumeToken
                 )
         );
 
         sendMessage(session, gameUpdate);
     }
 
+    private void resumeSession(WebSocketSession session, Long gameId, Long userId, int lastSequence) throws IOException {
+        session.getAttributes().put(GameProtocol.SESSION_ATTRIBUTE, GameProtocol.fromSubprotocol(session.getAcceptedProtocol()));
+        String previousSessionId = sessionManager.getSessionId(gameId, userId);
+        activeSessions.put(session.getId(), session);
+        sessionManager.addSession(gameId, userId, session.getId());
+        livenessSweeper.sessionOpened(session.getId(), Instant.now());
+        if (previousSessionId != null && !previousSessionId.equals(session.getId())) {
+            closeReplacedSession(previousSessionId);
+        }
+        log.info("WebSocket connection resumed: gameId={}, userId={}, sessionId={}, lastSequence={}",
+                gameId, userId, session.getId(), lastSequence);
+
+        handlePlayerConnected(gameId, userId);
+
+        Optional<List<GameEvent>> missed = gameSnapshotCache.getGame(gameId)
+                .flatMap(game -> gameEventJournal.eventsSince(gameId, userId, lastSequence,
+                        BoardDigest.of(game.boardState()).moveSequence()));
+        if (missed.isEmpty()) {
+            log.debug("Journal cannot cover resume, sending full state: gameId={}, lastSequence={}", gameId, lastSequence);
+            handleResync(session, gameId);
+            return;
+        }
+
+        boolean gameEnded = false;
+        for (GameEvent event : missed.get()) {
+            sendMessage(session, messageFor(session, event.message()));
+            gameEnded |= event.message() instanceof GameEndedMessage;
+        }
+        if (gameEnded) {
+            session.close(CloseStatus.NORMAL);
+        }
+    }
+
+    private void closeReplacedSession(String sessionId) {
+        WebSocketSession replaced = activeSessions.remove(sessionId);
+        livenessSweeper.sessionClosed(sessionId);
+        if (replaced != null && replaced.isOpen()) {
+            try {
+                replaced.close(CloseStatus.NORMAL);
+            } catch (IOException e) {
+                log.debug("Error closing replaced WebSocket session: sessionId={}", sessionId, e);
+            }
+        }
+    }
+
+    private void handleResync(WebSocketSession session, Long gameId) {
+        gameSnapshotCache.getGame(gameId).ifPresentOrElse(
+                game -> sendInitialGameState(session, game),
+                () -> sendError(session, "Game not found")
+        );
+    }
+
     private void handleMove(WebSocketSession session, Long gameId, Long userId, MoveMessage message) {
         try {
             com.tbs.service.WebSocketGameService.MoveResult result = webSocketGameService.processMove(
@@ -273,6 +401,8 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
             Move savedMove = result.move();
             Game updatedGame = result.game();
             com.tbs.dto.common.BoardState boardState = result.boardState();
+            gameSnapshotCache.update(updatedGame, boardState);
+            BoardDigest digest = BoardDigest.of(boardState);
 
             MoveAcceptedMessage acceptedMessage = new MoveAcceptedMessage(
                     new MoveAcceptedMessage.MoveAcceptedPayload(
@@ -282,14 +412,16 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
                             message.payload().playerSymbol(),
                             boardState,
                             updatedGame.getCurrentPlayerSymbol(),
-                            Instant.now().plusSeconds(MOVE_TIMEOUT_SECONDS)
+                            Instant.now().plusSeconds(MOVE_TIMEOUT_SECONDS),
+                            digest.moveSequence(),
+                            digest.boardHash()
                     )
             );
 
-            sendMessage(session, acceptedMessage);
+            dispatch(GameEvent.deliver(gameId, userId, null, acceptedMessage));
 
             sendOpponentMove(gameId, userId, message.payload().row(), message.payload().col(), 
-                    message.payload().playerSymbol(), boardState, updatedGame);
+                    message.payload().playerSymbol(), boardState, digest, updatedGame);
 
             stopMoveTimer(gameId);
             
@@ -299,8 +431,17 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
                 return;
             }
             
-            startMoveTimer(gameId, updatedGame);
+            restartClock(gameId);
 
+        } catch (org.springframework.dao.OptimisticLockingFailureException e) {
+            log.warn("Move rejected due to concurrent update: gameId={}, userId={}", gameId, userId);
+            MoveRejectedMessage rejectedMessage = new MoveRejectedMessage(
+                    new MoveRejectedMessage.MoveRejectedPayload(
+                            "Game state changed concurrently. Please retry.",
+                            "MOVE_CONFLICT"
+                    )
+            );
+            sendMessage(session, rejectedMessage);
         } catch (InvalidMoveException | ForbiddenException e) {
             log.warn("Move rejected: gameId={}, userId={}, reason={}", gameId, userId, e.getMessage());
             MoveRejectedMessage rejectedMessage = new MoveRejectedMessage(
@@ -327,22 +468,13 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
             com.tbs.service.WebSocketGameService.SurrenderResult result = webSocketGameService.processSurrender(gameId, userId);
 
             Game game = result.game();
+            gameSnapshotCache.update(game, result.boardState());
             com.tbs.dto.user.WinnerInfo winnerInfo = new com.tbs.dto.user.WinnerInfo(
                     result.winner().getId(),
                     result.winner().getUsername()
             );
 
-            GameEndedMessage gameEnded = new GameEndedMessage(
-                    new GameEndedMessage.GameEndedPayload(
-                            gameId,
-                            game.getStatus(),
-                            winnerInfo,
-                            result.boardState(),
-                            result.totalMoves()
-                    )
-            );
-
-            sendMessageToBothPlayers(gameId, gameEnded);
+            sendGameEndedToBothPlayers(gameId, game.getStatus(), winnerInfo, result.boardState(), result.totalMoves());
             closeBothSessions(gameId);
 
         } catch (Exception e) {
@@ -351,76 +483,181 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
     }
 
     private void handlePing(WebSocketSession session, PingMessage message) {
-        lastPingTime.put(session.getId(), Instant.now());
+        livenessSweeper.seen(session.getId(), Instant.now());
         PongMessage pong = new PongMessage(new PongMessage.PongPayload(message.payload().timestamp()));
         sendMessage(session, pong);
     }
 
-    private PlayerSymbol determinePlayer1SymbolFromMoves(Game game, List<Move> existingMoves) {
-        if (!existingMoves.isEmpty()) {
-            for (Move move : existingMoves) {
-                if (move.getPlayer() != null && move.getPlayer().getId().equals(game.getPlayer1().getId())) {
-                    return move.getPlayerSymbol();
-                }
-            }
-        }
-        return PlayerSymbol.X;
+    private PlayerSymbol determinePlayer1Symbol(Game game) {
+        PlayerSymbol player1Symbol = MoveLogCodec.player1Symbol(game.getMoveLog());
+        return player1Symbol != null ? player1Symbol : PlayerSymbol.X;
     }
 
     private void sendOpponentMove(Long gameId, Long userId, int row, int col, 
                                   PlayerSymbol playerSymbol,
-                                  com.tbs.dto.common.BoardState boardState, Game game) {
-        Map<Long, String> sessions = new HashMap<>(sessionManager.getGameSessions(gameId));
-        
-        for (Map.Entry<Long, String> entry : sessions.entrySet()) {
-            if (!entry.getKey().equals(userId)) {
-                String sessionId = entry.getValue();
-                WebSocketSession opponentSession = activeSessions.get(sessionId);
-                if (opponentSession != null && opponentSession.isOpen()) {
-                    OpponentMoveMessage opponentMove = new OpponentMoveMessage(
-                            new OpponentMoveMessage.OpponentMovePayload(
-                                    row,
-                                    col,
-                                    playerSymbol,
-                                    boardState,
-                                    game.getCurrentPlayerSymbol(),
-                                    Instant.now().plusSeconds(MOVE_TIMEOUT_SECONDS)
-                            )
-                    );
-                    sendMessage(opponentSession, opponentMove);
+                                  com.tbs.dto.common.BoardState boardState, BoardDigest digest, Game game) {
+        OpponentMoveMessage opponentMove = new OpponentMoveMessage(
+                new OpponentMoveMessage.OpponentMovePayload(
+                        row,
+                        col,
+                        playerSymbol,
+                        boardState,
+                        game.getCurrentPlayerSymbol(),
+                        Instant.now().plusSeconds(MOVE_TIMEOUT_SECONDS),
+                        digest.moveSequence(),
+                        digest.boardHash()
+                )
+        );
+        dispatch(GameEvent.deliver(gameId, null, userId, opponentMove));
+    }
+
+    private void sendMessageToBothPlayers(Long gameId, BaseWebSocketMessage message) {
+        dispatch(GameEvent.deliver(gameId, null, null, message));
+    }
+
+    private void dispatch(GameEvent event) {
+        gameEventJournal.record(event);
+        deliverLocally(event);
+        deliverToSpectators(event);
+        if (!deliveredLocallyOnly(event)) {
+            gameEventBus.publish(event);
+        }
+    }
+
+    private boolean deliveredLocallyOnly(GameEvent event) {
+        Map<Long, String> sessions = sessionManager.getGameSessions(event.gameId());
+        if (event.targetUserId() != null) {
+            return sessions.containsKey(event.targetUserId());
+        }
+        if (sessions.size() < PLAYERS_PER_GAME) {
+            return false;
+        }
+        return event.message() instanceof TimerUpdateMessage || !spectatorHub.isWatchedElsewhere(event.gameId());
+    }
+
+    private void deliverToSpectators(GameEvent event) {
+        if (event.targetUserId() == null) {
+            spectatorHub.broadcast(event.gameId(), event.message());
+        }
+    }
+
+    private void onGameEvent(GameEvent event) {
+        switch (event.type()) {
+            case DELIVER -> {
+                applyToSnapshot(event);
+                gameEventJournal.record(event);
+                deliverLocally(event);
+                deliverToSpectators(event);
+            }
+            case CLOSE_SESSIONS -> {
+                gameSnapshotCache.evict(event.gameId());
+                closeLocalSessions(event.gameId());
+            }
+            case RESTART_CLOCK -> {
+                if (clusterMembership.isOwner(event.gameId())) {
+                    gameMailbox.submit(event.gameId(), () -> startMoveTimer(event.gameId()));
                 }
             }
+            case PLAYER_CONNECTED -> handlePlayerConnected(event.gameId(), event.targetUserId());
+            case PLAYER_DISCONNECTED -> handleDisconnection(event.gameId(), event.targetUserId());
         }
     }
 
-    private void sendMessageToBothPlayers(Long gameId, BaseWebSocketMessage message) {
-        Map<Long, String> sessions = new HashMap<>(sessionManager.getGameSessions(gameId));
+    private void applyToSnapshot(GameEvent event) {
+        switch (event.message()) {
+            case OpponentMoveMessage opponentMove -> recordRemoteMove(event.gameId(),
+                    opponentMove.payload().boardState(), opponentMove.payload().currentPlayerSymbol());
+            case MoveAcceptedMessage accepted -> recordRemoteMove(event.gameId(),
+                    accepted.payload().boardState(), accepted.payload().currentPlayerSymbol());
+            case GameEndedMessage ignored -> gameSnapshotCache.evict(event.gameId());
+            case null, default -> {
+            }
+        }
+    }
+
+    private void recordRemoteMove(Long gameId, com.tbs.dto.common.BoardState boardState, PlayerSymbol currentPlayerSymbol) {
+        if (boardState == null) {
+            gameSnapshotCache.evict(gameId);
+            return;
+        }
+        gameSnapshotCache.recordMove(gameId, boardState, currentPlayerSymbol, com.tbs.enums.GameStatus.IN_PROGRESS);
+    }
+
+    private void deliverLocally(GameEvent event) {
+        Map<Long, String> sessions = new HashMap<>(sessionManager.getGameSessions(event.gameId()));
         sessions.forEach((userId, sessionId) -> {
+            if (!event.isFor(userId)) {
+                return;
+            }
             WebSocketSession session = activeSessions.get(sessionId);
             if (session != null && session.isOpen()) {
-                sendMessage(session, message);
+                sendMessage(session, messageFor(session, event.message()));
             }
         });
     }
 
+    private static BaseWebSocketMessage messageFor(WebSocketSession session, BaseWebSocketMessage message) {
+        if (!protocolOf(session).sendsBoardDeltas()) {
+            return message;
+        }
+        return switch (message) {
+            case MoveAcceptedMessage accepted -> {
+                MoveAcceptedMessage.MoveAcceptedPayload p = accepted.payload();
+                yield new MoveAcceptedMessage(new MoveAcceptedMessage.MoveAcceptedPayload(
+                        p.moveId(), p.row(), p.col(), p.playerSymbol(), null, p.currentPlayerSymbol(),
+                        p.nextMoveAt(), p.moveSequence(), p.boardHash()));
+            }
+            case OpponentMoveMessage opponentMove -> {
+                OpponentMoveMessage.OpponentMovePayload p = opponentMove.payload();
+                yield new OpponentMoveMessage(new OpponentMoveMessage.OpponentMovePayload(
+                        p.row(), p.col(), p.playerSymbol(), null, p.currentPlayerSymbol(),
+                        p.nextMoveAt(), p.moveSequence(), p.boardHash()));
+            }
+            case GameEndedMessage gameEnded -> {
+                GameEndedMessage.GameEndedPayload p = gameEnded.payload();
+                yield new GameEndedMessage(new GameEndedMessage.GameEndedPayload(
+                        p.gameId(), p.status(), p.winner(), null, p.totalMoves(), p.boardHash()));
+            }
+            default -> message;
+        };
+    }
+
     private void handleGameEnded(Long gameId, Game game, com.tbs.dto.common.BoardState boardState, int totalMoves) {
         com.tbs.dto.user.WinnerInfo winnerInfo = null;
         if (game.getWinner() != null) {
             winnerInfo = new com.tbs.dto.user.WinnerInfo(game.getWinner().getId(), game.getWinner().getUsername());
         }
 
+        sendGameEndedToBothPlayers(gameId, game.getStatus(), winnerInfo, boardState, totalMoves);
+        closeBothSessions(gameId);
+    }
+
+    private void sendGameEndedToBothPlayers(Long gameId, com.tbs.enums.GameStatus status,
+                                            com.tbs.dto.user.WinnerInfo winnerInfo,
+                                            com.tbs.dto.common.BoardState boardState, int totalMoves) {
         GameEndedMessage gameEnded = new GameEndedMessage(
                 new GameEndedMessage.GameEndedPayload(
                         gameId,
-                        game.getStatus(),
+                        status,
                         winnerInfo,
                         boardState,
-                        totalMoves
+                        totalMoves,
+                        BoardDigest.of(boardState).boardHash()
                 )
         );
-
         sendMessageToBothPlayers(gameId, gameEnded);
-        closeBothSessions(gameId);
+    }
+
+    private static GameProtocol protocolOf(WebSocketSession session) {
+        Object protocol = session.getAttributes().get(GameProtocol.SESSION_ATTRIBUTE);
+        return protocol instanceof GameProtocol gameProtocol ? gameProtocol : GameProtocol.FULL;
+    }
+
+    private WebSocketMessage<?> toFrame(WebSocketSession session, BaseWebSocketMessage message) throws IOException {
+        if (protocolOf(session) == GameProtocol.BINARY && BinaryFrameCodec.supports(message.type())) {
+            return new BinaryMessage(BinaryFrameCodec.encode(message));
+        }
+        return new TextMessage(objectMapper.writeValueAsString(message));
     }
 
     private void sendMessage(WebSocketSession session, BaseWebSocketMessage message) {
@@ -428,7 +665,6 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
             Long gameId = (Long) session.getAttributes().get("gameId");
             Long userId = (Long) session.getAttributes().get("userId");
             
-            String json = objectMapper.writeValueAsString(message);
             log.debug("sendMessage called: sessionId={}, messageType={}, sessionOpen={}, gameId={}, userId={}", 
                     session.getId(), message.type(), session.isOpen(), gameId, userId);
             
@@ -438,7 +674,7 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
                 return;
             }
             
-            session.sendMessage(new TextMessage(json));
+            session.sendMessage(toFrame(session, message));
             log.debug("WebSocket message sent: type={}, sessionId={}", 
                     message.type(), session.getId());
             
@@ -464,16 +700,9 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
         try {
             log.debug("notifyMoveFromRestApi: gameId={}, userId={}, moveId={}, row={}, col={}, symbol={}", 
                     gameId, userId, moveId, row, col, playerSymbol);
-            Map<Long, String> sessions = new HashMap<>(sessionManager.getGameSessions(gameId));
-            
-            log.debug("WebSocket sessions for gameId={}: {}", gameId, sessions);
-            
-            if (sessions.isEmpty()) {
-                log.debug("No WebSocket sessions found for gameId={}, skipping notification", gameId);
-                return;
-            }
-            
-            log.debug("Processing {} WebSocket session(s) for game {}", sessions.size(), gameId);
+            gameSnapshotCache.recordMove(gameId, boardState, currentPlayerSymbol, gameStatus);
+            BoardDigest digest = BoardDigest.of(boardState);
+            Instant nextMoveAt = Instant.now().plusSeconds(MOVE_TIMEOUT_SECONDS);
 
             MoveAcceptedMessage acceptedMessage = new MoveAcceptedMessage(
                     new MoveAcceptedMessage.MoveAcceptedPayload(
@@ -483,66 +712,39 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
                             playerSymbol,
                             boardState,
                             currentPlayerSymbol,
-                            Instant.now().plusSeconds(MOVE_TIMEOUT_SECONDS)
+                            nextMoveAt,
+                            digest.moveSequence(),
+                            digest.boardHash()
                     )
             );
+            dispatch(GameEvent.deliver(gameId, userId, null, acceptedMessage));
 
-            String moverSessionId = sessions.get(userId);
-            log.debug("Mover userId={}, sessionId={}", userId, moverSessionId);
-            
-            if (moverSessionId == null) {
-                return;
-            }
-            
-            WebSocketSession moverSession = activeSessions.get(moverSessionId);
-            if (moverSession == null || !moverSession.isOpen()) {
-                log.warn("Mover session not found or closed: userId={}, sessionId={}", 
-                        userId, moverSessionId);
+            OpponentMoveMessage opponentMove = new OpponentMoveMessage(
+                    new OpponentMoveMessage.OpponentMovePayload(
+                            row,
+                            col,
+                            playerSymbol,
+                            boardState,
+                            currentPlayerSymbol,
+                            nextMoveAt,
+                            digest.moveSequence(),
+                            digest.boardHash()
+                    )
+            );
+            dispatch(GameEvent.deliver(gameId, null, userId, opponentMove));
+
+            if (gameStatus == com.tbs.enums.GameStatus.IN_PROGRESS) {
+                restartClock(gameId);
                 return;
             }
-            
-            sendMessage(moverSession, acceptedMessage);
-            log.debug("MOVE_ACCEPTED sent to mover userId={}", userId);
-
-            for (Map.Entry<Long, String> entry : sessions.entrySet()) {
-                if (!entry.getKey().equals(userId)) {
-                    Long opponentUserId = entry.getKey();
-                    String opponentSessionId = entry.getValue();
-                    
-                    WebSocketSession opponentSession = activeSessions.get(opponentSessionId);
-                    
-                    if (opponentSession == null || !opponentSession.isOpen()) {
-                        log.warn("Opponent session not found or closed: userId={}, sessionId={}", 
-                                opponentUserId, opponentSessionId);
-                        continue;
-                    }
-                    
-                    OpponentMoveMessage opponentMove = new OpponentMoveMessage(
-                            new OpponentMoveMessage.OpponentMovePayload(
-                                    row,
-                                    col,
-                                    playerSymbol,
-                                    boardState,
-                                    currentPlayerSymbol,
-                                    Instant.now().plusSeconds(MOVE_TIMEOUT_SECONDS)
-                            )
-                    );
-                    sendMessage(opponentSession, opponentMove);
-                    log.debug("OPPONENT_MOVE sent to opponent userId={}", opponentUserId);
-                }
-            }
 
-            Game currentGame = gameRepository.findByIdWithPlayers(gameId)
-                    .orElseThrow(() -> new com.tbs.exception.GameNotFoundException("Game not found: " + gameId));
-            
             stopMoveTimer(gameId);
-            
+
             if (gameStatus == com.tbs.enums.GameStatus.FINISHED || 
                 gameStatus == com.tbs.enums.GameStatus.DRAW) {
-                List<Move> allMoves = moveRepository.findByGameIdOrderByMoveOrderAsc(gameId);
-                handleGameEnded(gameId, currentGame, boardState, allMoves.size());
-            } else if (gameStatus == com.tbs.enums.GameStatus.IN_PROGRESS) {
-                startMoveTimer(gameId, currentGame);
+                Game currentGame = gameRepository.findByIdWithPlayers(gameId)
+                        .orElseThrow(() -> new com.tbs.exception.GameNotFoundException("Game not found: " + gameId));
+                handleGameEnded(gameId, currentGame, boardState, MoveLogCodec.moveCount(currentGame.getMoveLog()));
             }
         } catch (Exception e) {
             log.error("Error notifying WebSocket about move from REST API: gameId={}, userId={}", 
@@ -580,46 +782,60 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
         return "MOVE_INVALID_UNKNOWN";
     }
 
-    private void startMoveTimer(Long gameId, Game game) {
+    private void restartClock(Long gameId) {
+        if (clusterMembership.isOwner(gameId)) {
+            startMoveTimer(gameId);
+            return;
+        }
+        stopMoveTimer(gameId);
+        gameEventBus.publish(GameEvent.restartClock(gameId));
+    }
+
+    private void startMoveTimer(Long gameId) {
         stopMoveTimer(gameId);
         
         Instant deadline = Instant.now().plusSeconds(MOVE_TIMEOUT_SECONDS);
         moveDeadlines.put(gameId, deadline);
         
-        ScheduledFuture<?> timerTask = scheduler.scheduleAtFixedRate(() -> {
+        ScheduledFuture<?> timerTask = scheduler.scheduleAtFixedRate(() -> gameMailbox.submit(gameId, () -> {
             try {
-                updateTimer(gameId, game);
+                updateTimer(gameId);
             } catch (Exception e) {
                 log.error("Error in move timer for gameId={}", gameId, e);
             }
-        }, 0, TIMER_UPDATE_INTERVAL_SECONDS, TimeUnit.SECONDS);
+        }), 0, TIMER_UPDATE_INTERVAL_SECONDS, TimeUnit.SECONDS);
         
         gameTimers.put(gameId, timerTask);
         
-        ScheduledFuture<?> timeoutTask = scheduler.schedule(() -> {
-            try {
-                handleMoveTimeout(gameId, game);
-            } catch (Exception e) {
-                log.error("Error handling move timeout for gameId={}", gameId, e);
-            }
-        }, MOVE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        ScheduledFuture<?> timeoutTask = scheduler.schedule(
+                () -> gameMailbox.submit(gameId, () -> handleMoveTimeout(gameId, deadline)),
+                MOVE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
         
-        gameTimers.put(gameId, timeoutTask);
+        moveTimeouts.put(gameId, timeoutTask);
     }
 
     private void stopMoveTimer(Long gameId) {
-        ScheduledFuture<?> timer = gameTimers.remove(gameId);
+        cancelTimer(gameTimers.remove(gameId));
+        cancelTimer(moveTimeouts.remove(gameId));
+        moveDeadlines.remove(gameId);
+    }
+
+    private static void cancelTimer(ScheduledFuture<?> timer) {
         if (timer != null && !timer.isDone()) {
             timer.cancel(false);
         }
-        moveDeadlines.remove(gameId);
     }
 
-    private void updateTimer(Long gameId, Game game) {
+    private void updateTimer(Long gameId) {
         Instant deadline = moveDeadlines.get(gameId);
         if (deadline == null) {
             return;
         }
+        if (!clusterMembership.isOwner(gameId)) {
+            log.info("Game clock moved to node {}: gameId={}", clusterMembership.ownerOf(gameId), gameId);
+            stopMoveTimer(gameId);
+            return;
+        }
         
         long remainingSeconds = java.time.Duration.between(Instant.now(), deadline).getSeconds();
         
@@ -657,7 +873,16 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
         }
     }
 
-    private void handleMoveTimeout(Long gameId, Game game) {
+    private void handleMoveTimeout(Long gameId, Instant deadline) {
+        if (!deadline.equals(moveDeadlines.get(gameId))) {
+            log.debug("Ignoring stale move timeout: gameId={}, deadline={}", gameId, deadline);
+            return;
+        }
+        if (!clusterMembership.isOwner(gameId)) {
+            log.info("Skipping move timeout for game owned by node {}: gameId={}", clusterMembership.ownerOf(gameId), gameId);
+            stopMoveTimer(gameId);
+            return;
+        }
         try {
             Game currentGame = gameRepository.findByIdWithPlayers(gameId)
                     .orElseThrow(() -> new com.tbs.exception.GameNotFoundException("Game not found: " + gameId));
@@ -674,8 +899,7 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
             
             PlayerSymbol currentPlayerSymbol = currentGame.getCurrentPlayerSymbol();
             
-            List<Move> existingMoves = moveRepository.findByGameIdOrderByMoveOrderAsc(gameId);
-            PlayerSymbol player1Symbol = determinePlayer1SymbolFromMoves(currentGame, existingMoves);
+            PlayerSymbol player1Symbol = determinePlayer1Symbol(currentGame);
             
             User winner = (currentPlayerSymbol == player1Symbol) 
                     ? currentGame.getPlayer2() 
@@ -691,56 +915,108 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
         }
     }
 
-    private void startPingTimeoutCheck(WebSocketSession session) {
-        scheduler.schedule(() -> {
-            try {
-                Instant lastPing = lastPingTime.get(session.getId());
-                if (lastPing != null && 
-                    java.time.Duration.between(lastPing, Instant.now()).getSeconds() > PING_TIMEOUT_SECONDS) {
-                    log.warn("Ping timeout for session: {}", session.getId());
-                    if (session.isOpen()) {
-                        session.close(CloseStatus.SESSION_NOT_RELIABLE);
-                    }
-                }
-            } catch (Exception e) {
-                log.error("Error checking ping timeout", e);
+    private void sweepLiveness() {
+        try {
+            LivenessSweeper.Sweep sweep = livenessSweeper.sweep(Instant.now());
+            for (String sessionId : sweep.timedOutSessions()) {
+                closeTimedOutSession(sessionId);
             }
-        }, PING_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            for (LivenessSweeper.PlayerSlot slot : sweep.expiredReconnects()) {
+                gameMailbox.submit(slot.gameId(), () -> forfeitDisconnectedPlayer(slot.gameId(), slot.userId()));
+            }
+        } catch (Exception e) {
+            log.error("Error during liveness sweep", e);
+        }
+    }
+
+    private void closeTimedOutSession(String sessionId) {
+        WebSocketSession session = activeSessions.get(sessionId);
+        if (session == null || !session.isOpen()) {
+            return;
+        }
+        log.warn("Ping timeout for session: {}", sessionId);
+        try {
+            session.close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (IOException e) {
+            log.error("Error closing timed out WebSocket session: sessionId={}", sessionId, e);
+        }
+    }
+
+    private void handlePlayerConnected(Long gameId, Long userId) {
+        if (!clusterMembership.isOwner(gameId)) {
+            gameEventBus.publish(GameEvent.playerConnected(gameId, userId));
+            return;
+        }
+        reconnectDeadlineStore.remove(gameId, userId);
+        if (livenessSweeper.cancelReconnectWindow(gameId, userId)) {
+            log.info("Player reconnected within reconnect window: gameId={}, userId={}", gameId, userId);
+        }
     }
 
     private void handleDisconnection(Long gameId, Long userId) {
-        scheduler.schedule(() -> {
-            try {
-                Map<Long, String> sessions = new HashMap<>(sessionManager.getGameSessions(gameId));
-                if (sessions.containsKey(userId)) {
-                    log.info("Reconnect window expired for gameId={}, userId={}. Forfeiting game.", gameId, userId);
-                    
-                    try {
-                        Game game = gameRepository.findByIdWithPlayers(gameId)
-                                .orElseThrow(() -> new com.tbs.exception.GameNotFoundException("Game not found: " + gameId));
-                        
-                        if (game.getStatus() != com.tbs.enums.GameStatus.IN_PROGRESS) {
-                            return;
-                        }
-                        
-                        User winner = game.getPlayer1().getId().equals(userId) 
-                                ? game.getPlayer2() 
-                                : game.getPlayer1();
-                        
-                        if (winner == null) {
-                            log.warn("Cannot determine winner for disconnection in gameId={}, userId={}", gameId, userId);
-                            return;
-                        }
-                        
-                        finishGameWithWinner(gameId, winner, "disconnection");
-                    } catch (com.tbs.exception.GameNotFoundException e) {
-                        log.warn("Game not found during disconnection: gameId={}", gameId);
-                    }
+        if (!clusterMembership.isOwner(gameId)) {
+            gameEventBus.publish(GameEvent.playerDisconnected(gameId, userId));
+            return;
+        }
+        Instant dueAt = livenessSweeper.startReconnectWindow(gameId, userId, Instant.now());
+        reconnectDeadlineStore.save(gameId, userId, dueAt);
+    }
+
+    private void forfeitDisconnectedPlayer(Long gameId, Long userId) {
+        if (!clusterMembership.isOwner(gameId)) {
+            log.info("Skipping forfeit for game owned by node {}: gameId={}, userId={}",
+                    clusterMembership.ownerOf(gameId), gameId, userId);
+            return;
+        }
+        reconnectDeadlineStore.remove(gameId, userId);
+        try {
+            log.info("Reconnect window expired for gameId={}, userId={}. Forfeiting game.", gameId, userId);
+            Game game = gameRepository.findByIdWithPlayers(gameId)
+                    .orElseThrow(() -> new com.tbs.exception.GameNotFoundException("Game not found: " + gameId));
+
+            if (game.getStatus() != com.tbs.enums.GameStatus.IN_PROGRESS) {
+                return;
+            }
+
+            User winner = game.getPlayer1().getId().equals(userId)
+                    ? game.getPlayer2()
+                    : game.getPlayer1();
+
+            if (winner == null) {
+                log.warn("Cannot determine winner for disconnection in gameId={}, userId={}", gameId, userId);
+                return;
+            }
+
+            finishGameWithWinner(gameId, winner, "disconnection");
+        } catch (com.tbs.exception.GameNotFoundException e) {
+            log.warn("Game not found during disconnection: gameId={}", gameId);
+        } catch (Exception e) {
+            log.error("Error handling disconnection for gameId={}, userId={}", gameId, userId, e);
+        }
+    }
+
+    @EventListener
+    public void onClusterMembershipChanged(com.tbs.event.ClusterMembershipChangedEvent event) {
+        gameTimers.keySet().stream()
+                .filter(gameId -> !clusterMembership.isOwner(gameId))
+                .forEach(this::stopMoveTimer);
+        livenessSweeper.releaseReconnectWindows(gameId -> !clusterMembership.isOwner(gameId));
+        reconnectDeadlineStore.loadAll().forEach((slot, dueAt) -> {
+            if (clusterMembership.isOwner(slot.gameId())) {
+                livenessSweeper.restoreReconnectWindow(slot.gameId(), slot.userId(), dueAt);
+            }
+        });
+
+        try {
+            for (Long gameId : gameRepository.findInProgressPvpGameIds()) {
+                if (clusterMembership.isOwner(gameId) && !gameTimers.containsKey(gameId)) {
+                    log.info("Taking over game clock after membership change: gameId={}", gameId);
+                    gameMailbox.submit(gameId, () -> startMoveTimer(gameId));
                 }
-            } catch (Exception e) {
-                log.error("Error handling disconnection for gameId={}, userId={}", gameId, userId, e);
             }
-        }, RECONNECT_WINDOW_SECONDS, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            log.error("Failed to take over game clocks after membership change", e);
+        }
     }
 
     private void finishGameWithWinner(Long gameId, User winner, String reason) {
@@ -764,11 +1040,11 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
             
             stopMoveTimer(gameId);
             
-            List<Move> moves = moveRepository.findByGameIdOrderByMoveOrderAsc(gameId);
-            com.tbs.dto.common.BoardState boardState = boardStateService.generateBoardState(game, moves);
+            com.tbs.dto.common.BoardState boardState = boardStateService.generateBoardState(game);
+            gameSnapshotCache.update(game, boardState);
             
             log.info("Game {} finished: {}. Winner: user {}", gameId, reason, winner.getId());
-            handleGameEnded(gameId, game, boardState, moves.size());
+            handleGameEnded(gameId, game, boardState, MoveLogCodec.moveCount(game.getMoveLog()));
         } catch (com.tbs.exception.GameNotFoundException e) {
             log.warn("Game not found during finishGameWithWinner: gameId={}, reason={}", gameId, reason);
         } catch (Exception e) {
@@ -777,6 +1053,13 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
     }
 
     private void closeBothSessions(Long gameId) {
+        if (sessionManager.getGameSessions(gameId).size() < PLAYERS_PER_GAME) {
+            gameEventBus.publish(GameEvent.closeSessions(gameId));
+        }
+        closeLocalSessions(gameId);
+    }
+
+    private void closeLocalSessions(Long gameId) {
         stopMoveTimer(gameId);
         Map<Long, String> sessions = new HashMap<>(sessionManager.getGameSessions(gameId));
         sessions.forEach((userId, sessionId) -> {
@@ -789,7 +1072,7 @@ public class GameWebSocketHandler extends TextWebSocketHandler {
                 }
             }
             activeSessions.remove(sessionId);
-            lastPingTime.remove(sessionId);
+            livenessSweeper.sessionClosed(sessionId);
         });
         sessionManager.removeAllGameSessions(gameId);
     }
@@ -0,0 +1,39 @@
+package com.tbs.websocket;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+public class InMemoryGameEventBus implements GameEventBus {
+
+    private final Collection<InMemoryGameEventBus> nodes;
+    private final List<Consumer<GameEvent>> listeners = new CopyOnWriteArrayList<>();
+
+    public InMemoryGameEventBus() {
+        this(new CopyOnWriteArrayList<>());
+    }
+
+    private InMemoryGameEventBus(Collection<InMemoryGameEventBus> nodes) {
+        this.nodes = nodes;
+        nodes.add(this);
+    }
+
+    public InMemoryGameEventBus connectNode() {
+        return new InMemoryGameEventBus(nodes);
+    }
+
+    @Override
+    public void publish(GameEvent event) {
+        for (InMemoryGameEventBus node : nodes) {
+            if (node != this) {
+                node.listeners.forEach(listener -> listener.accept(event));
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<GameEvent> listener) {
+        listeners.add(listener);
+    }
+}
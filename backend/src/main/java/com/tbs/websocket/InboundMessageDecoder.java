@@ -0,0 +1,118 @@
+package com.tbs.websocket;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.tbs.dto.websocket.BaseWebSocketMessage;
+import com.tbs.dto.websocket.MoveMessage;
+import com.tbs.dto.websocket.PingMessage;
+import com.tbs.dto.websocket.ResyncMessage;
+import com.tbs.dto.websocket.SurrenderMessage;
+import com.tbs.dto.websocket.WebSocketMessageType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+@Component
+public class InboundMessageDecoder {
+
+    private static final String TYPE_FIELD = "type";
+    private static final String PAYLOAD_FIELD = "payload";
+
+    private final JsonFactory jsonFactory;
+    private final ObjectReader movePayloadReader;
+    private final ObjectReader pingPayloadReader;
+    private final ObjectReader resyncPayloadReader;
+
+    public InboundMessageDecoder(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+        this.movePayloadReader = objectMapper.readerFor(MoveMessage.MovePayload.class);
+        this.pingPayloadReader = objectMapper.readerFor(PingMessage.PingPayload.class);
+        this.resyncPayloadReader = objectMapper.readerFor(ResyncMessage.ResyncPayload.class);
+    }
+
+    public BaseWebSocketMessage decode(String text) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(text)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException("Message must be a JSON object");
+            }
+
+            WebSocketMessageType type = null;
+            TokenBuffer bufferedPayload = null;
+            BaseWebSocketMessage message = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if (TYPE_FIELD.equals(field)) {
+                    type = parseType(parser);
+                } else if (PAYLOAD_FIELD.equals(field) && type != null) {
+                    message = readMessage(type, parser);
+                } else if (PAYLOAD_FIELD.equals(field)) {
+                    bufferedPayload = new TokenBuffer(parser, null);
+                    bufferedPayload.copyCurrentStructure(parser);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+
+            if (type == null) {
+                throw new IllegalArgumentException("Message is missing type field");
+            }
+            if (message != null) {
+                return message;
+            }
+            if (bufferedPayload == null) {
+                return readMessage(type, null);
+            }
+            try (JsonParser payloadParser = bufferedPayload.asParserOnFirstToken()) {
+                return readMessage(type, payloadParser);
+            }
+        }
+    }
+
+    private static WebSocketMessageType parseType(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.VALUE_STRING) {
+            throw new IllegalArgumentException("Message type must be a string");
+        }
+        try {
+            return WebSocketMessageType.valueOf(parser.getText());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown message type: " + parser.getText());
+        }
+    }
+
+    private BaseWebSocketMessage readMessage(WebSocketMessageType type, JsonParser payloadParser) throws IOException {
+        return switch (type) {
+            case MOVE -> new MoveMessage(
+                    requirePayload(type, readPayload(movePayloadReader, payloadParser)));
+            case PING -> new PingMessage(
+                    requirePayload(type, readPayload(pingPayloadReader, payloadParser)));
+            case RESYNC -> new ResyncMessage(
+                    readPayload(resyncPayloadReader, payloadParser));
+            case SURRENDER -> {
+                if (payloadParser != null) {
+                    payloadParser.skipChildren();
+                }
+                yield new SurrenderMessage();
+            }
+            default -> throw new IllegalArgumentException("Unsupported client message type: " + type);
+        };
+    }
+
+    private static <T> T readPayload(ObjectReader reader, JsonParser payloadParser) throws IOException {
+        if (payloadParser == null || payloadParser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return reader.readValue(payloadParser);
+    }
+
+    private static <T> T requirePayload(WebSocketMessageType type, T payload) {
+        if (payload == null) {
+            throw new IllegalArgumentException("Message " + type + " requires a payload");
+        }
+        return payload;
+    }
+}
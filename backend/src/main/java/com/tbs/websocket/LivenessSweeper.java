@@ -0,0 +1,157 @@
+package com.tbs.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+@Component
+public class LivenessSweeper {
+
+    private final long pingTimeoutMillis;
+    private final long reconnectWindowMillis;
+    private final Map<String, Long> lastSeen = new ConcurrentHashMap<>();
+    private final NavigableSet<Deadline<String>> pingChecks = new ConcurrentSkipListSet<>(Deadline.ORDER);
+    private final NavigableSet<Deadline<PlayerSlot>> reconnectDeadlines = new ConcurrentSkipListSet<>(Deadline.ORDER);
+    private final Map<PlayerSlot, Deadline<PlayerSlot>> pendingReconnects = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final Counter pingTimeouts;
+    private final Counter forfeits;
+
+    public LivenessSweeper(
+            MeterRegistry meterRegistry,
+            @Value("${websocket.pong.timeout:60000}") long pingTimeoutMillis,
+            @Value("${websocket.reconnect.window:20000}") long reconnectWindowMillis
+    ) {
+        this.pingTimeoutMillis = pingTimeoutMillis;
+        this.reconnectWindowMillis = reconnectWindowMillis;
+        Gauge.builder("websocket.liveness.sessions", lastSeen, Map::size)
+                .description("WebSocket sessions tracked by the liveness sweeper")
+                .register(meterRegistry);
+        Gauge.builder("websocket.liveness.at.risk", pendingReconnects, Map::size)
+                .description("Disconnected players inside their reconnect window")
+                .register(meterRegistry);
+        this.pingTimeouts = Counter.builder("websocket.liveness.timeouts")
+                .description("WebSocket sessions closed after missing pings")
+                .register(meterRegistry);
+        this.forfeits = Counter.builder("websocket.liveness.forfeits")
+                .description("Reconnect windows that expired and forfeit the game")
+                .register(meterRegistry);
+    }
+
+    public void sessionOpened(String sessionId, Instant now) {
+        long seenAt = now.toEpochMilli();
+        lastSeen.put(sessionId, seenAt);
+        pingChecks.add(new Deadline<>(seenAt + pingTimeoutMillis, sequence.incrementAndGet(), sessionId));
+    }
+
+    public void seen(String sessionId, Instant now) {
+        lastSeen.computeIfPresent(sessionId, (id, previous) -> now.toEpochMilli());
+    }
+
+    public void sessionClosed(String sessionId) {
+        lastSeen.remove(sessionId);
+    }
+
+    public Instant startReconnectWindow(Long gameId, Long userId, Instant now) {
+        Instant dueAt = now.plusMillis(reconnectWindowMillis);
+        restoreReconnectWindow(gameId, userId, dueAt);
+        return dueAt;
+    }
+
+    public void restoreReconnectWindow(Long gameId, Long userId, Instant dueAt) {
+        PlayerSlot slot = new PlayerSlot(gameId, userId);
+        Deadline<PlayerSlot> deadline = new Deadline<>(dueAt.toEpochMilli(), sequence.incrementAndGet(), slot);
+        reconnectDeadlines.add(deadline);
+        Deadline<PlayerSlot> previous = pendingReconnects.put(slot, deadline);
+        if (previous != null) {
+            reconnectDeadlines.remove(previous);
+        }
+    }
+
+    public boolean cancelReconnectWindow(Long gameId, Long userId) {
+        Deadline<PlayerSlot> deadline = pendingReconnects.remove(new PlayerSlot(gameId, userId));
+        if (deadline == null) {
+            return false;
+        }
+        reconnectDeadlines.remove(deadline);
+        return true;
+    }
+
+    public List<PlayerSlot> releaseReconnectWindows(Predicate<Long> released) {
+        List<PlayerSlot> releasedSlots = new ArrayList<>();
+        for (PlayerSlot slot : pendingReconnects.keySet()) {
+            if (released.test(slot.gameId()) && cancelReconnectWindow(slot.gameId(), slot.userId())) {
+                releasedSlots.add(slot);
+            }
+        }
+        return releasedSlots;
+    }
+
+    public Sweep sweep(Instant now) {
+        long nowMillis = now.toEpochMilli();
+        List<String> timedOutSessions = new ArrayList<>();
+        Deadline<String> check;
+        while ((check = pollDue(pingChecks, nowMillis)) != null) {
+            Long seenAt = lastSeen.get(check.key());
+            if (seenAt == null) {
+                continue;
+            }
+            long expiresAt = seenAt + pingTimeoutMillis;
+            if (expiresAt > nowMillis) {
+                pingChecks.add(new Deadline<>(expiresAt, sequence.incrementAndGet(), check.key()));
+            } else if (lastSeen.remove(check.key(), seenAt)) {
+                timedOutSessions.add(check.key());
+            }
+        }
+
+        List<PlayerSlot> expiredReconnects = new ArrayList<>();
+        Deadline<PlayerSlot> deadline;
+        while ((deadline = pollDue(reconnectDeadlines, nowMillis)) != null) {
+            if (pendingReconnects.remove(deadline.key(), deadline)) {
+                expiredReconnects.add(deadline.key());
+            }
+        }
+
+        pingTimeouts.increment(timedOutSessions.size());
+        forfeits.increment(expiredReconnects.size());
+        return new Sweep(timedOutSessions, expiredReconnects);
+    }
+
+    int pendingReconnectCount() {
+        return pendingReconnects.size();
+    }
+
+    private static <K> Deadline<K> pollDue(NavigableSet<Deadline<K>> deadlines, long nowMillis) {
+        Deadline<K> head = deadlines.pollFirst();
+        if (head == null) {
+            return null;
+        }
+        if (head.dueAt() > nowMillis) {
+            deadlines.add(head);
+            return null;
+        }
+        return head;
+    }
+
+    public record PlayerSlot(Long gameId, Long userId) {}
+
+    public record Sweep(List<String> timedOutSessions, List<PlayerSlot> expiredReconnects) {}
+
+    private record Deadline<K>(long dueAt, long sequence, K key) {
+        private static final Comparator<Deadline<?>> ORDER =
+                Comparator.<Deadline<?>>comparingLong(Deadline::dueAt).thenComparingLong(Deadline::sequence);
+    }
+}
@@ -0,0 +1,66 @@
+package com.tbs.websocket;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+@Component
+public class ReconnectDeadlineStore {
+
+    private static final Logger log = LoggerFactory.getLogger(ReconnectDeadlineStore.class);
+    static final String DEADLINES_KEY = "websocket:reconnect-deadlines";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public ReconnectDeadlineStore(RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = Objects.requireNonNull(redisTemplate, "RedisTemplate cannot be null");
+    }
+
+    public void save(Long gameId, Long userId, Instant dueAt) {
+        try {
+            redisTemplate.opsForHash().put(DEADLINES_KEY, field(gameId, userId), Long.toString(dueAt.toEpochMilli()));
+        } catch (Exception e) {
+            log.warn("Failed to store reconnect deadline: gameId={}, userId={}, error={}", gameId, userId, e.getMessage());
+        }
+    }
+
+    public void remove(Long gameId, Long userId) {
+        try {
+            redisTemplate.opsForHash().delete(DEADLINES_KEY, field(gameId, userId));
+        } catch (Exception e) {
+            log.warn("Failed to remove reconnect deadline: gameId={}, userId={}, error={}", gameId, userId, e.getMessage());
+        }
+    }
+
+    public Map<LivenessSweeper.PlayerSlot, Instant> loadAll() {
+        Map<Object, Object> entries;
+        try {
+            entries = redisTemplate.opsForHash().entries(DEADLINES_KEY);
+        } catch (Exception e) {
+            log.warn("Failed to load reconnect deadlines: {}", e.getMessage());
+            return Map.of();
+        }
+
+        Map<LivenessSweeper.PlayerSlot, Instant> deadlines = new HashMap<>();
+        entries.forEach((field, dueAt) -> {
+            String[] parts = field.toString().split(":");
+            try {
+                deadlines.put(new LivenessSweeper.PlayerSlot(Long.parseLong(parts[0]), Long.parseLong(parts[1])),
+                        Instant.ofEpochMilli(Long.parseLong(dueAt.toString())));
+            } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+                log.warn("Ignoring malformed reconnect deadline: field={}", field);
+            }
+        });
+        return deadlines;
+    }
+
+    private static String field(Long gameId, Long userId) {
+        return gameId + ":" + userId;
+    }
+}
@@ -0,0 +1,75 @@
+package com.tbs.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+public class RedisGameEventBus implements GameEventBus, MessageListener {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisGameEventBus.class);
+    public static final String GAME_EVENTS_CHANNEL = "game:events";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader envelopeReader;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final List<Consumer<GameEvent>> listeners = new CopyOnWriteArrayList<>();
+
+    public RedisGameEventBus(RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.envelopeReader = objectMapper.readerFor(Envelope.class);
+    }
+
+    @Override
+    public void publish(GameEvent event) {
+        try {
+            redisTemplate.convertAndSend(GAME_EVENTS_CHANNEL, objectMapper.writeValueAsString(new Envelope(nodeId, event)));
+        } catch (Exception e) {
+            log.warn("Failed to publish game event: gameId={}, type={}, error={}",
+                    event.gameId(), event.type(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<GameEvent> listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Envelope envelope;
+        try {
+            envelope = envelopeReader.readValue(message.getBody());
+        } catch (Exception e) {
+            log.warn("Ignoring malformed game event: {}", e.getMessage());
+            return;
+        }
+        if (nodeId.equals(envelope.originNodeId()) || envelope.event() == null) {
+            return;
+        }
+        for (Consumer<GameEvent> listener : listeners) {
+            try {
+                listener.accept(envelope.event());
+            } catch (Exception e) {
+                log.error("Game event listener failed: gameId={}", envelope.event().gameId(), e);
+            }
+        }
+    }
+
+    String getNodeId() {
+        return nodeId;
+    }
+
+    record Envelope(String originNodeId, GameEvent event) {
+    }
+}
@@ -0,0 +1,318 @@
+package com.tbs.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tbs.dto.websocket.BaseWebSocketMessage;
+import com.tbs.dto.websocket.GameEndedMessage;
+import com.tbs.dto.websocket.GameUpdateMessage;
+import com.tbs.dto.websocket.OpponentMoveMessage;
+import com.tbs.enums.GameStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class SpectatorHub {
+
+    private static final Logger log = LoggerFactory.getLogger(SpectatorHub.class);
+    static final String WATCHING_NODES_KEY_PREFIX = "spectator:nodes:";
+
+    private final ObjectMapper objectMapper;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Executor executor;
+    private final ScheduledExecutorService scheduler;
+    private final boolean enabled;
+    private final int maxWatchersPerGame;
+    private final int queueCapacity;
+    private final Duration broadcastDelay;
+    private final Duration presenceTtl;
+    private final Map<Long, Map<String, Watcher>> watchers = new ConcurrentHashMap<>();
+    private final Cache<Long, GameUpdateMessage> delayedViews;
+    private final Counter fannedOutEvents;
+    private final Counter droppedFrames;
+
+    public SpectatorHub(
+            ObjectMapper objectMapper,
+            RedisTemplate<String, String> redisTemplate,
+            @Qualifier("spectatorExecutor") Executor executor,
+            @Qualifier("webSocketScheduler") ScheduledExecutorService scheduler,
+            MeterRegistry meterRegistry,
+            @Value("${app.spectator.enabled:true}") boolean enabled,
+            @Value("${app.spectator.max-watchers-per-game:5000}") int maxWatchersPerGame,
+            @Value("${app.spectator.queue-capacity:16}") int queueCapacity,
+            @Value("${app.spectator.delay-seconds:0}") long delaySeconds,
+            @Value("${app.spectator.presence-ttl-seconds:3600}") long presenceTtlSeconds
+    ) {
+        this.objectMapper = objectMapper;
+        this.redisTemplate = redisTemplate;
+        this.executor = executor;
+        this.scheduler = scheduler;
+        this.enabled = enabled;
+        this.maxWatchersPerGame = maxWatchersPerGame;
+        this.queueCapacity = queueCapacity;
+        this.broadcastDelay = Duration.ofSeconds(delaySeconds);
+        this.presenceTtl = Duration.ofSeconds(presenceTtlSeconds);
+        this.delayedViews = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(10))
+                .build();
+        Gauge.builder("spectator.watchers", watchers, map -> map.values().stream().mapToInt(Map::size).sum())
+                .description("Spectator sessions connected to this node")
+                .register(meterRegistry);
+        this.fannedOutEvents = Counter.builder("spectator.events")
+                .description("Game events serialized and fanned out to spectators")
+                .register(meterRegistry);
+        this.droppedFrames = Counter.builder("spectator.frames.dropped")
+                .description("Spectator frames dropped because a watcher fell behind")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean join(Long gameId, WebSocketSession session, GameUpdateMessage currentState) {
+        boolean[] firstWatcher = new boolean[1];
+        Map<String, Watcher> gameWatchers = watchers.computeIfAbsent(gameId, id -> {
+            firstWatcher[0] = true;
+            return new ConcurrentHashMap<>();
+        });
+        if (firstWatcher[0]) {
+            updateWatchingNodes(gameId, 1);
+        }
+        if (gameWatchers.size() >= maxWatchersPerGame) {
+            log.warn("Spectator limit reached: gameId={}, watchers={}", gameId, gameWatchers.size());
+            return false;
+        }
+
+        Watcher watcher = new Watcher(gameId, session);
+        gameWatchers.put(session.getId(), watcher);
+        GameUpdateMessage delayedView = broadcastDelay.isZero() ? currentState : delayedViews.getIfPresent(gameId);
+        if (delayedView != null) {
+            offerSnapshot(watcher, delayedView);
+        } else {
+            scheduler.schedule(() -> offerSnapshot(watcher, currentState),
+                    broadcastDelay.toMillis(), TimeUnit.MILLISECONDS);
+        }
+        log.debug("Spectator joined: gameId={}, sessionId={}, watchers={}", gameId, session.getId(), gameWatchers.size());
+        return true;
+    }
+
+    public void leave(Long gameId, String sessionId) {
+        boolean[] lastWatcher = new boolean[1];
+        watchers.computeIfPresent(gameId, (id, gameWatchers) -> {
+            gameWatchers.remove(sessionId);
+            lastWatcher[0] = gameWatchers.isEmpty();
+            return lastWatcher[0] ? null : gameWatchers;
+        });
+        if (lastWatcher[0]) {
+            updateWatchingNodes(gameId, -1);
+        }
+    }
+
+    public boolean isWatchedElsewhere(Long gameId) {
+        if (!enabled) {
+            return false;
+        }
+        try {
+            String watchingNodes = redisTemplate.opsForValue().get(WATCHING_NODES_KEY_PREFIX + gameId);
+            long remoteNodes = watchingNodes == null ? 0 : Long.parseLong(watchingNodes);
+            if (watchers.containsKey(gameId)) {
+                remoteNodes--;
+            }
+            return remoteNodes > 0;
+        } catch (Exception e) {
+            log.debug("Spectator presence unavailable, assuming remote watchers: gameId={}, error={}",
+                    gameId, e.getMessage());
+            return true;
+        }
+    }
+
+    public void broadcast(Long gameId, BaseWebSocketMessage message) {
+        if (!enabled) {
+            return;
+        }
+        if (broadcastDelay.isZero()) {
+            fanOut(gameId, message);
+            return;
+        }
+        scheduler.schedule(() -> {
+            try {
+                fanOut(gameId, message);
+            } catch (Exception e) {
+                log.error("Delayed spectator broadcast failed: gameId={}", gameId, e);
+            }
+        }, broadcastDelay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    int watcherCount(Long gameId) {
+        return watchers.getOrDefault(gameId, Map.of()).size();
+    }
+
+    private void offerSnapshot(Watcher watcher, GameUpdateMessage snapshot) {
+        try {
+            watcher.offer(new TextMessage(objectMapper.writeValueAsString(snapshot)));
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize spectator snapshot: gameId={}", watcher.gameId, e);
+        }
+    }
+
+    private void updateWatchingNodes(Long gameId, long delta) {
+        String key = WATCHING_NODES_KEY_PREFIX + gameId;
+        try {
+            Long watchingNodes = redisTemplate.opsForValue().increment(key, delta);
+            if (watchingNodes != null && watchingNodes <= 0) {
+                redisTemplate.delete(key);
+            } else {
+                redisTemplate.expire(key, presenceTtl);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to update spectator presence: gameId={}, error={}", gameId, e.getMessage());
+        }
+    }
+
+    private void fanOut(Long gameId, BaseWebSocketMessage message) {
+        boolean gameEnded = message instanceof GameEndedMessage;
+        if (!broadcastDelay.isZero()) {
+            if (gameEnded) {
+                delayedViews.invalidate(gameId);
+            } else if (message instanceof OpponentMoveMessage opponentMove) {
+                delayedViews.put(gameId, viewOf(gameId, opponentMove));
+            }
+        }
+
+        Map<String, Watcher> gameWatchers = watchers.get(gameId);
+        if (gameWatchers == null || gameWatchers.isEmpty()) {
+            return;
+        }
+
+        TextMessage frame;
+        try {
+            frame = new TextMessage(objectMapper.writeValueAsString(message));
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize spectator event: gameId={}, type={}", gameId, message.type(), e);
+            return;
+        }
+        fannedOutEvents.increment();
+        for (Watcher watcher : gameWatchers.values()) {
+            watcher.offer(frame);
+            if (gameEnded) {
+                watcher.closeAfterDrain();
+            }
+        }
+    }
+
+    private static GameUpdateMessage viewOf(Long gameId, OpponentMoveMessage opponentMove) {
+        OpponentMoveMessage.OpponentMovePayload payload = opponentMove.payload();
+        return new GameUpdateMessage(new GameUpdateMessage.GameUpdatePayload(
+                gameId,
+                GameStatus.IN_PROGRESS,
+                null,
+                payload.boardState(),
+                payload.moveSequence(),
+                payload.boardHash()
+        ));
+    }
+
+    private final class Watcher {
+
+        private final Long gameId;
+        private final WebSocketSession session;
+        private final Deque<TextMessage> frames = new ArrayDeque<>();
+        private boolean draining;
+        private boolean closing;
+
+        private Watcher(Long gameId, WebSocketSession session) {
+            this.gameId = gameId;
+            this.session = session;
+        }
+
+        private void offer(TextMessage frame) {
+            synchronized (this) {
+                if (closing) {
+                    return;
+                }
+                if (frames.size() >= queueCapacity) {
+                    frames.pollFirst();
+                    droppedFrames.increment();
+                }
+                frames.addLast(frame);
+                scheduleDrain();
+            }
+        }
+
+        private void closeAfterDrain() {
+            synchronized (this) {
+                closing = true;
+                scheduleDrain();
+            }
+        }
+
+        private void scheduleDrain() {
+            if (!draining) {
+                draining = true;
+                executor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                TextMessage frame;
+                synchronized (this) {
+                    frame = frames.pollFirst();
+                    if (frame == null) {
+                        if (!closing) {
+                            draining = false;
+                            return;
+                        }
+                    }
+                }
+                if (frame == null) {
+                    close(CloseStatus.NORMAL);
+                    return;
+                }
+                try {
+                    if (session.isOpen()) {
+                        session.sendMessage(frame);
+                    }
+                } catch (IOException | IllegalStateException e) {
+                    log.debug("Dropping spectator after send failure: gameId={}, sessionId={}, error={}",
+                            gameId, session.getId(), e.getMessage());
+                    close(CloseStatus.SESSION_NOT_RELIABLE);
+                    return;
+                }
+            }
+        }
+
+        private void close(CloseStatus status) {
+            leave(gameId, session.getId());
+            try {
+                if (session.isOpen()) {
+                    session.close(status);
+                }
+            } catch (IOException e) {
+                log.debug("Error closing spectator session: sessionId={}", session.getId(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.tbs.websocket;
+
+import com.tbs.dto.websocket.GameUpdateMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.SubProtocolCapable;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.util.List;
+
+@Component
+public class SpectatorWebSocketHandler extends TextWebSocketHandler implements SubProtocolCapable {
+
+    private static final Logger log = LoggerFactory.getLogger(SpectatorWebSocketHandler.class);
+
+    private final SpectatorHub spectatorHub;
+
+    public SpectatorWebSocketHandler(SpectatorHub spectatorHub) {
+        this.spectatorHub = spectatorHub;
+    }
+
+    @Override
+    @NonNull
+    public List<String> getSubProtocols() {
+        return List.of(GameProtocol.FULL.getSubprotocol());
+    }
+
+    @Override
+    public void afterConnectionEstablished(@NonNull WebSocketSession session) throws Exception {
+        Long gameId = (Long) session.getAttributes().get("gameId");
+        GameSnapshot game = (GameSnapshot) session.getAttributes().get("game");
+
+        if (gameId == null || game == null) {
+            log.error("Spectator connection established with missing attributes");
+            session.close(CloseStatus.BAD_DATA);
+            return;
+        }
+
+        BoardDigest digest = BoardDigest.of(game.boardState());
+        GameUpdateMessage currentState = new GameUpdateMessage(
+                new GameUpdateMessage.GameUpdatePayload(
+                        game.gameId(),
+                        game.status(),
+                        game.winner(),
+                        game.boardState(),
+                        digest.moveSequence(),
+                        digest.boardHash()
+                )
+        );
+
+        if (!spectatorHub.join(gameId, session, currentState)) {
+            session.close(CloseStatus.POLICY_VIOLATION.withReason("Spectator limit reached"));
+        }
+    }
+
+    @Override
+    protected void handleTextMessage(@NonNull WebSocketSession session, @NonNull TextMessage message) {
+        log.debug("Ignoring message from read-only spectator session: sessionId={}", session.getId());
+    }
+
+    @Override
+    public void afterConnectionClosed(@NonNull WebSocketSession session, @NonNull CloseStatus status) {
+        Long gameId = (Long) session.getAttributes().get("gameId");
+        if (gameId != null) {
+            spectatorHub.leave(gameId, session.getId());
+        }
+    }
+}
@@ -1,21 +1,24 @@
 package com.tbs.websocket;
 
-import com.tbs.enums.GameStatus;
 import com.tbs.enums.GameType;
 import com.tbs.exception.BadRequestException;
 import com.tbs.exception.ForbiddenException;
-import com.tbs.model.Game;
-import com.tbs.repository.GameRepository;
 import com.tbs.security.JwtTokenProvider;
+import com.tbs.security.ResumeTokenProvider;
+import com.tbs.security.TokenBlacklistService;
+import io.jsonwebtoken.Claims;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.server.ServerHttpRequest;
 import org.springframework.http.server.ServerHttpResponse;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
+import org.springframework.util.MultiValueMap;
 import org.springframework.web.socket.WebSocketHandler;
 import org.springframework.web.socket.server.HandshakeInterceptor;
+import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
 import java.util.Map;
@@ -24,16 +27,28 @@ import java.util.Map;
 public class WebSocketAuthenticationInterceptor implements HandshakeInterceptor {
 
     private static final Logger log = LoggerFactory.getLogger(WebSocketAuthenticationInterceptor.class);
+    private static final String SPECTATOR_PATH_SUFFIX = "/watch";
+    private static final String RESUME_TOKEN_PARAM = "resume";
+    private static final String LAST_SEQUENCE_PARAM = "lastSequence";
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final GameRepository gameRepository;
+    private final ResumeTokenProvider resumeTokenProvider;
+    private final TokenBlacklistService tokenBlacklistService;
+    private final GameSnapshotCache gameSnapshotCache;
+    private final boolean resumeEnabled;
 
     public WebSocketAuthenticationInterceptor(
             JwtTokenProvider jwtTokenProvider,
-            GameRepository gameRepository
+            ResumeTokenProvider resumeTokenProvider,
+            TokenBlacklistService tokenBlacklistService,
+            GameSnapshotCache gameSnapshotCache,
+            @Value("${app.websocket.resume.enabled:true}") boolean resumeEnabled
     ) {
         this.jwtTokenProvider = jwtTokenProvider;
-        this.gameRepository = gameRepository;
+        this.resumeTokenProvider = resumeTokenProvider;
+        this.tokenBlacklistService = tokenBlacklistService;
+        this.gameSnapshotCache = gameSnapshotCache;
+        this.resumeEnabled = resumeEnabled;
     }
 
     @Override
@@ -47,12 +62,18 @@ public class WebSocketAuthenticationInterceptor implements HandshakeInterceptor
             URI uri = request.getURI();
             log.debug("WebSocket handshake attempt: path={}, query={}", uri.getPath(), uri.getQuery());
             
+            boolean spectator = uri.getPath().endsWith(SPECTATOR_PATH_SUFFIX);
+            if (!spectator && acceptResumeToken(uri, attributes)) {
+                return true;
+            }
+            
             String token = extractTokenFromRequest(request);
-            if (!isTokenValid(token, response)) {
+            Claims claims = resolveClaims(token, response);
+            if (claims == null) {
                 return false;
             }
             
-            Long userId = extractUserIdFromToken(token, response);
+            Long userId = extractUserIdFromClaims(claims, response);
             if (userId == null) {
                 return false;
             }
@@ -62,13 +83,15 @@ public class WebSocketAuthenticationInterceptor implements HandshakeInterceptor
                 return false;
             }
             
-            Game game = findAndValidateGame(gameId, userId, response);
+            GameSnapshot game = findAndValidateGame(gameId, userId, spectator, response);
             if (game == null) {
                 return false;
             }
             
             setHandshakeAttributes(attributes, userId, gameId, game);
-            log.info("WebSocket handshake accepted: userId={}, gameId={}", userId, gameId);
+            attributes.put("tokenId", jwtTokenProvider.getTokenId(claims));
+            attributes.put("spectator", spectator);
+            log.info("WebSocket handshake accepted: userId={}, gameId={}, spectator={}", userId, gameId, spectator);
             return true;
         } catch (Exception e) {
             log.error("Error during WebSocket handshake", e);
@@ -96,25 +119,26 @@ public class WebSocketAuthenticationInterceptor implements HandshakeInterceptor
         return null;
     }
 
-    private boolean isTokenValid(String token, ServerHttpResponse response) {
+    private Claims resolveClaims(String token, ServerHttpResponse response) {
         if (token == null || token.isEmpty()) {
             log.warn("WebSocket handshake rejected: Missing or invalid token in cookie");
             response.setStatusCode(org.springframework.http.HttpStatus.UNAUTHORIZED);
-            return false;
+            return null;
         }
         
-        if (!jwtTokenProvider.validateToken(token)) {
+        Claims claims = jwtTokenProvider.resolveClaims(token);
+        if (claims == null) {
             log.warn("WebSocket handshake rejected: Invalid JWT token");
             response.setStatusCode(org.springframework.http.HttpStatus.UNAUTHORIZED);
-            return false;
+            return null;
         }
         
-        return true;
+        return claims;
     }
 
-    private Long extractUserIdFromToken(String token, ServerHttpResponse response) {
+    private Long extractUserIdFromClaims(Claims claims, ServerHttpResponse response) {
         try {
-            return jwtTokenProvider.getUserIdFromToken(token);
+            return jwtTokenProvider.getUserId(claims);
         } catch (Exception e) {
             log.warn("WebSocket handshake rejected: Failed to extract userId from token", e);
             response.setStatusCode(org.springframework.http.HttpStatus.UNAUTHORIZED);
@@ -132,15 +156,15 @@ public class WebSocketAuthenticationInterceptor implements HandshakeInterceptor
         return gameId;
     }
 
-    private Game findAndValidateGame(Long gameId, Long userId, ServerHttpResponse response) {
+    private GameSnapshot findAndValidateGame(Long gameId, Long userId, boolean spectator, ServerHttpResponse response) {
         try {
-            Game game = gameRepository.findByIdWithPlayers(gameId)
+            GameSnapshot game = gameSnapshotCache.getGame(gameId)
                     .orElseThrow(() -> {
                         log.warn("WebSocket handshake rejected: Game not found, gameId={}", gameId);
                         return new com.tbs.exception.GameNotFoundException("Game not found: " + gameId);
                     });
             
-            validateGameAccess(game, userId);
+            validateGameAccess(game, userId, spectator);
             return game;
         } catch (ForbiddenException e) {
             log.warn("WebSocket handshake rejected: {}", e.getMessage());
@@ -157,7 +181,55 @@ public class WebSocketAuthenticationInterceptor implements HandshakeInterceptor
         }
     }
 
-    private void setHandshakeAttributes(Map<String, Object> attributes, Long userId, Long gameId, Game game) {
+    private boolean acceptResumeToken(URI uri, Map<String, Object> attributes) {
+        if (!resumeEnabled) {
+            return false;
+        }
+        MultiValueMap<String, String> params = UriComponentsBuilder.fromUri(uri).build().getQueryParams();
+        String token = params.getFirst(RESUME_TOKEN_PARAM);
+        if (token == null) {
+            return false;
+        }
+
+        Long gameId = extractGameIdFromPath(uri);
+        ResumeTokenProvider.ResumeClaims claims = resumeTokenProvider.verify(token)
+                .filter(resume -> resume.gameId().equals(gameId))
+                .orElse(null);
+        if (claims == null) {
+            log.debug("Resume token not accepted, falling back to full handshake: gameId={}", gameId);
+            return false;
+        }
+        if (tokenBlacklistService.isBlacklisted(claims.tokenId())) {
+            log.warn("Resume token rejected: session token was revoked, gameId={}, userId={}", gameId, claims.userId());
+            return false;
+        }
+        if (gameSnapshotCache.getGame(gameId).filter(GameSnapshot::isActive).isEmpty()) {
+            log.debug("Resume token rejected: game is no longer active, gameId={}", gameId);
+            return false;
+        }
+
+        int lastSequence = Math.max(claims.moveSequence(), parseSequence(params.getFirst(LAST_SEQUENCE_PARAM)));
+        attributes.put("userId", claims.userId());
+        attributes.put("gameId", claims.gameId());
+        attributes.put("tokenId", claims.tokenId());
+        attributes.put("resumeSequence", lastSequence);
+        log.info("WebSocket handshake resumed: userId={}, gameId={}, lastSequence={}",
+                claims.userId(), claims.gameId(), lastSequence);
+        return true;
+    }
+
+    private static int parseSequence(String value) {
+        if (value == null) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private void setHandshakeAttributes(Map<String, Object> attributes, Long userId, Long gameId, GameSnapshot game) {
         attributes.put("userId", userId);
         attributes.put("gameId", gameId);
         attributes.put("game", game);
@@ -193,28 +265,25 @@ public class WebSocketAuthenticationInterceptor implements HandshakeInterceptor
         return null;
     }
 
-    private void validateGameAccess(Game game, Long userId) {
-        if (game.getGameType() != GameType.PVP) {
+    private void validateGameAccess(GameSnapshot game, Long userId, boolean spectator) {
+        if (game.gameType() != GameType.PVP) {
             throw new BadRequestException("WebSocket is only available for PVP games");
         }
 
-        if (game.getStatus() != GameStatus.IN_PROGRESS && game.getStatus() != GameStatus.WAITING) {
+        if (!game.isActive()) {
             throw new BadRequestException("Game is not in progress or waiting");
         }
 
-        boolean isPlayer1 = game.getPlayer1() != null && game.getPlayer1().getId().equals(userId);
-        boolean isPlayer2 = game.getPlayer2() != null && game.getPlayer2().getId().equals(userId);
+        if (spectator) {
+            return;
+        }
 
-        log.debug("Validating game access: gameId={}, userId={}, player1Id={}, player2Id={}, isPlayer1={}, isPlayer2={}", 
-                game.getId(), userId, 
-                game.getPlayer1() != null ? game.getPlayer1().getId() : null,
-                game.getPlayer2() != null ? game.getPlayer2().getId() : null,
-                isPlayer1, isPlayer2);
+        log.debug("Validating game access: gameId={}, userId={}, player1Id={}, player2Id={}", 
+                game.gameId(), userId, game.player1Id(), game.player2Id());
 
-        if (!isPlayer1 && !isPlayer2) {
-            log.warn("WebSocket handshake rejected: User {} is not a participant of game {}", userId, game.getId());
+        if (!game.isParticipant(userId)) {
+            log.warn("WebSocket handshake rejected: User {} is not a participant of game {}", userId, game.gameId());
             throw new ForbiddenException("You are not a participant of this game");
         }
     }
 }
-
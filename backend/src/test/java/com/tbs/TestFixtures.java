@@ -0,0 +1,36 @@
+package com.tbs;
+
+import com.tbs.enums.BoardSize;
+import com.tbs.enums.GameStatus;
+import com.tbs.enums.GameType;
+import com.tbs.enums.PlayerSymbol;
+import com.tbs.model.Game;
+import com.tbs.model.User;
+
+public final class TestFixtures {
+
+    private TestFixtures() {
+    }
+
+    public static User newUser(String username) {
+        User user = new User();
+        user.setUsername(username);
+        user.setIsGuest(false);
+        user.setTotalPoints(0L);
+        user.setGamesPlayed(0);
+        user.setGamesWon(0);
+        return user;
+    }
+
+    public static Game newGame(User player1, GameType gameType, BoardSize boardSize, GameStatus status) {
+        Game game = new Game();
+        game.setGameType(gameType);
+        game.setBoardSize(boardSize);
+        game.setPlayer1(player1);
+        game.setStatus(status);
+        if (status == GameStatus.IN_PROGRESS) {
+            game.setCurrentPlayerSymbol(PlayerSymbol.X);
+        }
+        return game;
+    }
+}
@@ -0,0 +1,83 @@
+package com.tbs.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ConnectionLimitingDataSourceTest {
+
+    @Mock
+    private DataSource targetDataSource;
+
+    @Mock
+    private Connection connection;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConnectionLimitingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        dataSource = new ConnectionLimitingDataSource(targetDataSource, "primary", 1, Duration.ofMillis(50), meterRegistry);
+    }
+
+    @Test
+    void getConnection_shouldReleasePermitOnceWhenConnectionIsClosed() throws SQLException {
+        when(targetDataSource.getConnection()).thenReturn(connection);
+
+        Connection limited = dataSource.getConnection();
+        assertThat(dataSource.availablePermits()).isZero();
+
+        limited.close();
+        limited.close();
+
+        assertThat(dataSource.availablePermits()).isEqualTo(1);
+        verify(connection, times(1)).close();
+    }
+
+    @Test
+    void close_shouldClosePooledTarget() throws Exception {
+        HikariDataSource pool = mock(HikariDataSource.class);
+
+        new ConnectionLimitingDataSource(pool, "replica", 1, Duration.ofMillis(50), meterRegistry).close();
+
+        verify(pool).close();
+    }
+
+    @Test
+    void getConnection_shouldRejectWhenNoPermitBecomesAvailable() throws SQLException {
+        when(targetDataSource.getConnection()).thenReturn(connection);
+        dataSource.getConnection();
+
+        assertThatThrownBy(() -> dataSource.getConnection())
+                .isInstanceOf(SQLTransientConnectionException.class);
+        assertThat(meterRegistry.get("db.limiter.rejected").tag("pool", "primary").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void getConnection_shouldReleasePermitWhenTargetFails() throws SQLException {
+        when(targetDataSource.getConnection()).thenThrow(new SQLException("Connection refused"));
+
+        assertThatThrownBy(() -> dataSource.getConnection()).hasMessage("Connection refused");
+
+        assertThat(dataSource.availablePermits()).isEqualTo(1);
+    }
+}
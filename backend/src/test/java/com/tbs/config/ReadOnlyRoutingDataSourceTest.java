@@ -0,0 +1,78 @@
+package com.tbs.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReadOnlyRoutingDataSourceTest {
+
+    private ReadReplicaMonitor readReplicaMonitor;
+    private ReadOnlyRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        readReplicaMonitor = new ReadReplicaMonitor(mock(DataSource.class), 5_000, new SimpleMeterRegistry());
+        routingDataSource = new ReadOnlyRoutingDataSource(mock(DataSource.class), readReplicaMonitor);
+        routingDataSource.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void determineCurrentLookupKey_shouldRouteReplicaReadToHealthyReplica() throws Throwable {
+        readReplicaMonitor.updateLag(100);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(lookupKeyInReplicaRead()).isEqualTo(ReadOnlyRoutingDataSource.REPLICA);
+    }
+
+    @Test
+    void determineCurrentLookupKey_shouldKeepUnmarkedReadOnlyTransactionOnPrimary() {
+        readReplicaMonitor.updateLag(100);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(ReadOnlyRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    void determineCurrentLookupKey_shouldRouteReadWriteTransactionToPrimary() {
+        readReplicaMonitor.updateLag(100);
+
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(ReadOnlyRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    void determineCurrentLookupKey_shouldFallBackToPrimaryWhenReplicaLagsBehind() throws Throwable {
+        readReplicaMonitor.updateLag(10_000);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(lookupKeyInReplicaRead()).isEqualTo(ReadOnlyRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    void determineCurrentLookupKey_shouldFallBackToPrimaryWhenReplicaCheckFails() throws Throwable {
+        readReplicaMonitor.checkReplicaLag();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(readReplicaMonitor.isUsable()).isFalse();
+        assertThat(lookupKeyInReplicaRead()).isEqualTo(ReadOnlyRoutingDataSource.PRIMARY);
+    }
+
+    private Object lookupKeyInReplicaRead() throws Throwable {
+        MethodInvocation invocation = mock(MethodInvocation.class);
+        when(invocation.proceed()).thenAnswer(call -> routingDataSource.determineCurrentLookupKey());
+        return ReadOnlyRoutingDataSource.invokeOnReplica(invocation);
+    }
+}
@@ -0,0 +1,44 @@
+package com.tbs.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadReplicaDataSourceConfigTest {
+
+    private final ReadReplicaDataSourceConfig config = new ReadReplicaDataSourceConfig();
+
+    @Test
+    void readReplicaMonitor_shouldLimitReplicaPoolWhenLimiterEnabled() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ReadReplicaMonitor monitor = config.readReplicaMonitor(replicaProperties(), 5_000, 4, true, 0, 5_000, meterRegistry);
+
+        try {
+            assertThat(monitor.getDataSource()).isInstanceOf(ConnectionLimitingDataSource.class);
+            assertThat(meterRegistry.get("db.limiter.available").tag("pool", "tbs-replica").gauge().value())
+                    .isEqualTo(4.0);
+        } finally {
+            monitor.destroy();
+        }
+    }
+
+    @Test
+    void readReplicaMonitor_shouldUseRawReplicaPoolWhenLimiterDisabled() throws Exception {
+        ReadReplicaMonitor monitor = config.readReplicaMonitor(
+                replicaProperties(), 5_000, 4, false, 0, 5_000, new SimpleMeterRegistry());
+
+        try {
+            assertThat(monitor.getDataSource()).isNotInstanceOf(ConnectionLimitingDataSource.class);
+        } finally {
+            monitor.destroy();
+        }
+    }
+
+    private static DataSourceProperties replicaProperties() {
+        DataSourceProperties properties = new DataSourceProperties();
+        properties.setUrl("jdbc:h2:mem:replica-config-test");
+        return properties;
+    }
+}
@@ -0,0 +1,108 @@
+package com.tbs.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TwoLevelCacheManagerTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    private ConcurrentMapCacheManager remoteCacheManager;
+    private SimpleMeterRegistry meterRegistry;
+    private TwoLevelCacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        remoteCacheManager = new ConcurrentMapCacheManager("userProfile", "rankings");
+        meterRegistry = new SimpleMeterRegistry();
+        cacheManager = new TwoLevelCacheManager(remoteCacheManager, redisTemplate, 100, Duration.ofMinutes(1), meterRegistry);
+        cacheManager.initializeCaches();
+    }
+
+    @Test
+    void get_shouldServeRepeatedReadsFromLocalLevel() {
+        remoteCacheManager.getCache("userProfile").put(1L, "profile-1");
+        Cache cache = cacheManager.getCache("userProfile");
+
+        assertThat(cache.get(1L).get()).isEqualTo("profile-1");
+        remoteCacheManager.getCache("userProfile").put(1L, "changed-remotely");
+
+        assertThat(cache.get(1L).get()).isEqualTo("profile-1");
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "userProfile").tag("result", "hit").functionCounter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.l2.gets").tag("cache", "userProfile").tag("result", "hit").functionCounter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.hit.ratio").tag("cache", "userProfile").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    void evict_shouldClearBothLevelsAndPublishInvalidation() {
+        Cache cache = cacheManager.getCache("userProfile");
+        cache.put(1L, "profile-1");
+
+        cache.evict(1L);
+
+        assertThat(cache.get(1L)).isNull();
+        assertThat(remoteCacheManager.getCache("userProfile").get(1L)).isNull();
+        verify(redisTemplate, times(2)).convertAndSend(TwoLevelCacheManager.INVALIDATION_CHANNEL,
+                cacheManager.getNodeId() + ":evict:userProfile:1");
+    }
+
+    @Test
+    void onMessage_shouldEvictLocalEntryPublishedByOtherNode() {
+        Cache cache = cacheManager.getCache("rankings");
+        cache.put("0_20_null", "page");
+        remoteCacheManager.getCache("rankings").put("0_20_null", "fresh-page");
+
+        cacheManager.onMessage(message("other-node:evict:rankings:0_20_null"), null);
+
+        assertThat(cache.get("0_20_null").get()).isEqualTo("fresh-page");
+    }
+
+    @Test
+    void onMessage_shouldIgnoreOwnInvalidations() {
+        Cache cache = cacheManager.getCache("rankings");
+        cache.put("0_20_null", "page");
+        remoteCacheManager.getCache("rankings").put("0_20_null", "fresh-page");
+
+        cacheManager.onMessage(message(cacheManager.getNodeId() + ":clear:rankings"), null);
+
+        assertThat(cache.get("0_20_null").get()).isEqualTo("page");
+    }
+
+    @Test
+    void put_shouldKeepLocalValueWhenPublishFails() {
+        doThrow(new IllegalStateException("Redis down")).when(redisTemplate)
+                .convertAndSend(eq(TwoLevelCacheManager.INVALIDATION_CHANNEL), anyString());
+        Cache cache = cacheManager.getCache("userProfile");
+
+        cache.put(2L, "profile-2");
+
+        assertThat(cache.get(2L).get()).isEqualTo("profile-2");
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(TwoLevelCacheManager.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -7,6 +7,7 @@ import com.tbs.exception.BadRequestException;
 import com.tbs.exception.ForbiddenException;
 import com.tbs.exception.GameNotFoundException;
 import com.tbs.service.AuthenticationService;
+import com.tbs.service.GameExportService;
 import com.tbs.service.GameService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -17,8 +18,12 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.Instant;
 import java.util.Arrays;
@@ -27,6 +32,9 @@ import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,6 +43,9 @@ class GameControllerTest {
     @Mock
     private GameService gameService;
 
+    @Mock
+    private GameExportService gameExportService;
+
     @Mock
     private AuthenticationService authenticationService;
 
@@ -76,9 +87,9 @@ class GameControllerTest {
         );
 
         when(authenticationService.getCurrentUserId()).thenReturn(1L);
-        when(gameService.getGames(eq(1L), any(), any(), any(Pageable.class))).thenReturn(response);
+        when(gameService.getGames(eq(1L), any(), any(), eq(false), any(Pageable.class))).thenReturn(response);
 
-        ResponseEntity<GameListResponse> result = gameController.getGames(null, null, PageRequest.of(0, 20));
+        ResponseEntity<GameListResponse> result = gameController.getGames(null, null, false, PageRequest.of(0, 20));
 
         assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(result.getBody().content()).hasSize(1);
@@ -174,4 +185,30 @@ class GameControllerTest {
         assertThatThrownBy(() -> gameController.updateGameStatus(42L, request))
                 .isInstanceOf(BadRequestException.class);
     }
+
+    @Test
+    void exportGames_shouldStreamCurrentUserGamesAsNdjson() {
+        GameExportService.ExportStream body = mock(GameExportService.ExportStream.class);
+        when(authenticationService.getCurrentUserId()).thenReturn(1L);
+        when(gameExportService.export(any(GameExportFilter.class), eq(ExportFormat.NDJSON))).thenReturn(body);
+
+        ResponseEntity<StreamingResponseBody> result =
+                gameController.exportGames("ndjson", "mine", null, null, GameType.PVP, 3, new MockHttpServletRequest());
+
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(result.getHeaders().getContentType()).isEqualTo(MediaType.parseMediaType("application/x-ndjson"));
+        assertThat(result.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION)).contains("games.ndjson");
+        verify(gameExportService).export(
+                new GameExportFilter(1L, null, null, GameType.PVP, BoardSize.THREE), ExportFormat.NDJSON);
+    }
+
+    @Test
+    void exportGames_shouldRejectAllScopeForUnauthorizedUser() {
+        when(authenticationService.getCurrentUserId()).thenReturn(1L);
+        doThrow(new ForbiddenException("You are not allowed to export all games"))
+                .when(gameExportService).validateAllGamesExport(1L);
+
+        assertThatThrownBy(() -> gameController.exportGames("csv", "all", null, null, null, null, new MockHttpServletRequest()))
+                .isInstanceOf(ForbiddenException.class);
+    }
 }
@@ -0,0 +1,103 @@
+package com.tbs.repository;
+
+import com.tbs.TestFixtures;
+import com.tbs.dto.game.GameListItem;
+import com.tbs.enums.BoardSize;
+import com.tbs.enums.GameStatus;
+import com.tbs.enums.GameType;
+import com.tbs.enums.PlayerSymbol;
+import com.tbs.model.Game;
+import com.tbs.model.User;
+import com.tbs.repository.projection.GameBoardView;
+import com.tbs.service.MoveCreationService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(MoveCreationService.class)
+class GameRepositoryProjectionIntegrationTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private MoveCreationService moveCreationService;
+
+    private User player1;
+    private User player2;
+
+    @BeforeEach
+    void setUp() {
+        player1 = newUser("projection-player1");
+        player2 = newUser("projection-player2");
+    }
+
+    @Test
+    void findGameListItems_shouldReturnDenormalizedMoveCount() {
+        Game game = newGame();
+        gameRepository.saveAndFlush(game);
+        moveCreationService.createAndSaveMove(game, 0, 0, PlayerSymbol.X, player1);
+        moveCreationService.createAndSaveMove(game, 1, 1, PlayerSymbol.O, player2);
+        entityManager.flush();
+        entityManager.clear();
+
+        Page<GameListItem> page = gameRepository.findGameListItems(
+                player2.getId(), null, GameType.PVP, PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt")));
+
+        assertThat(page.getTotalElements()).isEqualTo(1);
+        GameListItem item = page.getContent().get(0);
+        assertThat(item.gameId()).isEqualTo(game.getId());
+        assertThat(item.player1Username()).isEqualTo("projection-player1");
+        assertThat(item.player2Username()).isEqualTo("projection-player2");
+        assertThat(item.winnerUsername()).isNull();
+        assertThat(item.totalMoves()).isEqualTo(2);
+    }
+
+    @Test
+    void findBoardViewById_shouldReturnLastMoveFromGameRow() {
+        Game game = newGame();
+        gameRepository.saveAndFlush(game);
+        moveCreationService.createAndSaveMove(game, 0, 2, PlayerSymbol.X, player1);
+        moveCreationService.createAndSaveMove(game, 2, 1, PlayerSymbol.O, player2);
+        entityManager.flush();
+        entityManager.clear();
+
+        GameBoardView view = gameRepository.findBoardViewById(game.getId()).orElseThrow();
+
+        assertThat(view.player1Id()).isEqualTo(player1.getId());
+        assertThat(view.player2Id()).isEqualTo(player2.getId());
+        assertThat(view.moveLog()).hasSize(2);
+        assertThat(view.moveCount()).isEqualTo((short) 2);
+        assertThat(view.lastMoveRow()).isEqualTo((short) 2);
+        assertThat(view.lastMoveCol()).isEqualTo((short) 1);
+        assertThat(view.lastMoveSymbol()).isEqualTo(PlayerSymbol.O);
+    }
+
+    private User newUser(String username) {
+        User user = TestFixtures.newUser(username);
+        entityManager.persist(user);
+        return user;
+    }
+
+    private Game newGame() {
+        Game game = TestFixtures.newGame(player1, GameType.PVP, BoardSize.THREE, GameStatus.IN_PROGRESS);
+        game.setPlayer2(player2);
+        return game;
+    }
+}
@@ -0,0 +1,103 @@
+package com.tbs.repository;
+
+import com.tbs.TestFixtures;
+import com.tbs.enums.BoardSize;
+import com.tbs.enums.GameStatus;
+import com.tbs.enums.GameType;
+import com.tbs.enums.PlayerSymbol;
+import com.tbs.model.Game;
+import com.tbs.model.Move;
+import com.tbs.model.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class MoveBatchInsertIntegrationTest {
+
+    private static final int ENTITY_COUNT = 20;
+    private static final int INSERT_BATCHES = 1;
+    private static final int MAX_SEQUENCE_CALLS = 2;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MoveRepository moveRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    private Statistics statistics;
+    private User player;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        player = TestFixtures.newUser("batch-player");
+        entityManager.persist(player);
+        entityManager.flush();
+    }
+
+    @Test
+    void saveAll_shouldInsertMovesInSingleBatch() {
+        Game game = newGame();
+        gameRepository.saveAndFlush(game);
+
+        List<Move> moves = new ArrayList<>(ENTITY_COUNT);
+        for (int i = 0; i < ENTITY_COUNT; i++) {
+            Move move = new Move();
+            move.setGame(game);
+            move.setPlayer(player);
+            move.setRow((short) (i / 5));
+            move.setCol((short) (i % 5));
+            move.setPlayerSymbol(i % 2 == 0 ? PlayerSymbol.X : PlayerSymbol.O);
+            move.setMoveOrder((short) (i + 1));
+            moves.add(move);
+        }
+
+        statistics.clear();
+        moveRepository.saveAll(moves);
+        entityManager.flush();
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(ENTITY_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(INSERT_BATCHES + MAX_SEQUENCE_CALLS);
+    }
+
+    @Test
+    void saveAll_shouldInsertGamesInSingleBatch() {
+        List<Game> games = new ArrayList<>();
+        for (int i = 0; i < ENTITY_COUNT; i++) {
+            games.add(newGame());
+        }
+
+        statistics.clear();
+        gameRepository.saveAll(games);
+        entityManager.flush();
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(ENTITY_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(INSERT_BATCHES + MAX_SEQUENCE_CALLS);
+    }
+
+    private Game newGame() {
+        return TestFixtures.newGame(player, GameType.PVP, BoardSize.FIVE, GameStatus.WAITING);
+    }
+}
@@ -0,0 +1,77 @@
+package com.tbs.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtClaimsCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private JwtClaimsCache claimsCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        claimsCache = new JwtClaimsCache(2, meterRegistry);
+    }
+
+    @Test
+    void get_shouldReturnCachedClaims() {
+        Claims claims = claims(60_000);
+        claimsCache.put("token-a", claims);
+
+        assertThat(claimsCache.get("token-a")).isSameAs(claims);
+        assertThat(claimsCache.get("token-b")).isNull();
+    }
+
+    @Test
+    void put_shouldSkipExpiredClaims() {
+        claimsCache.put("token-a", claims(-1_000));
+
+        assertThat(claimsCache.get("token-a")).isNull();
+    }
+
+    @Test
+    void get_shouldExpireEntryAtTokenExpiration() throws InterruptedException {
+        claimsCache.put("token-a", claims(200));
+
+        Thread.sleep(300);
+
+        assertThat(claimsCache.get("token-a")).isNull();
+    }
+
+    @Test
+    void put_shouldKeepCacheWithinMaximumSize() {
+        for (int i = 0; i < 50; i++) {
+            claimsCache.put("token-" + i, claims(60_000));
+        }
+
+        assertThat(claimsCache.size()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void get_shouldRecordHitAndMissMetrics() {
+        claimsCache.put("token-a", claims(60_000));
+        claimsCache.get("token-a");
+        claimsCache.get("token-b");
+
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "jwtClaims").tag("result", "hit").functionCounter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "jwtClaims").tag("result", "miss").functionCounter().count())
+                .isEqualTo(1.0);
+    }
+
+    private static Claims claims(long expiresInMillis) {
+        return Jwts.claims()
+                .subject("1")
+                .id("jti")
+                .expiration(new Date(System.currentTimeMillis() + expiresInMillis))
+                .build();
+    }
+}
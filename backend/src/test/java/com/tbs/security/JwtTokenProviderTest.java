@@ -1,6 +1,8 @@
 package com.tbs.security;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.jsonwebtoken.security.Keys;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -35,12 +37,12 @@ class JwtTokenProviderTest {
         testSecret = Base64.getEncoder().encodeToString(keyBytes);
         lenient().when(environment.getActiveProfiles()).thenReturn(new String[]{"test"});
         lenient().when(environment.getProperty("spring.datasource.url", "")).thenReturn("jdbc:h2:mem:test");
-        jwtTokenProvider = new JwtTokenProvider(testSecret, 3600000L, environment);
+        jwtTokenProvider = new JwtTokenProvider(testSecret, 3600000L, environment, newClaimsCache());
     }
 
     @Test
     void validateToken_shouldReturnFalseForExpiredToken() throws InterruptedException {
-        JwtTokenProvider shortExpiryProvider = new JwtTokenProvider(testSecret, 1000L, environment);
+        JwtTokenProvider shortExpiryProvider = new JwtTokenProvider(testSecret, 1000L, environment, newClaimsCache());
         String token = shortExpiryProvider.generateToken(123L);
         
         Thread.sleep(1100);
@@ -136,7 +138,7 @@ class JwtTokenProviderTest {
 
     @Test
     void getTokenId_shouldThrowExceptionIfNoJtiClaim() {
-        JwtTokenProvider provider = new JwtTokenProvider(testSecret, 3600000L, environment);
+        JwtTokenProvider provider = new JwtTokenProvider(testSecret, 3600000L, environment, newClaimsCache());
         String tokenWithoutJti = Jwts.builder()
                 .subject("123")
                 .issuedAt(new Date())
@@ -155,7 +157,7 @@ class JwtTokenProviderTest {
         SecureRandom.getInstanceStrong().nextBytes(shortKeyBytes);
         String shortSecret = Base64.getEncoder().encodeToString(shortKeyBytes);
 
-        assertThatThrownBy(() -> new JwtTokenProvider(shortSecret, 3600000L, environment))
+        assertThatThrownBy(() -> new JwtTokenProvider(shortSecret, 3600000L, environment, newClaimsCache()))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("JWT secret key is too short");
     }
@@ -166,11 +168,30 @@ class JwtTokenProviderTest {
         SecureRandom.getInstanceStrong().nextBytes(validKeyBytes);
         String validSecret = Base64.getEncoder().encodeToString(validKeyBytes);
 
-        JwtTokenProvider provider = new JwtTokenProvider(validSecret, 3600000L, environment);
+        JwtTokenProvider provider = new JwtTokenProvider(validSecret, 3600000L, environment, newClaimsCache());
 
         assertThat(provider).isNotNull();
         String token = provider.generateToken(123L);
         assertThat(token).isNotNull();
     }
-}
 
+    @Test
+    void resolveClaims_shouldReturnNullForInvalidToken() {
+        assertThat(jwtTokenProvider.resolveClaims("invalid-token")).isNull();
+    }
+
+    @Test
+    void resolveClaims_shouldReturnClaimsForValidToken() {
+        String token = jwtTokenProvider.generateToken(321L);
+
+        Claims claims = jwtTokenProvider.resolveClaims(token);
+
+        assertThat(claims).isNotNull();
+        assertThat(jwtTokenProvider.getUserId(claims)).isEqualTo(321L);
+        assertThat(jwtTokenProvider.getTokenId(claims)).isNotEmpty();
+    }
+
+    private static JwtClaimsCache newClaimsCache() {
+        return new JwtClaimsCache(100, new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,49 @@
+package com.tbs.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResumeTokenProviderTest {
+
+    private static final String JWT_SECRET = "lo3Rp/t44UeFUOrB+qKxISaK/nyOsILpmDN06/yoUto=";
+    private static final String TOKEN_ID = "5f0c2d1e-8a7b-4c3d-9e6f-1a2b3c4d5e6f";
+
+    private final ResumeTokenProvider resumeTokenProvider = new ResumeTokenProvider("", JWT_SECRET, 300_000);
+
+    @Test
+    void verify_shouldReturnClaimsOfIssuedToken() {
+        String token = resumeTokenProvider.issue(42L, 7L, TOKEN_ID, 5);
+
+        assertThat(resumeTokenProvider.verify(token))
+                .contains(new ResumeTokenProvider.ResumeClaims(42L, 7L, TOKEN_ID, 5));
+    }
+
+    @Test
+    void verify_shouldAcceptTokenIssuedByOtherInstanceWithSameSecret() {
+        String token = new ResumeTokenProvider("", JWT_SECRET, 300_000).issue(42L, 7L, TOKEN_ID, 5);
+
+        assertThat(resumeTokenProvider.verify(token)).isPresent();
+    }
+
+    @Test
+    void verify_shouldRejectTamperedClaims() {
+        String token = resumeTokenProvider.issue(42L, 7L, TOKEN_ID, 5);
+        String signature = token.substring(token.indexOf('.'));
+        String forgedClaims = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(("42:8:" + TOKEN_ID + ":5:9999999999999").getBytes());
+
+        assertThat(resumeTokenProvider.verify(forgedClaims + signature)).isEmpty();
+    }
+
+    @Test
+    void verify_shouldRejectExpiredOrMalformedToken() {
+        String expired = new ResumeTokenProvider("", JWT_SECRET, -1).issue(42L, 7L, TOKEN_ID, 5);
+
+        assertThat(resumeTokenProvider.verify(expired)).isEmpty();
+        assertThat(resumeTokenProvider.verify("not-a-token")).isEmpty();
+        assertThat(resumeTokenProvider.verify("%%%.%%%")).isEmpty();
+    }
+}
@@ -5,13 +5,19 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.DefaultTypedTuple;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -26,11 +32,15 @@ class TokenBlacklistServiceTest {
     @Mock
     private ValueOperations<String, String> valueOperations;
 
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
     private TokenBlacklistService tokenBlacklistService;
 
     @BeforeEach
     void setUp() {
         lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        lenient().when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
         tokenBlacklistService = new TokenBlacklistService(redisTemplate);
     }
 
@@ -55,23 +65,73 @@ class TokenBlacklistServiceTest {
     }
 
     @Test
-    void shouldReturnTrueForBlacklistedToken() {
+    void shouldReturnTrueForBlacklistedTokenWithoutQueryingRedis() {
         String tokenId = "blacklisted-token-id";
-        when(redisTemplate.hasKey("token:blacklist:" + tokenId)).thenReturn(true);
+        tokenBlacklistService.addToBlacklist(tokenId, new Date(System.currentTimeMillis() + 3600000));
 
         boolean result = tokenBlacklistService.isBlacklisted(tokenId);
 
         assertThat(result).isTrue();
+        verify(redisTemplate, never()).hasKey(anyString());
     }
 
     @Test
     void shouldReturnFalseForNonBlacklistedToken() {
-        String tokenId = "valid-token-id";
-        when(redisTemplate.hasKey("token:blacklist:" + tokenId)).thenReturn(false);
-
-        boolean result = tokenBlacklistService.isBlacklisted(tokenId);
+        boolean result = tokenBlacklistService.isBlacklisted("valid-token-id");
 
         assertThat(result).isFalse();
+        verify(redisTemplate, never()).hasKey(anyString());
+    }
+
+    @Test
+    void shouldPublishBlacklistEventOnAdd() {
+        Date expirationTime = new Date(System.currentTimeMillis() + 3600000);
+
+        tokenBlacklistService.addToBlacklist("token-id", expirationTime);
+
+        verify(redisTemplate).convertAndSend(TokenBlacklistService.BLACKLIST_CHANNEL, "add:token-id:" + expirationTime.getTime());
+    }
+
+    @Test
+    void shouldApplyBlacklistEventsFromOtherNodes() {
+        long expiresAt = System.currentTimeMillis() + 3600000;
+
+        tokenBlacklistService.onMessage(message("add:remote-token:" + expiresAt), null);
+        assertThat(tokenBlacklistService.isBlacklisted("remote-token")).isTrue();
+
+        tokenBlacklistService.onMessage(message("remove:remote-token"), null);
+        assertThat(tokenBlacklistService.isBlacklisted("remote-token")).isFalse();
+    }
+
+    @Test
+    void shouldLoadRevokedTokensOnResync() {
+        long expiresAt = System.currentTimeMillis() + 3600000;
+        when(zSetOperations.rangeByScoreWithScores(eq("token:blacklist:index"), anyDouble(), anyDouble()))
+                .thenReturn(Set.of(new DefaultTypedTuple<>("synced-token", (double) expiresAt)));
+
+        tokenBlacklistService.resync();
+
+        assertThat(tokenBlacklistService.isBlacklisted("synced-token")).isTrue();
+    }
+
+    @Test
+    void shouldDropTokensMissingFromIndexOnResync() throws InterruptedException {
+        long expiresAt = System.currentTimeMillis() + 3600000;
+        tokenBlacklistService.onMessage(message("add:stale-token:" + expiresAt), null);
+        when(zSetOperations.rangeByScoreWithScores(eq("token:blacklist:index"), anyDouble(), anyDouble()))
+                .thenReturn(Set.of());
+        Thread.sleep(5);
+
+        tokenBlacklistService.resync();
+
+        assertThat(tokenBlacklistService.isBlacklisted("stale-token")).isFalse();
+    }
+
+    @Test
+    void shouldIgnoreExpiredEntries() {
+        tokenBlacklistService.onMessage(message("add:old-token:" + (System.currentTimeMillis() - 1000)), null);
+
+        assertThat(tokenBlacklistService.isBlacklisted("old-token")).isFalse();
     }
 
     @Test
@@ -112,13 +172,18 @@ class TokenBlacklistServiceTest {
     }
 
     @Test
-    void shouldHandleExceptionGracefullyOnCheck() {
-        String tokenId = "token-id";
-        when(redisTemplate.hasKey(anyString())).thenThrow(new RuntimeException("Redis error"));
+    void shouldHandleExceptionGracefullyOnResync() {
+        when(zSetOperations.removeRangeByScore(anyString(), anyDouble(), anyDouble())).thenThrow(new RuntimeException("Redis error"));
 
-        boolean result = tokenBlacklistService.isBlacklisted(tokenId);
+        tokenBlacklistService.resync();
 
-        assertThat(result).isFalse();
+        assertThat(tokenBlacklistService.isBlacklisted("token-id")).isFalse();
     }
-}
 
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(
+                TokenBlacklistService.BLACKLIST_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8)
+        );
+    }
+}
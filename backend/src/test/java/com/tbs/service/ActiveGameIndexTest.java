@@ -0,0 +1,100 @@
+package com.tbs.service;
+
+import com.tbs.repository.GameRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ActiveGameIndexTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private GameRepository gameRepository;
+
+    private ActiveGameIndex activeGameIndex;
+
+    @BeforeEach
+    void setUp() {
+        activeGameIndex = new ActiveGameIndex(redisTemplate, gameRepository, 60_000, 180_000);
+    }
+
+    @Test
+    void hasActiveGame_shouldSkipDatabaseWhenIndexReadyAndUserNotIndexed() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(List.of("active_game:index:ready", "active_game:1")))
+                .thenReturn(Arrays.asList("1", null));
+
+        assertThat(activeGameIndex.hasActiveGame(1L)).isFalse();
+        verify(gameRepository, never()).hasActivePvpGame(anyLong());
+    }
+
+    @Test
+    void hasActiveGame_shouldFallBackToDatabaseWhenIndexNotReady() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(anyList())).thenReturn(Arrays.asList(null, null));
+        when(gameRepository.hasActivePvpGame(1L)).thenReturn(true);
+
+        assertThat(activeGameIndex.hasActiveGame(1L)).isTrue();
+    }
+
+    @Test
+    void hasActiveGame_shouldFallBackToDatabaseWhenRedisUnavailable() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(anyList())).thenThrow(new RedisConnectionFailureException("down"));
+        when(gameRepository.hasActivePvpGame(1L)).thenReturn(false);
+
+        assertThat(activeGameIndex.hasActiveGame(1L)).isFalse();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void hasActiveGame_shouldReleaseStaleEntryWhenGameNoLongerActive() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(anyList())).thenReturn(Arrays.asList("1", "42"));
+        when(gameRepository.hasActivePvpGame(1L)).thenReturn(false);
+
+        assertThat(activeGameIndex.hasActiveGame(1L)).isFalse();
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("active_game:1")), eq("42"));
+    }
+
+    @Test
+    void rebuild_shouldIndexBothPlayersAndMarkIndexReady() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(gameRepository.findActivePvpGamePlayers()).thenReturn(List.<Object[]>of(
+                new Object[]{42L, 1L, 2L},
+                new Object[]{43L, 3L, null}
+        ));
+
+        assertThat(activeGameIndex.rebuild()).isEqualTo(2);
+
+        verify(valueOperations).set("active_game:1", "42", Duration.ofMillis(60_000));
+        verify(valueOperations).set("active_game:2", "42", Duration.ofMillis(60_000));
+        verify(valueOperations).set("active_game:3", "43", Duration.ofMillis(60_000));
+        verify(valueOperations).set("active_game:index:ready", "1", Duration.ofMillis(180_000));
+    }
+}
@@ -42,6 +42,9 @@ class AuthServiceLoginRegisterTest {
     @Mock
     private AuthenticationService authenticationService;
 
+    @Mock
+    private LastSeenAggregator lastSeenAggregator;
+
     @InjectMocks
     private AuthService authService;
 
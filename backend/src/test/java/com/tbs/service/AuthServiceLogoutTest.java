@@ -37,6 +37,9 @@ class AuthServiceLogoutTest {
     @Mock
     private AuthenticationService authenticationService;
 
+    @Mock
+    private LastSeenAggregator lastSeenAggregator;
+
     @InjectMocks
     private AuthService authService;
 
@@ -52,13 +55,12 @@ class AuthServiceLogoutTest {
         when(authenticationService.getCurrentUserId()).thenReturn(userId);
         when(jwtTokenProvider.getTokenId(token)).thenReturn(tokenId);
         when(jwtTokenProvider.getExpirationDateFromToken(token)).thenReturn(expirationTime);
-        when(userRepository.updateLastSeenAt(anyLong(), any(Instant.class))).thenReturn(1);
 
         var result = authService.logout(token);
 
         assertThat(result.message()).isEqualTo("Wylogowano pomyślnie");
         verify(tokenBlacklistService, times(1)).addToBlacklist(tokenId, expirationTime);
-        verify(userRepository, times(1)).updateLastSeenAt(eq(userId), any(Instant.class));
+        verify(lastSeenAggregator, times(1)).record(eq(userId), any(Instant.class));
     }
 
     @Test
@@ -95,7 +97,7 @@ class AuthServiceLogoutTest {
     }
 
     @Test
-    void shouldHandleUpdateLastSeenErrorGracefully() {
+    void shouldRecordLastSeenWithoutWritingUsersTable() {
         String token = "valid-token";
         String tokenId = "token-uuid";
         Long userId = 1L;
@@ -106,12 +108,12 @@ class AuthServiceLogoutTest {
         when(authenticationService.getCurrentUserId()).thenReturn(userId);
         when(jwtTokenProvider.getTokenId(token)).thenReturn(tokenId);
         when(jwtTokenProvider.getExpirationDateFromToken(token)).thenReturn(expirationTime);
-        doThrow(new RuntimeException("DB error")).when(userRepository).updateLastSeenAt(anyLong(), any(Instant.class));
 
         var result = authService.logout(token);
 
         assertThat(result.message()).isEqualTo("Wylogowano pomyślnie");
-        verify(tokenBlacklistService, times(1)).addToBlacklist(tokenId, expirationTime);
+        verify(lastSeenAggregator, times(1)).record(eq(userId), any(Instant.class));
+        verifyNoInteractions(userRepository);
     }
 }
 
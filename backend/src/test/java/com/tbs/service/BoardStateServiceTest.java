@@ -7,6 +7,7 @@ import com.tbs.enums.PlayerSymbol;
 import com.tbs.model.Game;
 import com.tbs.model.Move;
 import com.tbs.model.User;
+import com.tbs.util.MoveLogCodec;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -17,6 +18,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @ExtendWith(MockitoExtension.class)
 class BoardStateServiceTest {
@@ -110,5 +112,33 @@ class BoardStateServiceTest {
         assertThat(state[4][4]).isEqualTo("o");
         assertThat(state[2][2]).isNull();
     }
-}
 
+    @Test
+    void generateBoardState_shouldDecodePackedMoveLog() {
+        game.setBoardSize(BoardSize.FOUR);
+        game.setMoveLog(new byte[] {
+                MoveLogCodec.encode(0, 0, 4, PlayerSymbol.X, true),
+                MoveLogCodec.encode(3, 3, 4, PlayerSymbol.O, false),
+                MoveLogCodec.encode(1, 2, 4, PlayerSymbol.X, true)
+        });
+
+        BoardState result = boardStateService.generateBoardState(game);
+
+        String[][] state = result.state();
+        assertThat(state).hasDimensions(4, 4);
+        assertThat(state[0][0]).isEqualTo("x");
+        assertThat(state[3][3]).isEqualTo("o");
+        assertThat(state[1][2]).isEqualTo("x");
+        assertThat(state[2][1]).isNull();
+    }
+
+    @Test
+    void generateBoardState_shouldRejectDuplicateCellInMoveLog() {
+        byte entry = MoveLogCodec.encode(1, 1, 3, PlayerSymbol.X, true);
+        game.setMoveLog(new byte[] {entry, entry});
+
+        assertThatThrownBy(() -> boardStateService.generateBoardState(game))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Duplicate move");
+    }
+}
@@ -0,0 +1,74 @@
+package com.tbs.service;
+
+import com.tbs.event.ClusterMembershipChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ClusterMembershipTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private ClusterMembership clusterMembership;
+
+    @BeforeEach
+    void setUp() {
+        clusterMembership = new ClusterMembership(
+                redisTemplate, eventPublisher, new SimpleMeterRegistry(), "node-a", 15_000, 128);
+    }
+
+    @Test
+    void isOwner_shouldOwnEveryGameWhenAlone() {
+        assertThat(LongStream.rangeClosed(1, 100).allMatch(clusterMembership::isOwner)).isTrue();
+    }
+
+    @Test
+    void heartbeat_shouldSplitOwnershipAndPublishMembershipChange() {
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.rangeByScore(eq(ClusterMembership.MEMBERS_KEY), anyDouble(), anyDouble()))
+                .thenReturn(Set.of("node-a", "node-b"));
+
+        clusterMembership.heartbeat();
+
+        verify(zSetOperations).add(eq(ClusterMembership.MEMBERS_KEY), eq("node-a"), anyDouble());
+        verify(eventPublisher).publishEvent(new ClusterMembershipChangedEvent(Set.of("node-a"), Set.of("node-a", "node-b")));
+        long owned = LongStream.rangeClosed(1, 1000).filter(clusterMembership::isOwner).count();
+        assertThat(owned).isBetween(300L, 700L);
+    }
+
+    @Test
+    void heartbeat_shouldKeepRingWhenRedisUnavailable() {
+        when(redisTemplate.opsForZSet()).thenThrow(new RedisConnectionFailureException("Redis down"));
+
+        clusterMembership.heartbeat();
+
+        assertThat(clusterMembership.getNodes()).containsExactly("node-a");
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+}
@@ -0,0 +1,51 @@
+package com.tbs.service;
+
+import com.tbs.repository.ArchivedGameRepository;
+import com.tbs.repository.ArchivedMoveRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GameArchiveServiceTest {
+
+    @Mock
+    private ArchivedGameRepository archivedGameRepository;
+
+    @Mock
+    private ArchivedMoveRepository archivedMoveRepository;
+
+    private GameArchiveService gameArchiveService;
+
+    @BeforeEach
+    void setUp() {
+        gameArchiveService = new GameArchiveService(archivedGameRepository, archivedMoveRepository, 30, 100, 5);
+    }
+
+    @Test
+    void archiveFinishedGames_shouldRunBatchesUntilPartialBatch() {
+        when(archivedGameRepository.archiveFinishedGames(30, 100)).thenReturn(100, 100, 40);
+
+        int archived = gameArchiveService.archiveFinishedGames();
+
+        assertThat(archived).isEqualTo(240);
+        verify(archivedGameRepository, times(3)).archiveFinishedGames(30, 100);
+    }
+
+    @Test
+    void archiveFinishedGames_shouldStopAfterMaxBatchesPerRun() {
+        when(archivedGameRepository.archiveFinishedGames(30, 100)).thenReturn(100);
+
+        int archived = gameArchiveService.archiveFinishedGames();
+
+        assertThat(archived).isEqualTo(500);
+        verify(archivedGameRepository, times(5)).archiveFinishedGames(30, 100);
+    }
+}
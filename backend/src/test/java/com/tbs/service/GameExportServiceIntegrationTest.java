@@ -0,0 +1,134 @@
+package com.tbs.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tbs.TestFixtures;
+import com.tbs.dto.game.GameExportFilter;
+import com.tbs.enums.BoardSize;
+import com.tbs.enums.BotDifficulty;
+import com.tbs.enums.ExportFormat;
+import com.tbs.enums.GameStatus;
+import com.tbs.enums.GameType;
+import com.tbs.enums.PlayerSymbol;
+import com.tbs.exception.RateLimitExceededException;
+import com.tbs.model.Game;
+import com.tbs.model.User;
+import com.tbs.util.MoveLogCodec;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class GameExportServiceIntegrationTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private GameExportService gameExportService;
+    private User player;
+    private User opponent;
+
+    @BeforeEach
+    void setUp() {
+        gameExportService = new GameExportService(dataSource, transactionManager, 2, 1, 1, Set.of());
+        player = newUser("export-player");
+        opponent = newUser("export-opponent");
+
+        Game pvp = newGame(GameType.PVP, BoardSize.THREE);
+        pvp.setPlayer2(opponent);
+        pvp.setMoveLog(new byte[] {
+                MoveLogCodec.encode(1, 1, 3, PlayerSymbol.X, true),
+                MoveLogCodec.encode(0, 2, 3, PlayerSymbol.O, false)
+        });
+        pvp.setMoveCount((short) 2);
+        entityManager.persist(pvp);
+
+        Game bot = newGame(GameType.VS_BOT, BoardSize.FIVE);
+        bot.setBotDifficulty(BotDifficulty.EASY);
+        entityManager.persist(bot);
+
+        Game otherUsers = newGame(GameType.PVP, BoardSize.THREE);
+        otherUsers.setPlayer1(opponent);
+        entityManager.persist(otherUsers);
+        entityManager.flush();
+    }
+
+    @Test
+    void writeExport_shouldStreamFilteredGamesAsNdjsonWithPackedMoves() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = gameExportService.writeExport(
+                new GameExportFilter(player.getId(), null, null, GameType.PVP, BoardSize.THREE), ExportFormat.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(rows).isEqualTo(1);
+        assertThat(lines).hasSize(1);
+        JsonNode game = new ObjectMapper().readTree(lines[0]);
+        assertThat(game.get("gameType").asText()).isEqualTo("pvp");
+        assertThat(game.get("player2Id").asLong()).isEqualTo(opponent.getId());
+        assertThat(game.get("moveCount").asInt()).isEqualTo(2);
+        assertThat(game.get("archived").asBoolean()).isFalse();
+        byte[] moveLog = Base64.getDecoder().decode(game.get("moveLog").asText());
+        assertThat(MoveLogCodec.row(moveLog[1], 3)).isZero();
+        assertThat(MoveLogCodec.col(moveLog[1], 3)).isEqualTo(2);
+    }
+
+    @Test
+    void writeExport_shouldStreamAllUserGamesAsCsv() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = gameExportService.writeExport(
+                new GameExportFilter(player.getId(), null, null, null, null), ExportFormat.CSV, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(rows).isEqualTo(2);
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).startsWith("id,gameType,boardSize,status");
+        assertThat(lines).anySatisfy(line -> assertThat(line).contains(",vs_bot,5,in_progress,easy,"));
+    }
+
+    @Test
+    void export_shouldReturnPermitWhenStreamIsReleasedWithoutRunning() {
+        GameExportFilter filter = new GameExportFilter(player.getId(), null, null, null, null);
+        GameExportService.ExportStream abandoned = gameExportService.export(filter, ExportFormat.CSV);
+
+        abandoned.release();
+        abandoned.release();
+
+        gameExportService.export(filter, ExportFormat.CSV);
+        assertThatThrownBy(() -> gameExportService.export(filter, ExportFormat.CSV))
+                .isInstanceOf(RateLimitExceededException.class);
+    }
+
+    private User newUser(String username) {
+        User user = TestFixtures.newUser(username);
+        entityManager.persist(user);
+        return user;
+    }
+
+    private Game newGame(GameType gameType, BoardSize boardSize) {
+        return TestFixtures.newGame(player, gameType, boardSize, GameStatus.IN_PROGRESS);
+    }
+}
@@ -0,0 +1,100 @@
+package com.tbs.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GameMailboxTest {
+
+    private ExecutorService executor;
+    private SimpleMeterRegistry meterRegistry;
+    private GameMailbox gameMailbox;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        meterRegistry = new SimpleMeterRegistry();
+        gameMailbox = new GameMailbox(executor, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void submit_shouldRunCommandsForSameGameSeriallyInOrder() throws InterruptedException {
+        List<Integer> processed = new CopyOnWriteArrayList<>();
+        AtomicInteger running = new AtomicInteger();
+        AtomicBoolean overlapped = new AtomicBoolean();
+        CountDownLatch done = new CountDownLatch(200);
+
+        IntStream.range(0, 200).forEach(i -> gameMailbox.submit(1L, () -> {
+            if (running.incrementAndGet() > 1) {
+                overlapped.set(true);
+            }
+            processed.add(i);
+            running.decrementAndGet();
+            done.countDown();
+        }));
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(overlapped).isFalse();
+        assertThat(processed).containsExactlyElementsOf(IntStream.range(0, 200).boxed().toList());
+    }
+
+    @Test
+    void submit_shouldKeepDrainingAfterFailingCommand() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+
+        gameMailbox.submit(1L, () -> {
+            throw new IllegalStateException("boom");
+        });
+        gameMailbox.submit(1L, done::countDown);
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void call_shouldReturnResultAndRethrowCommandException() {
+        assertThat(gameMailbox.call(1L, () -> "result")).isEqualTo("result");
+        assertThatThrownBy(() -> gameMailbox.call(1L, () -> {
+            throw new IllegalArgumentException("Invalid move");
+        })).isInstanceOf(IllegalArgumentException.class).hasMessage("Invalid move");
+    }
+
+    @Test
+    void call_shouldRunInlineWhenAlreadyInsideSameMailbox() {
+        String result = gameMailbox.call(1L, () -> gameMailbox.call(1L, () -> "nested"));
+
+        assertThat(result).isEqualTo("nested");
+    }
+
+    @Test
+    void submit_shouldRemoveIdleMailbox() {
+        gameMailbox.call(1L, () -> null);
+        gameMailbox.call(2L, () -> null);
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (gameMailbox.activeMailboxes() > 0 && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+
+        assertThat(gameMailbox.activeMailboxes()).isZero();
+        assertThat(meterRegistry.get("game.mailbox.active").gauge().value()).isZero();
+    }
+}
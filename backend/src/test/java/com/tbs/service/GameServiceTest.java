@@ -3,15 +3,18 @@ package com.tbs.service;
 import com.tbs.dto.common.BoardState;
 import com.tbs.dto.game.*;
 import com.tbs.enums.*;
+import com.tbs.event.GameStatusChangedEvent;
 import com.tbs.exception.BadRequestException;
 import com.tbs.exception.ForbiddenException;
 import com.tbs.exception.GameNotFoundException;
+import com.tbs.model.ArchivedGame;
 import com.tbs.model.Game;
-import com.tbs.model.Move;
 import com.tbs.model.User;
 import com.tbs.repository.GameRepository;
 import com.tbs.repository.MoveRepository;
 import com.tbs.repository.UserRepository;
+import com.tbs.repository.projection.GameBoardView;
+import com.tbs.util.MoveLogCodec;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -19,15 +22,13 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
-import org.springframework.data.domain.Page;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import java.time.Instant;
-import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -58,6 +59,12 @@ class GameServiceTest {
     @Mock
     private RankingService rankingService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private GameArchiveService gameArchiveService;
+
     private PointsService pointsService;
     private GameService gameService;
 
@@ -101,7 +108,9 @@ class GameServiceTest {
                 userRepository,
                 boardStateService,
                 gameValidationService,
-                pointsService
+                pointsService,
+                eventPublisher,
+                gameArchiveService
         );
     }
 
@@ -109,7 +118,7 @@ class GameServiceTest {
     void createGame_shouldCreateVsBotGameSuccessfully() {
         when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
         when(gameRepository.save(any(Game.class))).thenReturn(testGame);
-        when(boardStateService.generateBoardState(any(Game.class), eq(List.of())))
+        when(boardStateService.generateBoardState(any(Game.class)))
                 .thenReturn(new BoardState(new String[3][3]));
 
         CreateGameResponse response = gameService.createGame(vsBotRequest, 1L);
@@ -156,31 +165,31 @@ class GameServiceTest {
 
     @Test
     void getBoardState_shouldReturnBoardStateForValidGame() {
-        when(gameRepository.findById(42L)).thenReturn(Optional.of(testGame));
-
-        Move move = new Move();
-        move.setRow((short) 0);
-        move.setCol((short) 0);
-        move.setPlayerSymbol(PlayerSymbol.X);
-        move.setMoveOrder((short) 1);
-
-        when(moveRepository.findByGameIdOrderByMoveOrderAsc(42L)).thenReturn(Arrays.asList(move));
-        when(moveRepository.findFirstByGameIdOrderByMoveOrderDesc(42L)).thenReturn(Optional.of(move));
-        when(boardStateService.generateBoardState(any(Game.class), any())).thenReturn(new BoardState(new String[3][3]));
+        byte[] moveLog = {
+                MoveLogCodec.encode(0, 0, 3, PlayerSymbol.X, true),
+                MoveLogCodec.encode(2, 1, 3, PlayerSymbol.O, false)
+        };
+        when(gameRepository.findBoardViewById(42L)).thenReturn(Optional.of(new GameBoardView(
+                42L, 1L, null, BoardSize.THREE, moveLog, (short) 2, (short) 2, (short) 1, PlayerSymbol.O)));
+        when(boardStateService.generateBoardState(BoardSize.THREE, moveLog)).thenReturn(new BoardState(new String[3][3]));
 
         BoardStateResponse response = gameService.getBoardState(42L, 1L);
 
         assertThat(response.boardSize()).isEqualTo(BoardSize.THREE);
-        assertThat(response.totalMoves()).isEqualTo(1);
+        assertThat(response.totalMoves()).isEqualTo(2);
         assertThat(response.lastMove()).isNotNull();
-        assertThat(response.lastMove().row()).isEqualTo(0);
-        assertThat(response.lastMove().col()).isEqualTo(0);
-        assertThat(response.lastMove().playerSymbol()).isEqualTo(PlayerSymbol.X);
+        assertThat(response.lastMove().row()).isEqualTo(2);
+        assertThat(response.lastMove().col()).isEqualTo(1);
+        assertThat(response.lastMove().playerSymbol()).isEqualTo(PlayerSymbol.O);
+        assertThat(response.lastMove().moveOrder()).isEqualTo(2);
+        verify(gameRepository, never()).findById(any());
+        verifyNoInteractions(moveRepository);
     }
 
     @Test
     void getBoardState_shouldThrowGameNotFoundForInvalidGameId() {
-        when(gameRepository.findById(999L)).thenReturn(Optional.empty());
+        when(gameRepository.findBoardViewById(999L)).thenReturn(Optional.empty());
+        when(gameArchiveService.findArchivedBoardView(999L)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> gameService.getBoardState(999L, 1L))
                 .isInstanceOf(GameNotFoundException.class)
@@ -189,10 +198,10 @@ class GameServiceTest {
 
     @Test
     void getBoardState_shouldThrowForbiddenForNonParticipant() {
-        testGame.setPlayer2(null);
-        when(gameRepository.findById(42L)).thenReturn(Optional.of(testGame));
+        when(gameRepository.findBoardViewById(42L)).thenReturn(Optional.of(new GameBoardView(
+                42L, 1L, null, BoardSize.THREE, new byte[0], (short) 0, null, null, null)));
         doThrow(new ForbiddenException("You are not a participant of this game"))
-                .when(gameValidationService).validateParticipation(testGame, 999L);
+                .when(gameValidationService).validateParticipation(42L, 1L, null, 999L);
 
         assertThatThrownBy(() -> gameService.getBoardState(42L, 999L))
                 .isInstanceOf(ForbiddenException.class)
@@ -210,6 +219,7 @@ class GameServiceTest {
         assertThat(response.gameId()).isEqualTo(42L);
         assertThat(response.status()).isEqualTo(GameStatus.ABANDONED);
         verify(gameRepository).save(any(Game.class));
+        verify(eventPublisher).publishEvent(new GameStatusChangedEvent(42L, GameStatus.IN_PROGRESS, GameStatus.ABANDONED));
     }
 
     @Test
@@ -224,18 +234,18 @@ class GameServiceTest {
 
     @Test
     void getGames_shouldReturnPaginatedGamesList() {
-        Page<Game> gamePage = new PageImpl<>(Arrays.asList(testGame));
-        when(gameRepository.findByUserIdAndFilters(eq(1L), any(), any(), any(Pageable.class)))
-                .thenReturn(gamePage);
-        when(moveRepository.getMoveCountsByGameIds(Arrays.asList(42L)))
-                .thenReturn(Map.of(42L, 5L));
+        GameListItem item = new GameListItem(42L, GameType.VS_BOT, BoardSize.THREE, GameStatus.IN_PROGRESS,
+                "user1", null, null, BotDifficulty.EASY, 5, Instant.now(), null, null);
+        when(gameRepository.findGameListItems(eq(1L), any(), any(), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(item)));
 
         Pageable pageable = PageRequest.of(0, 20);
-        GameListResponse response = gameService.getGames(1L, null, null, pageable);
+        GameListResponse response = gameService.getGames(1L, null, null, false, pageable);
 
         assertThat(response.content()).hasSize(1);
         assertThat(response.totalElements()).isEqualTo(1);
         assertThat(response.content().get(0).totalMoves()).isEqualTo(5);
+        verifyNoInteractions(moveRepository);
     }
 
     @Test
@@ -246,7 +256,7 @@ class GameServiceTest {
 
         when(gameRepository.findByIdWithPlayers(42L)).thenReturn(Optional.of(testGame));
         when(moveRepository.findByGameIdOrderByMoveOrderAsc(42L)).thenReturn(List.of());
-        when(boardStateService.generateBoardState(any(Game.class), any())).thenReturn(new BoardState(new String[3][3]));
+        when(boardStateService.generateBoardState(any(Game.class))).thenReturn(new BoardState(new String[3][3]));
 
         GameDetailResponse response = gameService.getGameDetail(42L, 1L);
 
@@ -255,5 +265,27 @@ class GameServiceTest {
         assertThat(response.status()).isEqualTo(GameStatus.IN_PROGRESS);
         assertThat(response.currentPlayerSymbol()).isEqualTo(PlayerSymbol.X);
     }
-}
 
+    @Test
+    void getGameDetail_shouldFallBackToArchiveWhenGameWasArchived() {
+        ArchivedGame archivedGame = new ArchivedGame();
+        archivedGame.setId(42L);
+        archivedGame.setGameType(GameType.VS_BOT);
+        archivedGame.setBoardSize(BoardSize.THREE);
+        archivedGame.setPlayer1(testUser);
+        archivedGame.setBotDifficulty(BotDifficulty.EASY);
+        archivedGame.setStatus(GameStatus.FINISHED);
+
+        when(gameRepository.findByIdWithPlayers(42L)).thenReturn(Optional.empty());
+        when(gameArchiveService.findArchivedGame(42L)).thenReturn(Optional.of(archivedGame));
+        when(gameArchiveService.findArchivedMoves(42L)).thenReturn(List.of());
+        when(boardStateService.generateBoardState(archivedGame)).thenReturn(new BoardState(new String[3][3]));
+
+        GameDetailResponse response = gameService.getGameDetail(42L, 1L);
+
+        assertThat(response.gameId()).isEqualTo(42L);
+        assertThat(response.status()).isEqualTo(GameStatus.FINISHED);
+        verify(gameValidationService).validateParticipation(archivedGame, 1L);
+        verify(moveRepository, never()).findByGameIdOrderByMoveOrderAsc(any());
+    }
+}
@@ -0,0 +1,24 @@
+package com.tbs.service;
+
+import com.tbs.exception.ForbiddenException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GameValidationServiceTest {
+
+    private final GameValidationService gameValidationService = new GameValidationService();
+
+    @Test
+    void validateParticipation_shouldAcceptPlayer() {
+        assertThatCode(() -> gameValidationService.validateParticipation(1L, 10L, null, 10L))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    void validateParticipation_shouldRejectNullUserWhileWaitingForOpponent() {
+        assertThatThrownBy(() -> gameValidationService.validateParticipation(1L, 10L, null, null))
+                .isInstanceOf(ForbiddenException.class);
+    }
+}
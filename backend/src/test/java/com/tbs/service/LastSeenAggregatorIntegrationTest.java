@@ -0,0 +1,95 @@
+package com.tbs.service;
+
+import com.tbs.TestFixtures;
+import com.tbs.model.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class LastSeenAggregatorIntegrationTest {
+
+    private static final Instant BASE = Instant.parse("2025-12-01T10:00:00Z");
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private LastSeenAggregator lastSeenAggregator;
+
+    @BeforeEach
+    void setUp() {
+        lastSeenAggregator = new LastSeenAggregator(dataSource, 2, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void flush_shouldWriteLatestTimestampsInBatches() {
+        User first = newUser("last-seen-1", null);
+        User second = newUser("last-seen-2", BASE);
+        User third = newUser("last-seen-3", BASE);
+
+        lastSeenAggregator.record(first.getId(), BASE.plusSeconds(5));
+        lastSeenAggregator.record(first.getId(), BASE.plusSeconds(10));
+        lastSeenAggregator.record(first.getId(), BASE.plusSeconds(7));
+        lastSeenAggregator.record(second.getId(), BASE.plusSeconds(20));
+        lastSeenAggregator.record(third.getId(), BASE.plusSeconds(30));
+
+        int flushed = lastSeenAggregator.flush();
+
+        assertThat(flushed).isEqualTo(3);
+        assertThat(lastSeenAggregator.pendingCount()).isZero();
+        assertThat(persistedLastSeen(first)).isEqualTo(BASE.plusSeconds(10));
+        assertThat(persistedLastSeen(second)).isEqualTo(BASE.plusSeconds(20));
+        assertThat(persistedLastSeen(third)).isEqualTo(BASE.plusSeconds(30));
+    }
+
+    @Test
+    void flush_shouldNotMoveLastSeenBackwards() {
+        User user = newUser("last-seen-newer", BASE.plusSeconds(60));
+
+        lastSeenAggregator.record(user.getId(), BASE);
+        lastSeenAggregator.flush();
+
+        assertThat(persistedLastSeen(user)).isEqualTo(BASE.plusSeconds(60));
+    }
+
+    @Test
+    void merge_shouldPreferPendingTimestampUntilFlushed() {
+        User user = newUser("last-seen-merge", BASE);
+
+        lastSeenAggregator.record(user.getId(), BASE.plusSeconds(15));
+
+        assertThat(lastSeenAggregator.merge(user.getId(), BASE)).isEqualTo(BASE.plusSeconds(15));
+        assertThat(lastSeenAggregator.merge(user.getId(), BASE.plusSeconds(90))).isEqualTo(BASE.plusSeconds(90));
+        assertThat(lastSeenAggregator.merge(-1L, null)).isNull();
+    }
+
+    private User newUser(String username, Instant lastSeenAt) {
+        User user = TestFixtures.newUser(username);
+        user.setLastSeenAt(lastSeenAt);
+        entityManager.persist(user);
+        entityManager.flush();
+        return user;
+    }
+
+    private Instant persistedLastSeen(User user) {
+        entityManager.clear();
+        Instant lastSeenAt = entityManager.find(User.class, user.getId()).getLastSeenAt();
+        return lastSeenAt != null ? lastSeenAt.truncatedTo(ChronoUnit.MILLIS) : null;
+    }
+}
@@ -32,6 +32,9 @@ class MatchmakingServiceTest {
     @Mock
     private RedisService redisService;
 
+    @Mock
+    private ActiveGameIndex activeGameIndex;
+
     @Mock
     private GameRepository gameRepository;
 
@@ -98,7 +101,7 @@ class MatchmakingServiceTest {
 
         when(redisService.acquireLock("1", 5)).thenReturn(true);
         when(redisService.addToQueueIfNotActive(1L, BoardSize.THREE)).thenReturn(false);
-        when(gameRepository.hasActivePvpGame(1L)).thenReturn(true);
+        when(activeGameIndex.hasActiveGame(1L)).thenReturn(true);
 
         assertThatThrownBy(() -> matchmakingService.addToQueue(1L, request))
                 .isInstanceOf(UserHasActiveGameException.class)
@@ -115,7 +118,7 @@ class MatchmakingServiceTest {
         when(redisService.addToQueueIfNotActive(1L, BoardSize.THREE)).thenReturn(true);
         when(redisService.acquireLock("matchmaking:THREE", 10)).thenReturn(true);
         when(redisService.getQueueForBoardSize(BoardSize.THREE)).thenReturn(List.of(2L));
-        when(gameRepository.hasActivePvpGame(2L)).thenReturn(false);
+        when(activeGameIndex.hasActiveGame(2L)).thenReturn(false);
         when(userRepository.findById(1L)).thenReturn(Optional.of(testUser1));
         when(userRepository.findById(2L)).thenReturn(Optional.of(testUser2));
         when(redisService.removeFromQueue(1L)).thenReturn(true);
@@ -154,8 +157,8 @@ class MatchmakingServiceTest {
     void createDirectChallenge_shouldCreateChallengeSuccessfully() {
         ChallengeRequest request = new ChallengeRequest(BoardSize.THREE);
 
-        when(gameRepository.hasActivePvpGame(1L)).thenReturn(false);
-        when(gameRepository.hasActivePvpGame(2L)).thenReturn(false);
+        when(activeGameIndex.hasActiveGame(1L)).thenReturn(false);
+        when(activeGameIndex.hasActiveGame(2L)).thenReturn(false);
         when(userRepository.findById(1L)).thenReturn(Optional.of(testUser1));
         when(userRepository.findById(2L)).thenReturn(Optional.of(testUser2));
         when(gameRepository.save(any(Game.class))).thenReturn(testGame);
@@ -198,9 +201,9 @@ class MatchmakingServiceTest {
     void createDirectChallenge_shouldThrowExceptionWhenChallengedUserUnavailable() {
         ChallengeRequest request = new ChallengeRequest(BoardSize.THREE);
 
-        when(gameRepository.hasActivePvpGame(1L)).thenReturn(false);
+        when(activeGameIndex.hasActiveGame(1L)).thenReturn(false);
         when(userRepository.findById(2L)).thenReturn(Optional.of(testUser2));
-        when(gameRepository.hasActivePvpGame(2L)).thenReturn(true);
+        when(activeGameIndex.hasActiveGame(2L)).thenReturn(true);
 
         assertThatThrownBy(() -> matchmakingService.createDirectChallenge(1L, 2L, request))
                 .isInstanceOf(UserUnavailableException.class)
@@ -212,7 +215,7 @@ class MatchmakingServiceTest {
 
     @Test
     void isUserAvailable_shouldReturnFalseWhenUserHasActiveGame() {
-        when(gameRepository.hasActivePvpGame(1L)).thenReturn(true);
+        when(activeGameIndex.hasActiveGame(1L)).thenReturn(true);
 
         boolean result = matchmakingService.isUserAvailable(1L);
 
@@ -222,7 +225,7 @@ class MatchmakingServiceTest {
 
     @Test
     void isUserAvailable_shouldReturnTrueWhenUserIsAvailable() {
-        when(gameRepository.hasActivePvpGame(1L)).thenReturn(false);
+        when(activeGameIndex.hasActiveGame(1L)).thenReturn(false);
 
         boolean result = matchmakingService.isUserAvailable(1L);
 
@@ -0,0 +1,94 @@
+package com.tbs.service;
+
+import com.tbs.enums.BoardSize;
+import com.tbs.enums.PlayerSymbol;
+import com.tbs.model.Game;
+import com.tbs.model.Move;
+import com.tbs.model.User;
+import com.tbs.repository.GameRepository;
+import com.tbs.repository.MoveRepository;
+import com.tbs.util.MoveLogCodec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MoveCreationServiceTest {
+
+    @Mock
+    private MoveRepository moveRepository;
+
+    @Mock
+    private GameRepository gameRepository;
+
+    private MoveCreationService moveCreationService;
+    private Game game;
+    private User player;
+
+    @BeforeEach
+    void setUp() {
+        moveCreationService = new MoveCreationService(moveRepository, gameRepository);
+        game = new Game();
+        game.setId(1L);
+        game.setBoardSize(BoardSize.THREE);
+        game.setNextMoveOrder((short) 4);
+        player = new User();
+        player.setId(10L);
+        game.setPlayer1(player);
+    }
+
+    @Test
+    void createAndSaveMove_shouldUseAndAdvanceGameMoveCounter() {
+        when(moveRepository.save(any(Move.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Move move = moveCreationService.createAndSaveMove(game, 1, 2, PlayerSymbol.X, player);
+
+        assertThat(move.getMoveOrder()).isEqualTo((short) 4);
+        assertThat(game.getNextMoveOrder()).isEqualTo((short) 5);
+        InOrder order = inOrder(gameRepository, moveRepository);
+        order.verify(gameRepository).saveAndFlush(game);
+        order.verify(moveRepository).save(move);
+    }
+
+    @Test
+    void createAndSaveMove_shouldAppendMoveToPackedLog() {
+        User opponent = new User();
+        opponent.setId(20L);
+        when(moveRepository.save(any(Move.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        moveCreationService.createAndSaveMove(game, 1, 2, PlayerSymbol.X, player);
+        moveCreationService.createAndSaveMove(game, 2, 0, PlayerSymbol.O, opponent);
+
+        byte[] moveLog = game.getMoveLog();
+        assertThat(moveLog).hasSize(2);
+        assertThat(MoveLogCodec.row(moveLog[0], 3)).isEqualTo(1);
+        assertThat(MoveLogCodec.col(moveLog[0], 3)).isEqualTo(2);
+        assertThat(MoveLogCodec.symbol(moveLog[0])).isEqualTo(PlayerSymbol.X);
+        assertThat(MoveLogCodec.isPlayer1(moveLog[0])).isTrue();
+        assertThat(MoveLogCodec.row(moveLog[1], 3)).isEqualTo(2);
+        assertThat(MoveLogCodec.col(moveLog[1], 3)).isEqualTo(0);
+        assertThat(MoveLogCodec.symbol(moveLog[1])).isEqualTo(PlayerSymbol.O);
+        assertThat(MoveLogCodec.isPlayer1(moveLog[1])).isFalse();
+    }
+
+    @Test
+    void createAndSaveMove_shouldNotInsertMoveOnVersionConflict() {
+        when(gameRepository.saveAndFlush(game)).thenThrow(new ObjectOptimisticLockingFailureException(Game.class, 1L));
+
+        assertThatThrownBy(() -> moveCreationService.createAndSaveMove(game, 1, 2, PlayerSymbol.X, player))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        verify(moveRepository, never()).save(any(Move.class));
+    }
+}
@@ -24,6 +24,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,6 +36,9 @@ class UserServiceTest {
     @Mock
     private AuthenticationService authenticationService;
 
+    @Mock
+    private LastSeenAggregator lastSeenAggregator;
+
     @InjectMocks
     private UserService userService;
 
@@ -142,33 +146,37 @@ class UserServiceTest {
     }
 
     @Test
-    void updateLastSeen_shouldUpdateTimestampSuccessfully() {
+    void updateLastSeen_shouldRecordTimestampWithoutSavingUser() {
         Long userId = 1L;
 
-        when(userRepository.findById(userId)).thenReturn(Optional.of(registeredUser));
-        when(userRepository.save(any(User.class))).thenReturn(registeredUser);
-
         LastSeenResponse response = userService.updateLastSeen(userId);
 
         assertThat(response).isNotNull();
         assertThat(response.message()).isEqualTo("Last seen updated successfully");
         assertThat(response.lastSeenAt()).isNotNull();
-        verify(userRepository, times(1)).findById(userId);
-        verify(userRepository, times(1)).save(any(User.class));
+        verify(lastSeenAggregator, times(1)).record(userId, response.lastSeenAt());
+        verify(userRepository, never()).save(any(User.class));
     }
 
     @Test
-    void updateLastSeen_shouldThrowUserNotFoundException() {
-        Long userId = 999L;
+    void updateLastSeen_shouldNotQueryUserOnHeartbeat() {
+        userService.updateLastSeen(999L);
 
-        when(userRepository.findById(userId)).thenReturn(Optional.empty());
+        verify(lastSeenAggregator, times(1)).record(eq(999L), any(Instant.class));
+        verifyNoInteractions(userRepository);
+    }
 
-        assertThatThrownBy(() -> userService.updateLastSeen(userId))
-                .isInstanceOf(UserNotFoundException.class)
-                .hasMessage("User not found");
+    @Test
+    void getCurrentUserProfile_shouldMergePendingLastSeen() {
+        Instant pending = registeredUser.getLastSeenAt().plusSeconds(30);
 
-        verify(userRepository, times(1)).findById(userId);
-        verify(userRepository, never()).save(any(User.class));
+        when(authenticationService.getCurrentUserId()).thenReturn(1L);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(registeredUser));
+        when(lastSeenAggregator.merge(1L, registeredUser.getLastSeenAt())).thenReturn(pending);
+
+        com.tbs.dto.auth.UserProfileResponse response = userService.getCurrentUserProfile();
+
+        assertThat(response.lastSeenAt()).isEqualTo(pending);
     }
 
     @Test
@@ -0,0 +1,41 @@
+package com.tbs.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConsistentHashRingTest {
+
+    @Test
+    void ownerOf_shouldOnlyMoveKeysOwnedByRemovedNode() {
+        ConsistentHashRing threeNodes = new ConsistentHashRing(List.of("node-a", "node-b", "node-c"), 128);
+        ConsistentHashRing twoNodes = new ConsistentHashRing(List.of("node-a", "node-b"), 128);
+
+        LongStream.rangeClosed(1, 1000).mapToObj(Long::toString).forEach(key -> {
+            String before = threeNodes.ownerOf(key);
+            if (!before.equals("node-c")) {
+                assertThat(twoNodes.ownerOf(key)).isEqualTo(before);
+            }
+        });
+    }
+
+    @Test
+    void ownerOf_shouldBeIndependentOfNodeOrder() {
+        ConsistentHashRing ring = new ConsistentHashRing(List.of("node-a", "node-b", "node-c"), 64);
+        ConsistentHashRing reordered = new ConsistentHashRing(List.of("node-c", "node-a", "node-b"), 64);
+
+        assertThat(LongStream.rangeClosed(1, 500).mapToObj(Long::toString)
+                .allMatch(key -> ring.ownerOf(key).equals(reordered.ownerOf(key)))).isTrue();
+    }
+
+    @Test
+    void constructor_shouldRejectEmptyRing() {
+        assertThatThrownBy(() -> new ConsistentHashRing(List.of(), 64))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Ring requires at least one node");
+    }
+}
@@ -0,0 +1,76 @@
+package com.tbs.websocket;
+
+import com.tbs.dto.websocket.GameEndedMessage;
+import com.tbs.dto.websocket.MoveMessage;
+import com.tbs.dto.websocket.OpponentMoveMessage;
+import com.tbs.dto.websocket.PingMessage;
+import com.tbs.dto.websocket.PongMessage;
+import com.tbs.dto.websocket.TimerUpdateMessage;
+import com.tbs.enums.GameStatus;
+import com.tbs.enums.PlayerSymbol;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BinaryFrameCodecTest {
+
+    private static final Instant TIMESTAMP = Instant.parse("2025-01-01T12:00:20.123Z");
+
+    @Test
+    void encode_shouldRoundTripMoveInFourBytes() {
+        MoveMessage move = new MoveMessage(new MoveMessage.MovePayload(4, 3, PlayerSymbol.O));
+
+        ByteBuffer frame = BinaryFrameCodec.encode(move);
+
+        assertThat(frame.remaining()).isEqualTo(4);
+        assertThat(BinaryFrameCodec.decode(frame)).isEqualTo(move);
+    }
+
+    @Test
+    void encode_shouldRoundTripOpponentMove() {
+        OpponentMoveMessage opponentMove = new OpponentMoveMessage(new OpponentMoveMessage.OpponentMovePayload(
+                1, 2, PlayerSymbol.X, null, PlayerSymbol.O, TIMESTAMP, 7, "9f3a1c27"));
+
+        ByteBuffer frame = BinaryFrameCodec.encode(opponentMove);
+
+        assertThat(frame.remaining()).isEqualTo(19);
+        assertThat(BinaryFrameCodec.decode(frame)).isEqualTo(opponentMove);
+    }
+
+    @Test
+    void encode_shouldRoundTripTimerUpdateAndPingPong() {
+        TimerUpdateMessage timerUpdate = new TimerUpdateMessage(new TimerUpdateMessage.TimerUpdatePayload(8, null));
+        PingMessage ping = new PingMessage(new PingMessage.PingPayload(TIMESTAMP));
+        PongMessage pong = new PongMessage(new PongMessage.PongPayload(null));
+
+        assertThat(BinaryFrameCodec.decode(BinaryFrameCodec.encode(timerUpdate))).isEqualTo(timerUpdate);
+        assertThat(BinaryFrameCodec.decode(BinaryFrameCodec.encode(ping))).isEqualTo(ping);
+        assertThat(BinaryFrameCodec.decode(BinaryFrameCodec.encode(pong))).isEqualTo(pong);
+    }
+
+    @Test
+    void encode_shouldRejectMessagesWithoutBinaryLayout() {
+        GameEndedMessage gameEnded = new GameEndedMessage(
+                new GameEndedMessage.GameEndedPayload(1L, GameStatus.FINISHED, null, null, 5, "9f3a1c27"));
+
+        assertThat(BinaryFrameCodec.supports(gameEnded.type())).isFalse();
+        assertThatThrownBy(() -> BinaryFrameCodec.encode(gameEnded))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void decode_shouldRejectMalformedFrames() {
+        assertThatThrownBy(() -> BinaryFrameCodec.decode(ByteBuffer.wrap(new byte[] {BinaryFrameCodec.MOVE, 1})))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Binary frame is truncated");
+        assertThatThrownBy(() -> BinaryFrameCodec.decode(ByteBuffer.wrap(new byte[] {0x7F})))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BinaryFrameCodec.decode(ByteBuffer.wrap(new byte[] {BinaryFrameCodec.MOVE, 1, 1, 0})))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Player symbol is required");
+    }
+}
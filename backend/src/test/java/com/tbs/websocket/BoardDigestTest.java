@@ -0,0 +1,46 @@
+package com.tbs.websocket;
+
+import com.tbs.dto.common.BoardState;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoardDigestTest {
+
+    @Test
+    void of_shouldHashEmptyBoardWithDotsForEmptyCells() {
+        BoardDigest digest = BoardDigest.of(BoardState.empty(3));
+
+        assertThat(digest.moveSequence()).isZero();
+        assertThat(digest.boardHash()).isEqualTo("d6185211");
+    }
+
+    @Test
+    void of_shouldTreatNullAndBlankCellsAlikeAndCountMoves() {
+        String[][] withNulls = new String[3][3];
+        withNulls[0][0] = "x";
+        withNulls[1][1] = "o";
+        BoardState blanks = BoardState.empty(3);
+        blanks.state()[0][0] = "x";
+        blanks.state()[1][1] = "o";
+
+        BoardDigest digest = BoardDigest.of(new BoardState(withNulls));
+
+        assertThat(digest).isEqualTo(BoardDigest.of(blanks));
+        assertThat(digest.moveSequence()).isEqualTo(2);
+        assertThat(digest.boardHash()).isEqualTo("06fbac9c");
+    }
+
+    @Test
+    void of_shouldChangeHashWhenSymbolsSwapPositions() {
+        String[][] first = new String[3][3];
+        first[0][0] = "x";
+        first[0][1] = "o";
+        String[][] second = new String[3][3];
+        second[0][0] = "o";
+        second[0][1] = "x";
+
+        assertThat(BoardDigest.of(new BoardState(first)).boardHash())
+                .isNotEqualTo(BoardDigest.of(new BoardState(second)).boardHash());
+    }
+}
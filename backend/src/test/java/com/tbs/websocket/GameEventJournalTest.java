@@ -0,0 +1,113 @@
+package com.tbs.websocket;
+
+import com.tbs.dto.common.BoardState;
+import com.tbs.dto.websocket.GameEndedMessage;
+import com.tbs.dto.websocket.MoveAcceptedMessage;
+import com.tbs.dto.websocket.OpponentMoveMessage;
+import com.tbs.dto.websocket.TimerUpdateMessage;
+import com.tbs.enums.GameStatus;
+import com.tbs.enums.PlayerSymbol;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GameEventJournalTest {
+
+    private static final long GAME_ID = 42L;
+    private static final long MOVER_ID = 7L;
+    private static final long OPPONENT_ID = 8L;
+
+    private GameEventJournal gameEventJournal;
+
+    @BeforeEach
+    void setUp() {
+        gameEventJournal = new GameEventJournal(3, 100, 600);
+    }
+
+    @Test
+    void eventsSince_shouldReturnOnlyMissedMoves() {
+        gameEventJournal.record(opponentMove(1));
+        gameEventJournal.record(GameEvent.deliver(GAME_ID, null, null,
+                new TimerUpdateMessage(new TimerUpdateMessage.TimerUpdatePayload(9, PlayerSymbol.X))));
+        gameEventJournal.record(opponentMove(2));
+        gameEventJournal.record(opponentMove(3));
+
+        List<GameEvent> missed = gameEventJournal.eventsSince(GAME_ID, OPPONENT_ID, 1, 3).orElseThrow();
+
+        assertThat(missed).extracting(event -> ((OpponentMoveMessage) event.message()).payload().moveSequence())
+                .containsExactly(2, 3);
+    }
+
+    @Test
+    void eventsSince_shouldReplayGameEndEvenWithoutNewMove() {
+        gameEventJournal.record(opponentMove(4));
+        gameEventJournal.record(GameEvent.deliver(GAME_ID, null, null, new GameEndedMessage(
+                new GameEndedMessage.GameEndedPayload(GAME_ID, GameStatus.FINISHED, null, BoardState.empty(3), 4, "0000abcd"))));
+
+        assertThat(gameEventJournal.eventsSince(GAME_ID, OPPONENT_ID, 4, 4).orElseThrow())
+                .singleElement()
+                .satisfies(event -> assertThat(event.message()).isInstanceOf(GameEndedMessage.class));
+    }
+
+    @Test
+    void eventsSince_shouldReportGapWhenJournalCannotCoverSequence() {
+        assertThat(gameEventJournal.eventsSince(GAME_ID, OPPONENT_ID, 0, 0)).isEmpty();
+
+        for (int sequence = 1; sequence <= 5; sequence++) {
+            gameEventJournal.record(opponentMove(sequence));
+        }
+
+        assertThat(gameEventJournal.eventsSince(GAME_ID, OPPONENT_ID, 1, 5)).isEmpty();
+        assertThat(gameEventJournal.eventsSince(GAME_ID, OPPONENT_ID, 2, 5)).hasValueSatisfying(missed -> assertThat(missed).hasSize(3));
+    }
+
+    @Test
+    void eventsSince_shouldReportGapWhenSequencesAreNotContiguous() {
+        gameEventJournal.record(opponentMove(1));
+        gameEventJournal.record(opponentMove(3));
+
+        assertThat(gameEventJournal.eventsSince(GAME_ID, OPPONENT_ID, 0, 3)).isEmpty();
+        assertThat(gameEventJournal.eventsSince(GAME_ID, OPPONENT_ID, 2, 3)).hasValueSatisfying(missed -> assertThat(missed).hasSize(1));
+    }
+
+    @Test
+    void eventsSince_shouldReportGapWhenGameIsAheadOfJournal() {
+        gameEventJournal.record(opponentMove(1));
+        gameEventJournal.record(opponentMove(2));
+
+        assertThat(gameEventJournal.eventsSince(GAME_ID, OPPONENT_ID, 1, 3)).isEmpty();
+        assertThat(gameEventJournal.eventsSince(GAME_ID, OPPONENT_ID, 4, 2)).isEmpty();
+    }
+
+    @Test
+    void eventsSince_shouldReportGapWhenMoverMissedOwnAcknowledgement() {
+        gameEventJournal.record(moveAccepted(1));
+        gameEventJournal.record(opponentMove(1));
+        gameEventJournal.record(opponentMove(2));
+
+        assertThat(gameEventJournal.eventsSince(GAME_ID, MOVER_ID, 1, 2)).isEmpty();
+        assertThat(gameEventJournal.eventsSince(GAME_ID, OPPONENT_ID, 0, 2)).hasValueSatisfying(missed -> assertThat(missed).hasSize(2));
+
+        gameEventJournal.record(moveAccepted(2));
+
+        assertThat(gameEventJournal.eventsSince(GAME_ID, MOVER_ID, 1, 2).orElseThrow())
+                .singleElement()
+                .satisfies(event -> assertThat(event.message()).isInstanceOf(MoveAcceptedMessage.class));
+    }
+
+    private static GameEvent moveAccepted(int sequence) {
+        return GameEvent.deliver(GAME_ID, MOVER_ID, null, new MoveAcceptedMessage(new MoveAcceptedMessage.MoveAcceptedPayload(
+                (long) sequence, 0, sequence - 1, PlayerSymbol.X, null, PlayerSymbol.O,
+                Instant.parse("2025-01-01T12:00:10Z"), sequence, "9f3a1c27")));
+    }
+
+    private static GameEvent opponentMove(int sequence) {
+        return GameEvent.deliver(GAME_ID, null, MOVER_ID, new OpponentMoveMessage(new OpponentMoveMessage.OpponentMovePayload(
+                0, sequence - 1, PlayerSymbol.X, null, PlayerSymbol.O, Instant.parse("2025-01-01T12:00:10Z"),
+                sequence, "9f3a1c27")));
+    }
+}
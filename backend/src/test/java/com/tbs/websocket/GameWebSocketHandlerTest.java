@@ -0,0 +1,199 @@
+package com.tbs.websocket;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tbs.dto.common.BoardState;
+import com.tbs.dto.websocket.OpponentMoveMessage;
+import com.tbs.enums.BoardSize;
+import com.tbs.enums.GameStatus;
+import com.tbs.enums.GameType;
+import com.tbs.enums.PlayerSymbol;
+import com.tbs.event.ClusterMembershipChangedEvent;
+import com.tbs.model.Game;
+import com.tbs.model.User;
+import com.tbs.repository.GameRepository;
+import com.tbs.security.ResumeTokenProvider;
+import com.tbs.service.BoardStateService;
+import com.tbs.service.ClusterMembership;
+import com.tbs.service.GameMailbox;
+import com.tbs.service.RateLimitingService;
+import com.tbs.service.WebSocketGameService;
+import com.tbs.service.WebSocketMessageStorageService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GameWebSocketHandlerTest {
+
+    private static final long GAME_ID = 42L;
+    private static final long PLAYER1_ID = 7L;
+    private static final long PLAYER2_ID = 8L;
+
+    @Mock
+    private GameRepository gameRepository;
+
+    @Mock
+    private RateLimitingService rateLimitingService;
+
+    @Mock
+    private ClusterMembership clusterMembership;
+
+    @Mock
+    private SpectatorHub spectatorHub;
+
+    @Mock
+    private ReconnectDeadlineStore reconnectDeadlineStore;
+
+    @Mock
+    private ScheduledExecutorService scheduler;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final BoardStateService boardStateService = new BoardStateService();
+    private InMemoryGameEventBus playerNodeBus;
+    private InMemoryGameEventBus remoteNodeBus;
+    private GameSnapshotCache remoteSnapshotCache;
+    private LivenessSweeper livenessSweeper;
+    private GameWebSocketHandler remoteNode;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(gameRepository.findByIdWithPlayers(GAME_ID)).thenReturn(Optional.of(game()));
+        lenient().when(rateLimitingService.isAllowed(anyString(), anyInt(), any())).thenReturn(true);
+        playerNodeBus = new InMemoryGameEventBus();
+        remoteNodeBus = playerNodeBus.connectNode();
+        livenessSweeper = new LivenessSweeper(new SimpleMeterRegistry(), 60_000, 20_000);
+        remoteSnapshotCache = new GameSnapshotCache(gameRepository, boardStateService, new SimpleMeterRegistry(), 100, 600);
+        remoteNode = newHandler(remoteNodeBus, remoteSnapshotCache);
+        remoteNode.init();
+    }
+
+    @Test
+    void handleTextMessage_shouldResyncWithMoveMadeOnOtherNode() throws Exception {
+        assertThat(remoteSnapshotCache.getGame(GAME_ID)).isPresent();
+        BoardState afterMove = BoardState.empty(3);
+        afterMove.state()[1][1] = "x";
+        BoardDigest digest = BoardDigest.of(afterMove);
+        playerNodeBus.publish(GameEvent.deliver(GAME_ID, null, PLAYER1_ID, new OpponentMoveMessage(
+                new OpponentMoveMessage.OpponentMovePayload(1, 1, PlayerSymbol.X, afterMove, PlayerSymbol.O,
+                        Instant.now(), digest.moveSequence(), digest.boardHash()))));
+
+        WebSocketSession session = openSession(PLAYER2_ID);
+        remoteNode.handleTextMessage(session, new TextMessage("{\"type\":\"RESYNC\"}"));
+
+        ArgumentCaptor<TextMessage> frame = ArgumentCaptor.forClass(TextMessage.class);
+        verify(session).sendMessage(frame.capture());
+        JsonNode payload = objectMapper.readTree(frame.getValue().getPayload()).get("payload");
+        assertThat(payload.get("boardHash").asText()).isEqualTo(digest.boardHash());
+        assertThat(payload.get("moveSequence").asInt()).isEqualTo(1);
+    }
+
+    @Test
+    void closeSessionsEvent_shouldDropSnapshotOfGameFinishedOnOtherNode() {
+        assertThat(remoteSnapshotCache.getGame(GAME_ID)).hasValueSatisfying(game -> assertThat(game.isActive()).isTrue());
+        Game finished = game();
+        finished.setStatus(GameStatus.FINISHED);
+        when(gameRepository.findByIdWithPlayers(GAME_ID)).thenReturn(Optional.of(finished));
+
+        playerNodeBus.publish(GameEvent.closeSessions(GAME_ID));
+
+        assertThat(remoteSnapshotCache.getGame(GAME_ID)).hasValueSatisfying(game -> assertThat(game.isActive()).isFalse());
+    }
+
+    @Test
+    void onClusterMembershipChanged_shouldDropReconnectWindowsOfGamesNoLongerOwned() {
+        livenessSweeper.startReconnectWindow(GAME_ID, PLAYER1_ID, Instant.now());
+        when(clusterMembership.isOwner(GAME_ID)).thenReturn(false);
+
+        remoteNode.onClusterMembershipChanged(new ClusterMembershipChangedEvent(Set.of("a"), Set.of("a", "b")));
+
+        assertThat(livenessSweeper.pendingReconnectCount()).isZero();
+    }
+
+    @Test
+    void onClusterMembershipChanged_shouldTakeOverStoredReconnectWindows() {
+        Instant dueAt = Instant.now().minusSeconds(1);
+        when(reconnectDeadlineStore.loadAll()).thenReturn(Map.of(new LivenessSweeper.PlayerSlot(GAME_ID, PLAYER1_ID), dueAt));
+        when(clusterMembership.isOwner(GAME_ID)).thenReturn(true);
+
+        remoteNode.onClusterMembershipChanged(new ClusterMembershipChangedEvent(Set.of("a", "b"), Set.of("b")));
+
+        assertThat(livenessSweeper.sweep(Instant.now()).expiredReconnects())
+                .containsExactly(new LivenessSweeper.PlayerSlot(GAME_ID, PLAYER1_ID));
+    }
+
+    private GameWebSocketHandler newHandler(GameEventBus gameEventBus, GameSnapshotCache gameSnapshotCache) {
+        return new GameWebSocketHandler(
+                objectMapper,
+                new WebSocketSessionManager(),
+                gameRepository,
+                boardStateService,
+                mock(WebSocketMessageStorageService.class),
+                mock(WebSocketGameService.class),
+                rateLimitingService,
+                gameSnapshotCache,
+                new InboundMessageDecoder(objectMapper),
+                new GameMailbox(Runnable::run, new SimpleMeterRegistry()),
+                gameEventBus,
+                clusterMembership,
+                spectatorHub,
+                livenessSweeper,
+                reconnectDeadlineStore,
+                new GameEventJournal(64, 100, 600),
+                new ResumeTokenProvider("", "lo3Rp/t44UeFUOrB+qKxISaK/nyOsILpmDN06/yoUto=", 300_000),
+                scheduler,
+                1000,
+                true
+        );
+    }
+
+    private static WebSocketSession openSession(long userId) {
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put("gameId", GAME_ID);
+        attributes.put("userId", userId);
+        WebSocketSession session = mock(WebSocketSession.class);
+        lenient().when(session.getId()).thenReturn("session-" + userId);
+        lenient().when(session.isOpen()).thenReturn(true);
+        lenient().when(session.getAttributes()).thenReturn(attributes);
+        return session;
+    }
+
+    private static Game game() {
+        User player1 = new User();
+        player1.setId(PLAYER1_ID);
+        User player2 = new User();
+        player2.setId(PLAYER2_ID);
+        Game game = new Game();
+        game.setId(GAME_ID);
+        game.setGameType(GameType.PVP);
+        game.setBoardSize(BoardSize.THREE);
+        game.setPlayer1(player1);
+        game.setPlayer2(player2);
+        game.setStatus(GameStatus.IN_PROGRESS);
+        game.setCurrentPlayerSymbol(PlayerSymbol.X);
+        return game;
+    }
+}
@@ -0,0 +1,66 @@
+package com.tbs.websocket;
+
+import com.tbs.dto.websocket.BaseWebSocketMessage;
+import com.tbs.dto.websocket.MoveMessage;
+import com.tbs.dto.websocket.PingMessage;
+import com.tbs.dto.websocket.ResyncMessage;
+import com.tbs.dto.websocket.SurrenderMessage;
+import com.tbs.enums.PlayerSymbol;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InboundMessageDecoderTest {
+
+    private InboundMessageDecoder decoder;
+
+    @BeforeEach
+    void setUp() {
+        decoder = new InboundMessageDecoder(Jackson2ObjectMapperBuilder.json().build());
+    }
+
+    @Test
+    void decode_shouldReadMoveWhenTypeComesFirst() throws Exception {
+        BaseWebSocketMessage message = decoder.decode(
+                "{\"type\":\"MOVE\",\"payload\":{\"row\":1,\"col\":2,\"playerSymbol\":\"x\"}}");
+
+        assertThat(message).isEqualTo(new MoveMessage(new MoveMessage.MovePayload(1, 2, PlayerSymbol.X)));
+    }
+
+    @Test
+    void decode_shouldReadPayloadPrecedingTypeAndSkipUnknownFields() throws Exception {
+        BaseWebSocketMessage message = decoder.decode(
+                "{\"id\":{\"nested\":[1,2]},\"payload\":{\"timestamp\":\"2024-01-20T15:30:00Z\"},\"type\":\"PING\"}");
+
+        assertThat(message).isEqualTo(new PingMessage(new PingMessage.PingPayload(Instant.parse("2024-01-20T15:30:00Z"))));
+    }
+
+    @Test
+    void decode_shouldAcceptMissingOptionalPayloads() throws Exception {
+        assertThat(decoder.decode("{\"type\":\"SURRENDER\",\"payload\":{}}")).isEqualTo(new SurrenderMessage());
+        assertThat(decoder.decode("{\"type\":\"RESYNC\"}")).isEqualTo(new ResyncMessage(null));
+    }
+
+    @Test
+    void decode_shouldRejectInvalidMessages() {
+        assertThatThrownBy(() -> decoder.decode("{\"payload\":{}}"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Message is missing type field");
+        assertThatThrownBy(() -> decoder.decode("{\"type\":\"UNKNOWN\"}"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unknown message type: UNKNOWN");
+        assertThatThrownBy(() -> decoder.decode("{\"type\":\"MOVE_ACCEPTED\",\"payload\":{}}"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unsupported client message type: MOVE_ACCEPTED");
+        assertThatThrownBy(() -> decoder.decode("{\"type\":\"MOVE\"}"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Message MOVE requires a payload");
+        assertThatThrownBy(() -> decoder.decode("[1]"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,96 @@
+package com.tbs.websocket;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LivenessSweeperTest {
+
+    private static final Instant START = Instant.parse("2025-01-01T12:00:00Z");
+
+    private SimpleMeterRegistry meterRegistry;
+    private LivenessSweeper livenessSweeper;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        livenessSweeper = new LivenessSweeper(meterRegistry, 60_000, 20_000);
+    }
+
+    @Test
+    void sweep_shouldTimeOutOnlySilentSessions() {
+        livenessSweeper.sessionOpened("silent", START);
+        livenessSweeper.sessionOpened("pinging", START);
+        livenessSweeper.seen("pinging", START.plusSeconds(45));
+
+        LivenessSweeper.Sweep sweep = livenessSweeper.sweep(START.plusSeconds(61));
+
+        assertThat(sweep.timedOutSessions()).containsExactly("silent");
+        assertThat(livenessSweeper.sweep(START.plusSeconds(100)).timedOutSessions()).isEmpty();
+        assertThat(livenessSweeper.sweep(START.plusSeconds(106)).timedOutSessions()).containsExactly("pinging");
+        assertThat(meterRegistry.get("websocket.liveness.timeouts").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    void sweep_shouldIgnoreClosedSessions() {
+        livenessSweeper.sessionOpened("closed", START);
+        livenessSweeper.sessionClosed("closed");
+
+        assertThat(livenessSweeper.sweep(START.plusSeconds(61)).timedOutSessions()).isEmpty();
+    }
+
+    @Test
+    void sweep_shouldExpireReconnectWindowsInDeadlineOrder() {
+        livenessSweeper.startReconnectWindow(1L, 20L, START.plusSeconds(5));
+        livenessSweeper.startReconnectWindow(1L, 10L, START);
+
+        assertThat(livenessSweeper.sweep(START.plusSeconds(19)).expiredReconnects()).isEmpty();
+        assertThat(livenessSweeper.sweep(START.plusSeconds(30)).expiredReconnects()).containsExactly(
+                new LivenessSweeper.PlayerSlot(1L, 10L),
+                new LivenessSweeper.PlayerSlot(1L, 20L));
+        assertThat(livenessSweeper.pendingReconnectCount()).isZero();
+        assertThat(meterRegistry.get("websocket.liveness.forfeits").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    void cancelReconnectWindow_shouldPreventForfeit() {
+        livenessSweeper.startReconnectWindow(1L, 10L, START);
+
+        assertThat(meterRegistry.get("websocket.liveness.at.risk").gauge().value()).isEqualTo(1.0);
+        assertThat(livenessSweeper.cancelReconnectWindow(1L, 10L)).isTrue();
+        assertThat(livenessSweeper.cancelReconnectWindow(1L, 10L)).isFalse();
+        assertThat(livenessSweeper.sweep(START.plusSeconds(30)).expiredReconnects()).isEmpty();
+    }
+
+    @Test
+    void releaseReconnectWindows_shouldDropOnlyMatchingGames() {
+        livenessSweeper.startReconnectWindow(1L, 10L, START);
+        livenessSweeper.startReconnectWindow(2L, 20L, START);
+
+        assertThat(livenessSweeper.releaseReconnectWindows(gameId -> gameId == 1L))
+                .containsExactly(new LivenessSweeper.PlayerSlot(1L, 10L));
+        assertThat(livenessSweeper.sweep(START.plusSeconds(30)).expiredReconnects())
+                .containsExactly(new LivenessSweeper.PlayerSlot(2L, 20L));
+    }
+
+    @Test
+    void restoreReconnectWindow_shouldKeepOriginalDeadline() {
+        livenessSweeper.restoreReconnectWindow(1L, 10L, START.plusSeconds(5));
+
+        assertThat(livenessSweeper.sweep(START.plusSeconds(4)).expiredReconnects()).isEmpty();
+        assertThat(livenessSweeper.sweep(START.plusSeconds(5)).expiredReconnects()).hasSize(1);
+    }
+
+    @Test
+    void startReconnectWindow_shouldReplacePreviousDeadline() {
+        livenessSweeper.startReconnectWindow(1L, 10L, START);
+        livenessSweeper.startReconnectWindow(1L, 10L, START.plusSeconds(15));
+
+        assertThat(livenessSweeper.sweep(START.plusSeconds(25)).expiredReconnects()).isEmpty();
+        assertThat(livenessSweeper.sweep(START.plusSeconds(35)).expiredReconnects()).hasSize(1);
+    }
+}
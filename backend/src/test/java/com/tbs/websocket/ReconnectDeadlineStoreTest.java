@@ -0,0 +1,59 @@
+package com.tbs.websocket;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Instant;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReconnectDeadlineStoreTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    private ReconnectDeadlineStore reconnectDeadlineStore;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        reconnectDeadlineStore = new ReconnectDeadlineStore(redisTemplate);
+    }
+
+    @Test
+    void save_shouldStoreDeadlinePerPlayerSlot() {
+        reconnectDeadlineStore.save(42L, 7L, Instant.ofEpochMilli(1_700_000_000_000L));
+
+        verify(hashOperations).put(ReconnectDeadlineStore.DEADLINES_KEY, "42:7", "1700000000000");
+    }
+
+    @Test
+    void loadAll_shouldSkipMalformedEntries() {
+        when(hashOperations.entries(ReconnectDeadlineStore.DEADLINES_KEY))
+                .thenReturn(Map.of("42:7", "1700000000000", "garbage", "1"));
+
+        assertThat(reconnectDeadlineStore.loadAll()).containsExactly(
+                Map.entry(new LivenessSweeper.PlayerSlot(42L, 7L), Instant.ofEpochMilli(1_700_000_000_000L)));
+    }
+
+    @Test
+    void loadAll_shouldReturnNothingWhenRedisIsDown() {
+        when(hashOperations.entries(ReconnectDeadlineStore.DEADLINES_KEY))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        assertThat(reconnectDeadlineStore.loadAll()).isEmpty();
+    }
+}
@@ -0,0 +1,91 @@
+package com.tbs.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tbs.dto.websocket.OpponentMoveMessage;
+import com.tbs.dto.websocket.WebSocketMessageType;
+import com.tbs.enums.PlayerSymbol;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RedisGameEventBusTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    private ObjectMapper objectMapper;
+    private RedisGameEventBus publisherNode;
+    private RedisGameEventBus receiverNode;
+    private List<GameEvent> received;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        publisherNode = new RedisGameEventBus(redisTemplate, objectMapper);
+        receiverNode = new RedisGameEventBus(redisTemplate, objectMapper);
+        received = new ArrayList<>();
+        publisherNode.subscribe(received::add);
+        receiverNode.subscribe(received::add);
+    }
+
+    @Test
+    void onMessage_shouldDeliverEventPublishedByOtherNode() {
+        OpponentMoveMessage opponentMove = new OpponentMoveMessage(new OpponentMoveMessage.OpponentMovePayload(
+                1, 2, PlayerSymbol.X, null, PlayerSymbol.O, Instant.parse("2025-01-01T12:00:10Z"), 3, "9f3a1c27"));
+
+        publisherNode.publish(GameEvent.deliver(42L, null, 7L, opponentMove));
+        receiverNode.onMessage(message(publishedBody()), null);
+
+        assertThat(received).hasSize(1);
+        GameEvent event = received.get(0);
+        assertThat(event.type()).isEqualTo(GameEvent.Type.DELIVER);
+        assertThat(event.gameId()).isEqualTo(42L);
+        assertThat(event.isFor(7L)).isFalse();
+        assertThat(event.isFor(8L)).isTrue();
+        assertThat(event.message().type()).isEqualTo(WebSocketMessageType.OPPONENT_MOVE);
+        assertThat(((OpponentMoveMessage) event.message()).payload()).isEqualTo(opponentMove.payload());
+    }
+
+    @Test
+    void onMessage_shouldIgnoreOwnEvents() {
+        publisherNode.publish(GameEvent.closeSessions(42L));
+
+        publisherNode.onMessage(message(publishedBody()), null);
+
+        assertThat(received).isEmpty();
+    }
+
+    @Test
+    void onMessage_shouldIgnoreMalformedEvents() {
+        receiverNode.onMessage(message("not-json"), null);
+
+        assertThat(received).isEmpty();
+    }
+
+    private String publishedBody() {
+        ArgumentCaptor<String> body = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(RedisGameEventBus.GAME_EVENTS_CHANNEL), body.capture());
+        return body.getValue();
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(RedisGameEventBus.GAME_EVENTS_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
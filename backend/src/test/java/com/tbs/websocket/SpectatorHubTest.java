@@ -0,0 +1,204 @@
+package com.tbs.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tbs.dto.common.BoardState;
+import com.tbs.dto.websocket.GameEndedMessage;
+import com.tbs.dto.websocket.GameUpdateMessage;
+import com.tbs.dto.websocket.OpponentMoveMessage;
+import com.tbs.dto.websocket.TimerUpdateMessage;
+import com.tbs.enums.GameStatus;
+import com.tbs.enums.PlayerSymbol;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SpectatorHubTest {
+
+    private static final long GAME_ID = 42L;
+
+    @Mock
+    private ScheduledExecutorService scheduler;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final List<Runnable> pendingDrains = new ArrayList<>();
+    private SpectatorHub spectatorHub;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        lenient().when(valueOperations.increment(anyString(), anyLong())).thenReturn(1L);
+        spectatorHub = new SpectatorHub(objectMapper, redisTemplate, pendingDrains::add, scheduler,
+                new SimpleMeterRegistry(), true, 2, 2, 0, 3600);
+    }
+
+    @Test
+    void broadcast_shouldSerializeEventOnceForAllWatchers() throws Exception {
+        WebSocketSession first = openSession("s1");
+        WebSocketSession second = openSession("s2");
+        spectatorHub.join(GAME_ID, first, initialState());
+        spectatorHub.join(GAME_ID, second, initialState());
+
+        spectatorHub.broadcast(GAME_ID, timerUpdate(8));
+        runDrains();
+
+        ArgumentCaptor<TextMessage> firstFrames = ArgumentCaptor.forClass(TextMessage.class);
+        ArgumentCaptor<TextMessage> secondFrames = ArgumentCaptor.forClass(TextMessage.class);
+        verify(first, times(2)).sendMessage(firstFrames.capture());
+        verify(second, times(2)).sendMessage(secondFrames.capture());
+        assertThat(firstFrames.getAllValues().get(1)).isSameAs(secondFrames.getAllValues().get(1));
+        assertThat(firstFrames.getAllValues().get(1).getPayload()).contains("TIMER_UPDATE");
+    }
+
+    @Test
+    void broadcast_shouldDropOldestFramesForSlowWatcher() throws Exception {
+        WebSocketSession session = openSession("s1");
+        spectatorHub.join(GAME_ID, session, initialState());
+
+        spectatorHub.broadcast(GAME_ID, timerUpdate(9));
+        spectatorHub.broadcast(GAME_ID, timerUpdate(8));
+        spectatorHub.broadcast(GAME_ID, timerUpdate(7));
+        runDrains();
+
+        ArgumentCaptor<TextMessage> frames = ArgumentCaptor.forClass(TextMessage.class);
+        verify(session, times(2)).sendMessage(frames.capture());
+        assertThat(frames.getAllValues().get(0).getPayload()).contains("\"remainingSeconds\":8");
+        assertThat(frames.getAllValues().get(1).getPayload()).contains("\"remainingSeconds\":7");
+    }
+
+    @Test
+    void join_shouldRejectWatcherAboveLimit() {
+        assertThat(spectatorHub.join(GAME_ID, openSession("s1"), initialState())).isTrue();
+        assertThat(spectatorHub.join(GAME_ID, openSession("s2"), initialState())).isTrue();
+
+        assertThat(spectatorHub.join(GAME_ID, openSession("s3"), initialState())).isFalse();
+        assertThat(spectatorHub.watcherCount(GAME_ID)).isEqualTo(2);
+    }
+
+    @Test
+    void broadcast_shouldCloseWatchersAfterGameEnded() throws Exception {
+        WebSocketSession session = openSession("s1");
+        spectatorHub.join(GAME_ID, session, initialState());
+
+        spectatorHub.broadcast(GAME_ID, new GameEndedMessage(new GameEndedMessage.GameEndedPayload(
+                GAME_ID, GameStatus.DRAW, null, BoardState.empty(3), 9, "0000abcd")));
+        runDrains();
+
+        verify(session, times(2)).sendMessage(any(TextMessage.class));
+        verify(session).close(CloseStatus.NORMAL);
+        assertThat(spectatorHub.watcherCount(GAME_ID)).isZero();
+    }
+
+    @Test
+    void join_shouldRegisterNodePresenceOnlyForFirstWatcher() {
+        spectatorHub.join(GAME_ID, openSession("s1"), initialState());
+        spectatorHub.join(GAME_ID, openSession("s2"), initialState());
+        spectatorHub.leave(GAME_ID, "s1");
+        spectatorHub.leave(GAME_ID, "s2");
+
+        verify(valueOperations).increment(SpectatorHub.WATCHING_NODES_KEY_PREFIX + GAME_ID, 1);
+        verify(valueOperations).increment(SpectatorHub.WATCHING_NODES_KEY_PREFIX + GAME_ID, -1);
+    }
+
+    @Test
+    void isWatchedElsewhere_shouldIgnoreThisNodesOwnPresence() {
+        when(valueOperations.get(SpectatorHub.WATCHING_NODES_KEY_PREFIX + GAME_ID)).thenReturn(null, "1", "2");
+
+        assertThat(spectatorHub.isWatchedElsewhere(GAME_ID)).isFalse();
+        spectatorHub.join(GAME_ID, openSession("s1"), initialState());
+        assertThat(spectatorHub.isWatchedElsewhere(GAME_ID)).isFalse();
+        assertThat(spectatorHub.isWatchedElsewhere(GAME_ID)).isTrue();
+    }
+
+    @Test
+    void join_shouldWithholdLiveStateUntilDelayHasPassed() throws Exception {
+        SpectatorHub delayedHub = new SpectatorHub(objectMapper, redisTemplate, pendingDrains::add, scheduler,
+                new SimpleMeterRegistry(), true, 2, 2, 30, 3600);
+        WebSocketSession session = openSession("s1");
+
+        delayedHub.join(GAME_ID, session, initialState());
+        runDrains();
+
+        verify(session, never()).sendMessage(any());
+        ArgumentCaptor<Runnable> delayedSnapshot = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler).schedule(delayedSnapshot.capture(), eq(30_000L), eq(TimeUnit.MILLISECONDS));
+        delayedSnapshot.getValue().run();
+        runDrains();
+        verify(session).sendMessage(any(TextMessage.class));
+    }
+
+    @Test
+    void join_shouldSendDelayedViewOnceDelayedMoveWasFannedOut() throws Exception {
+        SpectatorHub delayedHub = new SpectatorHub(objectMapper, redisTemplate, pendingDrains::add, scheduler,
+                new SimpleMeterRegistry(), true, 2, 2, 30, 3600);
+        delayedHub.broadcast(GAME_ID, new OpponentMoveMessage(new OpponentMoveMessage.OpponentMovePayload(
+                1, 1, PlayerSymbol.X, BoardState.empty(3), PlayerSymbol.O, Instant.now(), 1, "0000beef")));
+        ArgumentCaptor<Runnable> delayedMove = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler).schedule(delayedMove.capture(), eq(30_000L), eq(TimeUnit.MILLISECONDS));
+        delayedMove.getValue().run();
+        WebSocketSession session = openSession("s1");
+
+        delayedHub.join(GAME_ID, session, initialState());
+        runDrains();
+
+        ArgumentCaptor<TextMessage> frame = ArgumentCaptor.forClass(TextMessage.class);
+        verify(session).sendMessage(frame.capture());
+        assertThat(frame.getValue().getPayload()).contains("\"boardHash\":\"0000beef\"");
+    }
+
+    private void runDrains() {
+        while (!pendingDrains.isEmpty()) {
+            pendingDrains.remove(0).run();
+        }
+    }
+
+    private static WebSocketSession openSession(String id) {
+        WebSocketSession session = mock(WebSocketSession.class);
+        lenient().when(session.getId()).thenReturn(id);
+        lenient().when(session.isOpen()).thenReturn(true);
+        return session;
+    }
+
+    private static GameUpdateMessage initialState() {
+        return new GameUpdateMessage(new GameUpdateMessage.GameUpdatePayload(
+                GAME_ID, GameStatus.IN_PROGRESS, null, BoardState.empty(3), 0, "811c9dc5"));
+    }
+
+    private static TimerUpdateMessage timerUpdate(int remainingSeconds) {
+        return new TimerUpdateMessage(new TimerUpdateMessage.TimerUpdatePayload(remainingSeconds, PlayerSymbol.X));
+    }
+}
@@ -66,7 +66,14 @@ CREATE TABLE IF NOT EXISTS public.games (
     last_move_at timestamp with time zone,
     created_at timestamp with time zone NOT NULL DEFAULT now(),
     updated_at timestamp with time zone NOT NULL DEFAULT now(),
-    finished_at timestamp with time zone
+    finished_at timestamp with time zone,
+    next_move_order smallint NOT NULL DEFAULT 1 CHECK (next_move_order > 0),
+    version bigint NOT NULL DEFAULT 0,
+    move_log bytea NOT NULL DEFAULT '\x'::bytea,
+    move_count smallint NOT NULL DEFAULT 0 CHECK (move_count >= 0),
+    last_move_row smallint,
+    last_move_col smallint,
+    last_move_symbol varchar(10) CHECK (last_move_symbol IN ('x', 'o'))
 );
 
 COMMENT ON TABLE public.games IS 'gry: vs_bot (z botem) lub pvp (z innym graczem) w ujednoliconym modelu';
@@ -75,6 +82,13 @@ COMMENT ON COLUMN public.games.board_size IS 'rozmiar planszy: 3, 4 lub 5';
 COMMENT ON COLUMN public.games.bot_difficulty IS 'poziom trudności bota - tylko dla vs_bot';
 COMMENT ON COLUMN public.games.status IS 'status gry';
 COMMENT ON COLUMN public.games.last_move_at IS 'timestamp ostatniego ruchu (używane do timeout pvp)';
+COMMENT ON COLUMN public.games.next_move_order IS 'numer kolejnego ruchu w grze - zwiększany przy każdym ruchu zamiast SELECT MAX(move_order)';
+COMMENT ON COLUMN public.games.version IS 'wersja wiersza dla optimistic locking - równoległe ruchy w tej samej grze kończą się konfliktem wersji';
+COMMENT ON COLUMN public.games.move_log IS 'skompresowany log ruchów: jeden bajt na ruch (indeks pola, flaga player1, symbol) - źródło stanu planszy';
+COMMENT ON COLUMN public.games.move_count IS 'liczba ruchów w grze - utrzymywana przy zapisie ruchu, aby lista gier nie liczyła wierszy moves';
+COMMENT ON COLUMN public.games.last_move_row IS 'wiersz ostatniego ruchu (null przed pierwszym ruchem)';
+COMMENT ON COLUMN public.games.last_move_col IS 'kolumna ostatniego ruchu (null przed pierwszym ruchem)';
+COMMENT ON COLUMN public.games.last_move_symbol IS 'symbol ostatniego ruchu (null przed pierwszym ruchem)';
 
 ALTER TABLE public.games
     ADD CONSTRAINT games_vs_bot_check
@@ -107,6 +121,10 @@ CREATE INDEX IF NOT EXISTS idx_games_player2_id ON public.games (player2_id) WHE
 CREATE INDEX IF NOT EXISTS idx_games_status_type ON public.games (status, game_type);
 CREATE INDEX IF NOT EXISTS idx_games_last_move_at ON public.games (last_move_at) WHERE last_move_at IS NOT NULL;
 CREATE INDEX IF NOT EXISTS idx_games_created_at ON public.games (created_at DESC);
+CREATE INDEX IF NOT EXISTS idx_games_active_pvp_player1_id ON public.games (player1_id)
+    WHERE game_type = 'pvp' AND status IN ('waiting', 'in_progress');
+CREATE INDEX IF NOT EXISTS idx_games_active_pvp_player2_id ON public.games (player2_id)
+    WHERE game_type = 'pvp' AND status IN ('waiting', 'in_progress');
 
 CREATE TABLE IF NOT EXISTS public.moves (
     id bigserial PRIMARY KEY,
@@ -127,9 +145,12 @@ COMMENT ON COLUMN public.moves.move_order IS 'kolejność ruchu w grze (pozwala
 
 CREATE UNIQUE INDEX IF NOT EXISTS idx_moves_game_id_position_unique ON public.moves (game_id, row, col);
 CREATE INDEX IF NOT EXISTS idx_moves_game_id ON public.moves (game_id);
-CREATE INDEX IF NOT EXISTS idx_moves_game_id_move_order ON public.moves (game_id, move_order);
+CREATE UNIQUE INDEX IF NOT EXISTS idx_moves_game_id_move_order ON public.moves (game_id, move_order);
 CREATE INDEX IF NOT EXISTS idx_moves_player_id ON public.moves (player_id) WHERE player_id IS NOT NULL;
 
+ALTER SEQUENCE public.games_id_seq INCREMENT BY 50;
+ALTER SEQUENCE public.moves_id_seq INCREMENT BY 50;
+
 -- ==============================================================================
 -- 2. DISABLE RLS (from 20251101141720_disable_rls_for_local_dev.sql)
 -- ==============================================================================
@@ -410,3 +431,135 @@ $$;
 
 COMMENT ON FUNCTION public.refresh_player_rankings() IS 'odświeża materialized view player_rankings (concurrently) - powinna być wywoływana co 5-15min przez spring scheduled job';
 
+-- ==============================================================================
+-- 6. GAMES ARCHIVE (from 20251204000000_create_games_archive.sql)
+-- ==============================================================================
+
+CREATE TABLE IF NOT EXISTS public.games_archive (
+    id bigint NOT NULL,
+    game_type varchar(20) NOT NULL,
+    board_size smallint NOT NULL,
+    player1_id bigint NOT NULL REFERENCES public.users(id) ON DELETE CASCADE,
+    player2_id bigint REFERENCES public.users(id) ON DELETE CASCADE,
+    bot_difficulty varchar(20),
+    status varchar(20) NOT NULL,
+    current_player_symbol varchar(10),
+    winner_id bigint REFERENCES public.users(id) ON DELETE SET NULL,
+    last_move_at timestamp with time zone,
+    created_at timestamp with time zone NOT NULL,
+    updated_at timestamp with time zone NOT NULL,
+    finished_at timestamp with time zone,
+    next_move_order smallint NOT NULL,
+    move_log bytea NOT NULL,
+    move_count smallint NOT NULL DEFAULT 0,
+    last_move_row smallint,
+    last_move_col smallint,
+    last_move_symbol varchar(10),
+    archived_at timestamp with time zone NOT NULL DEFAULT now(),
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE INDEX IF NOT EXISTS idx_games_archive_player1_id ON public.games_archive (player1_id);
+CREATE INDEX IF NOT EXISTS idx_games_archive_player2_id ON public.games_archive (player2_id) WHERE player2_id IS NOT NULL;
+
+COMMENT ON TABLE public.games_archive IS 'archiwum zakończonych gier - partycje miesięczne po created_at';
+
+CREATE TABLE IF NOT EXISTS public.moves_archive (
+    id bigint NOT NULL,
+    game_id bigint NOT NULL,
+    player_id bigint REFERENCES public.users(id) ON DELETE SET NULL,
+    row smallint NOT NULL,
+    col smallint NOT NULL,
+    player_symbol varchar(10) NOT NULL,
+    move_order smallint NOT NULL,
+    created_at timestamp with time zone NOT NULL,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE INDEX IF NOT EXISTS idx_moves_archive_game_id_move_order ON public.moves_archive (game_id, move_order);
+
+COMMENT ON TABLE public.moves_archive IS 'archiwum ruchów zakończonych gier - partycje miesięczne po created_at';
+
+CREATE INDEX IF NOT EXISTS idx_games_finished_at_terminal ON public.games (finished_at)
+    WHERE status IN ('finished', 'abandoned', 'draw');
+
+CREATE OR REPLACE FUNCTION public.ensure_archive_partition(p_parent text, p_month date)
+RETURNS void
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    v_start date := date_trunc('month', p_month)::date;
+    v_end date := (date_trunc('month', p_month) + interval '1 month')::date;
+BEGIN
+    EXECUTE format(
+        'CREATE TABLE IF NOT EXISTS public.%I PARTITION OF public.%I FOR VALUES FROM (%L) TO (%L)',
+        p_parent || '_' || to_char(v_start, 'YYYYMM'),
+        p_parent,
+        v_start,
+        v_end
+    );
+END;
+$$;
+
+COMMENT ON FUNCTION public.ensure_archive_partition(text, date) IS 'tworzy miesięczną partycję tabeli archiwum, jeśli jeszcze nie istnieje';
+
+CREATE OR REPLACE FUNCTION public.archive_finished_games(p_older_than interval, p_batch_size integer)
+RETURNS integer
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    v_game_ids bigint[];
+    v_month date;
+    v_archived integer;
+BEGIN
+    SELECT array_agg(id) INTO v_game_ids
+    FROM (
+        SELECT id
+        FROM public.games
+        WHERE status IN ('finished', 'abandoned', 'draw')
+          AND finished_at < now() - p_older_than
+        ORDER BY finished_at
+        LIMIT p_batch_size
+        FOR UPDATE SKIP LOCKED
+    ) batch;
+
+    IF v_game_ids IS NULL THEN
+        RETURN 0;
+    END IF;
+
+    FOR v_month IN
+        SELECT date_trunc('month', created_at)::date FROM public.games WHERE id = ANY (v_game_ids)
+        UNION
+        SELECT date_trunc('month', created_at)::date FROM public.moves WHERE game_id = ANY (v_game_ids)
+    LOOP
+        PERFORM public.ensure_archive_partition('games_archive', v_month);
+        PERFORM public.ensure_archive_partition('moves_archive', v_month);
+    END LOOP;
+
+    INSERT INTO public.games_archive (
+        id, game_type, board_size, player1_id, player2_id, bot_difficulty, status, current_player_symbol,
+        winner_id, last_move_at, created_at, updated_at, finished_at, next_move_order, move_log,
+        move_count, last_move_row, last_move_col, last_move_symbol
+    )
+    SELECT id, game_type, board_size, player1_id, player2_id, bot_difficulty, status, current_player_symbol,
+           winner_id, last_move_at, created_at, updated_at, finished_at, next_move_order, move_log,
+           move_count, last_move_row, last_move_col, last_move_symbol
+    FROM public.games
+    WHERE id = ANY (v_game_ids);
+
+    INSERT INTO public.moves_archive (id, game_id, player_id, row, col, player_symbol, move_order, created_at)
+    SELECT id, game_id, player_id, row, col, player_symbol, move_order, created_at
+    FROM public.moves
+    WHERE game_id = ANY (v_game_ids);
+
+    DELETE FROM public.games WHERE id = ANY (v_game_ids);
+    GET DIAGNOSTICS v_archived = ROW_COUNT;
+
+    RETURN v_archived;
+END;
+$$;
+
+COMMENT ON FUNCTION public.archive_finished_games(interval, integer) IS 'przenosi paczkę zakończonych gier (wraz z ruchami) do tabel archiwum i zwraca ich liczbę';
+
+ALTER TABLE public.games_archive DISABLE ROW LEVEL SECURITY;
+ALTER TABLE public.moves_archive DISABLE ROW LEVEL SECURITY;
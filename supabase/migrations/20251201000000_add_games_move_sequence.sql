@@ -0,0 +1,32 @@
+-- ==============================================================================
+-- migration: add_games_move_sequence
+-- ==============================================================================
+-- purpose: zastępuje pesymistyczną blokadę MAX(move_order) licznikiem ruchów na grze
+-- affected tables: games, moves
+-- affected schemas: public
+-- 
+-- szczegóły:
+-- - dodaje kolumnę next_move_order (numer kolejnego ruchu w grze)
+-- - dodaje kolumnę version używaną przez optimistic locking (@Version w encji Game)
+-- - uzupełnia next_move_order dla istniejących gier na podstawie tabeli moves
+-- - zamienia indeks (game_id, move_order) na unikalny, aby duplikaty numerów ruchów były odrzucane przez bazę
+-- ==============================================================================
+
+ALTER TABLE public.games
+    ADD COLUMN IF NOT EXISTS next_move_order smallint NOT NULL DEFAULT 1 CHECK (next_move_order > 0),
+    ADD COLUMN IF NOT EXISTS version bigint NOT NULL DEFAULT 0;
+
+UPDATE public.games g
+SET next_move_order = m.max_move_order + 1
+FROM (
+    SELECT game_id, MAX(move_order) AS max_move_order
+    FROM public.moves
+    GROUP BY game_id
+) m
+WHERE m.game_id = g.id;
+
+DROP INDEX IF EXISTS public.idx_moves_game_id_move_order;
+CREATE UNIQUE INDEX IF NOT EXISTS idx_moves_game_id_move_order ON public.moves (game_id, move_order);
+
+COMMENT ON COLUMN public.games.next_move_order IS 'numer kolejnego ruchu w grze - zwiększany przy każdym ruchu zamiast SELECT MAX(move_order)';
+COMMENT ON COLUMN public.games.version IS 'wersja wiersza dla optimistic locking - równoległe ruchy w tej samej grze kończą się konfliktem wersji';
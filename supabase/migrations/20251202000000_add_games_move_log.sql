@@ -0,0 +1,40 @@
+-- ==============================================================================
+-- migration: add_games_move_log
+-- ==============================================================================
+-- purpose: przechowuje skompresowany log ruchów bezpośrednio w wierszu gry
+-- affected tables: games
+-- affected schemas: public
+-- 
+-- szczegóły:
+-- - dodaje kolumnę move_log (bytea) - jeden bajt na ruch, w kolejności move_order
+-- - format bajtu: bity 0-5 indeks pola (row * board_size + col), bit 6 ruch gracza player1, bit 7 symbol 'o'
+-- - odtworzenie planszy wymaga odczytu jednego wiersza games zamiast wszystkich ruchów z tabeli moves
+-- - tabela moves pozostaje projekcją historii ruchów (lista ruchów, statystyki)
+-- - uzupełnia move_log dla istniejących gier na podstawie tabeli moves
+-- ==============================================================================
+
+ALTER TABLE public.games
+    ADD COLUMN IF NOT EXISTS move_log bytea NOT NULL DEFAULT '\x'::bytea;
+
+UPDATE public.games g
+SET move_log = l.move_log
+FROM (
+    SELECT m.game_id,
+           string_agg(
+               set_byte(
+                   '\x00'::bytea,
+                   0,
+                   (m.row * g2.board_size + m.col)
+                       | CASE WHEN m.player_id = g2.player1_id THEN 64 ELSE 0 END
+                       | CASE WHEN m.player_symbol = 'o' THEN 128 ELSE 0 END
+               ),
+               ''::bytea
+               ORDER BY m.move_order
+           ) AS move_log
+    FROM public.moves m
+    JOIN public.games g2 ON g2.id = m.game_id
+    GROUP BY m.game_id
+) l
+WHERE l.game_id = g.id;
+
+COMMENT ON COLUMN public.games.move_log IS 'skompresowany log ruchów: jeden bajt na ruch (indeks pola, flaga player1, symbol) - źródło stanu planszy';
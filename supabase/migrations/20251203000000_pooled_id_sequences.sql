@@ -0,0 +1,16 @@
+-- ==============================================================================
+-- migration: pooled_id_sequences
+-- ==============================================================================
+-- purpose: umożliwia batchowanie insertów gier i ruchów przez Hibernate
+-- affected tables: games, moves
+-- affected schemas: public
+-- 
+-- szczegóły:
+-- - encje Game i Move używają generatora SEQUENCE z optymalizatorem pooled (allocationSize = 50)
+-- - przy IDENTITY Hibernate musi wykonać insert natychmiast, aby poznać id, co wyłącza batchowanie JDBC
+-- - krok sekwencji musi być równy allocationSize, inaczej Hibernate odmówi startu
+-- - kolumny id zachowują domyślne nextval(), więc inserty wykonywane z poziomu sql nadal działają
+-- ==============================================================================
+
+ALTER SEQUENCE public.games_id_seq INCREMENT BY 50;
+ALTER SEQUENCE public.moves_id_seq INCREMENT BY 50;
@@ -0,0 +1,139 @@
+-- ==============================================================================
+-- migration: create_games_archive
+-- ==============================================================================
+-- purpose: archiwizacja zakończonych gier do tabel partycjonowanych miesięcznie
+-- affected tables: games, moves, games_archive, moves_archive
+-- affected schemas: public
+-- 
+-- szczegóły:
+-- - tabele games i moves zostają bez partycjonowania (klucze obce users/moves -> games wymagają unikalnego id),
+--   ale trzymają tylko gry aktywne i świeżo zakończone, więc gorące zapytania działają na małym zbiorze
+-- - games_archive i moves_archive są partycjonowane zakresowo po created_at (jedna partycja na miesiąc)
+-- - partycje tworzone są na żądanie przez ensure_archive_partition podczas archiwizacji
+-- - archive_finished_games przenosi paczkę gier finished/abandoned/draw starszych niż zadany interwał
+--   razem z ruchami i zwraca liczbę przeniesionych gier; wywoływana cyklicznie przez backend
+-- - stan planszy zarchiwizowanej gry jest w skompresowanym move_log, więc odczyt nie wymaga moves_archive
+-- ==============================================================================
+
+CREATE TABLE IF NOT EXISTS public.games_archive (
+    id bigint NOT NULL,
+    game_type varchar(20) NOT NULL,
+    board_size smallint NOT NULL,
+    player1_id bigint NOT NULL REFERENCES public.users(id) ON DELETE CASCADE,
+    player2_id bigint REFERENCES public.users(id) ON DELETE CASCADE,
+    bot_difficulty varchar(20),
+    status varchar(20) NOT NULL,
+    current_player_symbol varchar(10),
+    winner_id bigint REFERENCES public.users(id) ON DELETE SET NULL,
+    last_move_at timestamp with time zone,
+    created_at timestamp with time zone NOT NULL,
+    updated_at timestamp with time zone NOT NULL,
+    finished_at timestamp with time zone,
+    next_move_order smallint NOT NULL,
+    move_log bytea NOT NULL,
+    archived_at timestamp with time zone NOT NULL DEFAULT now(),
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE INDEX IF NOT EXISTS idx_games_archive_player1_id ON public.games_archive (player1_id);
+CREATE INDEX IF NOT EXISTS idx_games_archive_player2_id ON public.games_archive (player2_id) WHERE player2_id IS NOT NULL;
+
+COMMENT ON TABLE public.games_archive IS 'archiwum zakończonych gier - partycje miesięczne po created_at';
+
+CREATE TABLE IF NOT EXISTS public.moves_archive (
+    id bigint NOT NULL,
+    game_id bigint NOT NULL,
+    player_id bigint REFERENCES public.users(id) ON DELETE SET NULL,
+    row smallint NOT NULL,
+    col smallint NOT NULL,
+    player_symbol varchar(10) NOT NULL,
+    move_order smallint NOT NULL,
+    created_at timestamp with time zone NOT NULL,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE INDEX IF NOT EXISTS idx_moves_archive_game_id_move_order ON public.moves_archive (game_id, move_order);
+
+COMMENT ON TABLE public.moves_archive IS 'archiwum ruchów zakończonych gier - partycje miesięczne po created_at';
+
+CREATE INDEX IF NOT EXISTS idx_games_finished_at_terminal ON public.games (finished_at)
+    WHERE status IN ('finished', 'abandoned', 'draw');
+
+CREATE OR REPLACE FUNCTION public.ensure_archive_partition(p_parent text, p_month date)
+RETURNS void
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    v_start date := date_trunc('month', p_month)::date;
+    v_end date := (date_trunc('month', p_month) + interval '1 month')::date;
+BEGIN
+    EXECUTE format(
+        'CREATE TABLE IF NOT EXISTS public.%I PARTITION OF public.%I FOR VALUES FROM (%L) TO (%L)',
+        p_parent || '_' || to_char(v_start, 'YYYYMM'),
+        p_parent,
+        v_start,
+        v_end
+    );
+END;
+$$;
+
+COMMENT ON FUNCTION public.ensure_archive_partition(text, date) IS 'tworzy miesięczną partycję tabeli archiwum, jeśli jeszcze nie istnieje';
+
+CREATE OR REPLACE FUNCTION public.archive_finished_games(p_older_than interval, p_batch_size integer)
+RETURNS integer
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    v_game_ids bigint[];
+    v_month date;
+    v_archived integer;
+BEGIN
+    SELECT array_agg(id) INTO v_game_ids
+    FROM (
+        SELECT id
+        FROM public.games
+        WHERE status IN ('finished', 'abandoned', 'draw')
+          AND finished_at < now() - p_older_than
+        ORDER BY finished_at
+        LIMIT p_batch_size
+        FOR UPDATE SKIP LOCKED
+    ) batch;
+
+    IF v_game_ids IS NULL THEN
+        RETURN 0;
+    END IF;
+
+    FOR v_month IN
+        SELECT date_trunc('month', created_at)::date FROM public.games WHERE id = ANY (v_game_ids)
+        UNION
+        SELECT date_trunc('month', created_at)::date FROM public.moves WHERE game_id = ANY (v_game_ids)
+    LOOP
+        PERFORM public.ensure_archive_partition('games_archive', v_month);
+        PERFORM public.ensure_archive_partition('moves_archive', v_month);
+    END LOOP;
+
+    INSERT INTO public.games_archive (
+        id, game_type, board_size, player1_id, player2_id, bot_difficulty, status, current_player_symbol,
+        winner_id, last_move_at, created_at, updated_at, finished_at, next_move_order, move_log
+    )
+    SELECT id, game_type, board_size, player1_id, player2_id, bot_difficulty, status, current_player_symbol,
+           winner_id, last_move_at, created_at, updated_at, finished_at, next_move_order, move_log
+    FROM public.games
+    WHERE id = ANY (v_game_ids);
+
+    INSERT INTO public.moves_archive (id, game_id, player_id, row, col, player_symbol, move_order, created_at)
+    SELECT id, game_id, player_id, row, col, player_symbol, move_order, created_at
+    FROM public.moves
+    WHERE game_id = ANY (v_game_ids);
+
+    DELETE FROM public.games WHERE id = ANY (v_game_ids);
+    GET DIAGNOSTICS v_archived = ROW_COUNT;
+
+    RETURN v_archived;
+END;
+$$;
+
+COMMENT ON FUNCTION public.archive_finished_games(interval, integer) IS 'przenosi paczkę zakończonych gier (wraz z ruchami) do tabel archiwum i zwraca ich liczbę';
+
+ALTER TABLE public.games_archive DISABLE ROW LEVEL SECURITY;
+ALTER TABLE public.moves_archive DISABLE ROW LEVEL SECURITY;
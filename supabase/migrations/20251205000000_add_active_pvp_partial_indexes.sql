@@ -0,0 +1,19 @@
+-- ==============================================================================
+-- migration: add_active_pvp_partial_indexes
+-- ==============================================================================
+-- purpose: przyspiesza sprawdzanie, czy użytkownik ma aktywną grę pvp
+-- affected tables: games
+-- affected schemas: public
+-- 
+-- szczegóły:
+-- - matchmaking sprawdza aktywną grę pvp przy każdym dołączeniu do kolejki i przy każdym wyzwaniu
+-- - indeksy częściowe obejmują wyłącznie gry pvp w statusie waiting lub in_progress, więc pozostają małe
+-- - zapytanie korzysta z dwóch gałęzi (player1_id / player2_id) połączonych przez UNION ALL,
+--   dzięki czemu każda gałąź trafia w swój indeks zamiast skanować warunek OR
+-- ==============================================================================
+
+CREATE INDEX IF NOT EXISTS idx_games_active_pvp_player1_id ON public.games (player1_id)
+    WHERE game_type = 'pvp' AND status IN ('waiting', 'in_progress');
+
+CREATE INDEX IF NOT EXISTS idx_games_active_pvp_player2_id ON public.games (player2_id)
+    WHERE game_type = 'pvp' AND status IN ('waiting', 'in_progress');
@@ -0,0 +1,121 @@
+-- ==============================================================================
+-- migration: add_games_move_summary
+-- ==============================================================================
+-- purpose: denormalizuje liczbę ruchów i ostatni ruch do wiersza gry
+-- affected tables: games, games_archive
+-- affected schemas: public
+-- 
+-- szczegóły:
+-- - dodaje kolumny move_count, last_move_row, last_move_col, last_move_symbol
+-- - kolumny są aktualizowane w tej samej transakcji co zapis ruchu (razem z move_log i next_move_order)
+-- - lista gier i stan planszy czytają wyłącznie wiersz games, bez GROUP BY po tabeli moves
+-- - uzupełnia kolumny dla istniejących gier i gier w archiwum na podstawie tabel ruchów
+-- - archive_finished_games kopiuje nowe kolumny do archiwum
+-- ==============================================================================
+
+ALTER TABLE public.games
+    ADD COLUMN IF NOT EXISTS move_count smallint NOT NULL DEFAULT 0 CHECK (move_count >= 0),
+    ADD COLUMN IF NOT EXISTS last_move_row smallint,
+    ADD COLUMN IF NOT EXISTS last_move_col smallint,
+    ADD COLUMN IF NOT EXISTS last_move_symbol varchar(10) CHECK (last_move_symbol IN ('x', 'o'));
+
+ALTER TABLE public.games_archive
+    ADD COLUMN IF NOT EXISTS move_count smallint NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS last_move_row smallint,
+    ADD COLUMN IF NOT EXISTS last_move_col smallint,
+    ADD COLUMN IF NOT EXISTS last_move_symbol varchar(10);
+
+UPDATE public.games g
+SET move_count = s.move_count,
+    last_move_row = s.row,
+    last_move_col = s.col,
+    last_move_symbol = s.player_symbol
+FROM (
+    SELECT DISTINCT ON (m.game_id)
+           m.game_id,
+           m.row,
+           m.col,
+           m.player_symbol,
+           count(*) OVER (PARTITION BY m.game_id) AS move_count
+    FROM public.moves m
+    ORDER BY m.game_id, m.move_order DESC
+) s
+WHERE s.game_id = g.id;
+
+UPDATE public.games_archive g
+SET move_count = s.move_count,
+    last_move_row = s.row,
+    last_move_col = s.col,
+    last_move_symbol = s.player_symbol
+FROM (
+    SELECT DISTINCT ON (m.game_id)
+           m.game_id,
+           m.row,
+           m.col,
+           m.player_symbol,
+           count(*) OVER (PARTITION BY m.game_id) AS move_count
+    FROM public.moves_archive m
+    ORDER BY m.game_id, m.move_order DESC
+) s
+WHERE s.game_id = g.id;
+
+COMMENT ON COLUMN public.games.move_count IS 'liczba ruchów w grze - utrzymywana przy zapisie ruchu, aby lista gier nie liczyła wierszy moves';
+COMMENT ON COLUMN public.games.last_move_row IS 'wiersz ostatniego ruchu (null przed pierwszym ruchem)';
+COMMENT ON COLUMN public.games.last_move_col IS 'kolumna ostatniego ruchu (null przed pierwszym ruchem)';
+COMMENT ON COLUMN public.games.last_move_symbol IS 'symbol ostatniego ruchu (null przed pierwszym ruchem)';
+
+CREATE OR REPLACE FUNCTION public.archive_finished_games(p_older_than interval, p_batch_size integer)
+RETURNS integer
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    v_game_ids bigint[];
+    v_month date;
+    v_archived integer;
+BEGIN
+    SELECT array_agg(id) INTO v_game_ids
+    FROM (
+        SELECT id
+        FROM public.games
+        WHERE status IN ('finished', 'abandoned', 'draw')
+          AND finished_at < now() - p_older_than
+        ORDER BY finished_at
+        LIMIT p_batch_size
+        FOR UPDATE SKIP LOCKED
+    ) batch;
+
+    IF v_game_ids IS NULL THEN
+        RETURN 0;
+    END IF;
+
+    FOR v_month IN
+        SELECT date_trunc('month', created_at)::date FROM public.games WHERE id = ANY (v_game_ids)
+        UNION
+        SELECT date_trunc('month', created_at)::date FROM public.moves WHERE game_id = ANY (v_game_ids)
+    LOOP
+        PERFORM public.ensure_archive_partition('games_archive', v_month);
+        PERFORM public.ensure_archive_partition('moves_archive', v_month);
+    END LOOP;
+
+    INSERT INTO public.games_archive (
+        id, game_type, board_size, player1_id, player2_id, bot_difficulty, status, current_player_symbol,
+        winner_id, last_move_at, created_at, updated_at, finished_at, next_move_order, move_log,
+        move_count, last_move_row, last_move_col, last_move_symbol
+    )
+    SELECT id, game_type, board_size, player1_id, player2_id, bot_difficulty, status, current_player_symbol,
+           winner_id, last_move_at, created_at, updated_at, finished_at, next_move_order, move_log,
+           move_count, last_move_row, last_move_col, last_move_symbol
+    FROM public.games
+    WHERE id = ANY (v_game_ids);
+
+    INSERT INTO public.moves_archive (id, game_id, player_id, row, col, player_symbol, move_order, created_at)
+    SELECT id, game_id, player_id, row, col, player_symbol, move_order, created_at
+    FROM public.moves
+    WHERE game_id = ANY (v_game_ids);
+
+    DELETE FROM public.games WHERE id = ANY (v_game_ids);
+    GET DIAGNOSTICS v_archived = ROW_COUNT;
+
+    RETURN v_archived;
+END;
+$$;